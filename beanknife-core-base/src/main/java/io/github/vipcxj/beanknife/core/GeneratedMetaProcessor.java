@@ -2,9 +2,11 @@ package io.github.vipcxj.beanknife.core;
 
 import com.sun.source.util.Trees;
 import io.github.vipcxj.beanknife.core.models.ProcessorData;
+import io.github.vipcxj.beanknife.core.models.Profiler;
+import io.github.vipcxj.beanknife.core.models.ViewCache;
 import io.github.vipcxj.beanknife.core.models.ViewContext;
 import io.github.vipcxj.beanknife.core.models.ViewOfData;
-import io.github.vipcxj.beanknife.core.utils.JetbrainUtils;
+import io.github.vipcxj.beanknife.core.utils.ProcessingEnvUtils;
 import io.github.vipcxj.beanknife.core.utils.Utils;
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedMeta;
 
@@ -12,30 +14,55 @@ import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.*;
 import javax.lang.model.type.DeclaredType;
+import javax.tools.Diagnostic;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 @SupportedAnnotationTypes({"io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedMeta"})
+@SupportedOptions({ViewCache.OPTION_CACHE, ViewCache.OPTION_CACHE_DIR, GeneratedMetaProcessor.OPTION_PARALLELISM, Profiler.OPTION_PROFILE})
 public class GeneratedMetaProcessor extends AbstractProcessor {
 
+    /**
+     * The max number of the threads printing the views. By default, the views are printed in the javac thread.
+     */
+    public static final String OPTION_PARALLELISM = "beanknife.parallelism";
     private ProcessorData processorData;
+    private ViewCache viewCache;
+    private int parallelism;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
-        System.out.println("GeneratedMetaProcessor Init");
         super.init(processingEnv);
-        ProcessingEnvironment unwrappedProcessingEnv = JetbrainUtils.jbUnwrap(ProcessingEnvironment.class, this.processingEnv);
-        Trees trees = Trees.instance(unwrappedProcessingEnv);
-        this.processorData = new ProcessorData(trees, unwrappedProcessingEnv);
+        Trees trees = ProcessingEnvUtils.getTrees(this.processingEnv);
+        if (trees == null) {
+            this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.NOTE,
+                    "Unable to access the javac trees through " + this.processingEnv.getClass().getName() + ". The types not generated yet may not be resolved."
+            );
+        }
+        // Keep the environment of the build tool, so it can still track the generated files.
+        this.processorData = new ProcessorData(trees, this.processingEnv);
+        this.viewCache = new ViewCache(this.processingEnv);
+        this.parallelism = readParallelism(this.processingEnv);
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         try {
+            if (roundEnv.processingOver()) {
+                this.viewCache.report(processingEnv.getMessager());
+                this.processorData.getProfiler().report(processingEnv.getFiler(), processingEnv.getMessager());
+                return true;
+            }
+            Profiler profiler = this.processorData.getProfiler();
+            profiler.nextRound();
+            long start = profiler.start();
             this.processorData.clearViewContextMap();
             this.processorData.collect(roundEnv);
+            List<ViewOfData> viewOfDataList = new ArrayList<>();
             for (TypeElement annotation : annotations) {
                 // this.processorData.fix(processingEnv);
                 Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(annotation);
@@ -50,13 +77,17 @@ public class GeneratedMetaProcessor extends AbstractProcessor {
                                 TypeElement proxyElement = (TypeElement) proxy.asElement();
                                 List<ViewOfData> viewOfs = this.processorData.getByConfigElement(proxyElement);
                                 for (ViewOfData viewOf : viewOfs) {
-                                    processViewOf(this.processorData, viewOf, targetElement);
+                                    if (viewOf.getTargetElement().equals(targetElement) && viewOf.getAccess() != null) {
+                                        viewOfDataList.add(viewOf);
+                                    }
                                 }
                             }
                         }
                     }
                 }
             }
+            profiler.record(Profiler.Phase.COLLECT, start);
+            writeViewFiles(viewOfDataList);
             return true;
         } catch (Throwable t) {
             Utils.logError(processingEnv, t);
@@ -64,17 +95,74 @@ public class GeneratedMetaProcessor extends AbstractProcessor {
         }
     }
 
-    private void processViewOf(ProcessorData processorData, ViewOfData viewOfData, TypeElement targetElement) {
-        if (viewOfData.getTargetElement().equals(targetElement)) {
-            ViewContext context = processorData.getViewContext(viewOfData);
+    /**
+     * Collect the views in the javac thread, print them maybe in parallel, then write them in the javac thread again,
+     * because the Filer is not thread-safe.
+     * Without parallelism, each view is printed into the Filer as soon as it is collected.
+     */
+    private void writeViewFiles(List<ViewOfData> viewOfDataList) {
+        Profiler profiler = processorData.getProfiler();
+        List<ViewContext> contexts = new ArrayList<>();
+        for (ViewOfData viewOfData : viewOfDataList) {
+            try {
+                long start = profiler.start();
+                boolean cached = viewCache.writeCachedViewFile(processorData, viewOfData);
+                record(viewOfData, Profiler.Phase.CACHE, start);
+                if (!cached) {
+                    start = profiler.start();
+                    ViewContext context = processorData.getViewContext(viewOfData);
+                    record(viewOfData, Profiler.Phase.RESOLVE, start);
+                    if (parallelism < 2) {
+                        start = profiler.start();
+                        viewCache.printViewFile(processorData, context);
+                        profiler.record(Profiler.Phase.RENDER, start);
+                    } else {
+                        contexts.add(context);
+                    }
+                }
+            } catch (IOException e) {
+                Utils.logError(processingEnv, e.getMessage());
+            }
+        }
+        if (contexts.isEmpty()) {
+            return;
+        }
+        long start = profiler.start();
+        List<String> sources = processorData.printViews(contexts, parallelism);
+        profiler.record(Profiler.Phase.RENDER, start);
+        for (int i = 0; i < contexts.size(); ++i) {
+            ViewContext context = contexts.get(i);
             try {
-                Utils.writeViewFile(context);
+                start = profiler.start();
+                viewCache.writeViewFile(processorData, context, sources.get(i));
+                record(context.getViewOf(), Profiler.Phase.WRITE, start);
             } catch (IOException e) {
                 Utils.logError(processingEnv, e.getMessage());
             }
         }
     }
 
+    private void record(ViewOfData viewOfData, Profiler.Phase phase, long start) {
+        Profiler profiler = processorData.getProfiler();
+        if (profiler.isEnabled()) {
+            profiler.record(phase, start);
+            profiler.recordView(processorData.getGenTypeName(viewOfData), phase, start);
+        }
+    }
+
+    private static int readParallelism(ProcessingEnvironment processingEnv) {
+        String parallelism = processingEnv.getOptions().get(OPTION_PARALLELISM);
+        if (parallelism == null || parallelism.isEmpty()) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(parallelism.trim());
+        } catch (NumberFormatException e) {
+            Utils.logWarn(processingEnv, "Invalid value of the option " + OPTION_PARALLELISM + ": " + parallelism + ", an integer is expected.");
+            return 1;
+        }
+    }
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latest();
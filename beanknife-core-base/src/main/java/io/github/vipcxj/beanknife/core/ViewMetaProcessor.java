@@ -1,10 +1,12 @@
 package io.github.vipcxj.beanknife.core;
 
 import com.sun.source.util.Trees;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import io.github.vipcxj.beanknife.core.models.MetaContext;
+import io.github.vipcxj.beanknife.core.models.RoundIndex;
 import io.github.vipcxj.beanknife.core.models.ViewMetaData;
 import io.github.vipcxj.beanknife.core.models.ViewOfData;
-import io.github.vipcxj.beanknife.core.utils.JetbrainUtils;
+import io.github.vipcxj.beanknife.core.utils.ProcessingEnvUtils;
 import io.github.vipcxj.beanknife.core.utils.Utils;
 import io.github.vipcxj.beanknife.runtime.annotations.ViewMeta;
 import io.github.vipcxj.beanknife.runtime.annotations.ViewMetas;
@@ -22,18 +24,20 @@ import java.util.*;
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
 public class ViewMetaProcessor extends AbstractProcessor {
 
+    @CheckForNull
     private Trees trees;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init(processingEnv);
-        ProcessingEnvironment unwrappedProcessingEnv = JetbrainUtils.jbUnwrap(ProcessingEnvironment.class, this.processingEnv);
-        this.trees = Trees.instance(unwrappedProcessingEnv);
+        this.trees = ProcessingEnvUtils.getTrees(this.processingEnv);
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         try {
+            // Only used in this round, so the javac model of the round is not retained.
+            RoundIndex roundIndex = new RoundIndex(processingEnv, roundEnv);
             for (TypeElement annotation : annotations) {
                 Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(annotation);
                 for (Element element : elements) {
@@ -44,7 +48,7 @@ public class ViewMetaProcessor extends AbstractProcessor {
                         for (AnnotationMirror annotationMirror : annotationMirrors) {
                             ViewMetaData viewMeta = ViewMetaData.read(processingEnv, annotationMirror, configElement);
                             TypeElement targetElement = viewMeta.getOf();
-                            TypeElement mostImportantViewMetaElement = getMostImportantViewMetaElement(roundEnv, targetElement);
+                            TypeElement mostImportantViewMetaElement = roundIndex.getMostImportantViewMetaElement(targetElement);
                             if (mostImportantViewMetaElement != null && !Objects.equals(configElement, mostImportantViewMetaElement)) {
                                 String genTypeName = Utils.extractGenTypeName(targetElement, viewMeta.getValue(), viewMeta.getPackageName(), "Meta");
                                 Utils.logWarn(
@@ -59,7 +63,7 @@ public class ViewMetaProcessor extends AbstractProcessor {
                                                 "\" has configured a similar meta class and has a higher priority.");
                                 continue;
                             }
-                            List<ViewOfData> viewOfDataList = Utils.collectViewOfs(processingEnv, roundEnv, targetElement);
+                            List<ViewOfData> viewOfDataList = roundIndex.getViewOfsByTarget(targetElement);
                             MetaContext context = new MetaContext(trees, processingEnv, viewMeta, viewOfDataList);
                             String genQualifiedName = context.getGenType().getQualifiedName();
                             if (!targetClassNames.contains(genQualifiedName)) {
@@ -87,55 +91,11 @@ public class ViewMetaProcessor extends AbstractProcessor {
 
     private void writeBuilderFile(MetaContext context) throws IOException {
         String metaClassName = context.getGenType().getQualifiedName();
-        TypeElement[] dependencies = Utils.calcDependencies(context.getViewMeta().getOf()).toArray(new TypeElement[0]);
+        Element[] dependencies = Utils.calcMetaDependencies(context.getViewMeta().getOf(), context.getViewMeta().getConfig(), context.getViewOfDataList());
         JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(metaClassName, dependencies);
         try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
             context.collectData();
             context.print(writer);
         }
     }
-
-    private TypeElement getMostImportantViewMetaElement(RoundEnvironment roundEnv, TypeElement targetElement) {
-        Set<? extends Element> candidates = roundEnv.getElementsAnnotatedWith(ViewMeta.class);
-        List<TypeElement> out = new ArrayList<>();
-        for (Element candidate : candidates) {
-            if (Utils.shouldIgnoredElement(candidate)) {
-                continue;
-            }
-            List<? extends AnnotationMirror> annotationMirrors = processingEnv.getElementUtils().getAllAnnotationMirrors(candidate);
-            for (AnnotationMirror annotationMirror : annotationMirrors) {
-                if (Utils.isThisAnnotation(annotationMirror, ViewMeta.class)) {
-                    if (Utils.isViewMetaTargetTo(processingEnv, annotationMirror, (TypeElement) candidate, targetElement)) {
-                        out.add((TypeElement) candidate);
-                        break;
-                    }
-                }
-            }
-        }
-        candidates = roundEnv.getElementsAnnotatedWith(ViewMetas.class);
-        for (Element candidate : candidates) {
-            if (Utils.shouldIgnoredElement(candidate)) {
-                continue;
-            }
-            List<? extends AnnotationMirror> annotationMirrors = processingEnv.getElementUtils().getAllAnnotationMirrors(candidate);
-            for (AnnotationMirror annotationMirror : annotationMirrors) {
-                if (Utils.isThisAnnotation(annotationMirror, ViewMetas.class)) {
-                    Map<? extends ExecutableElement, ? extends AnnotationValue> elementValuesWithDefaults = processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
-                    List<AnnotationMirror> viewMetas = Utils.getAnnotationElement(annotationMirror, elementValuesWithDefaults);
-                    for (AnnotationMirror viewMeta : viewMetas) {
-                        if (Utils.isViewMetaTargetTo(processingEnv, viewMeta, (TypeElement) candidate, targetElement)) {
-                            out.add((TypeElement) candidate);
-                            break;
-                        }
-                    }
-                }
-            }
-        }
-        if (!out.isEmpty()) {
-            out.sort(Comparator.comparing(e -> e.getQualifiedName().toString()));
-            return out.get(0);
-        } else {
-            return null;
-        }
-    }
 }
@@ -1,13 +1,13 @@
 package io.github.vipcxj.beanknife.core;
 
 import com.sun.source.util.Trees;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import io.github.vipcxj.beanknife.core.models.MetaContext;
+import io.github.vipcxj.beanknife.core.models.RoundIndex;
 import io.github.vipcxj.beanknife.core.models.ViewMetaData;
 import io.github.vipcxj.beanknife.core.models.ViewOfData;
-import io.github.vipcxj.beanknife.core.utils.JetbrainUtils;
+import io.github.vipcxj.beanknife.core.utils.ProcessingEnvUtils;
 import io.github.vipcxj.beanknife.core.utils.Utils;
-import io.github.vipcxj.beanknife.runtime.annotations.ViewMeta;
-import io.github.vipcxj.beanknife.runtime.annotations.ViewMetas;
 import io.github.vipcxj.beanknife.runtime.annotations.ViewOf;
 import io.github.vipcxj.beanknife.runtime.annotations.ViewOfs;
 
@@ -24,19 +24,20 @@ import java.util.*;
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
 public class ViewOfProcessor extends AbstractProcessor {
 
+    @CheckForNull
     private Trees trees;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
-        System.out.println("ViewOfProcessor Init");
         super.init(processingEnv);
-        ProcessingEnvironment unwrappedProcessingEnv = JetbrainUtils.jbUnwrap(ProcessingEnvironment.class, this.processingEnv);
-        this.trees = Trees.instance(unwrappedProcessingEnv);
+        this.trees = ProcessingEnvUtils.getTrees(this.processingEnv);
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         try {
+            // Only used in this round, so the javac model of the round is not retained.
+            RoundIndex roundIndex = new RoundIndex(processingEnv, roundEnv);
             for (TypeElement annotation : annotations) {
                 Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(annotation);
                 for (Element element : elements) {
@@ -46,10 +47,10 @@ public class ViewOfProcessor extends AbstractProcessor {
                         Set<String> metaClassNames = new HashSet<>();
                         for (AnnotationMirror annotationMirror : annotationMirrors) {
                             ViewOfData viewOf = ViewOfData.read(processingEnv, annotationMirror, typeElement);
-                            if (hasMeta(roundEnv, viewOf.getTargetElement())) {
+                            if (roundIndex.hasViewMeta(viewOf.getTargetElement())) {
                                 continue;
                             }
-                            List<ViewOfData> viewOfDataList = Utils.collectViewOfs(processingEnv, roundEnv, viewOf.getTargetElement());
+                            List<ViewOfData> viewOfDataList = roundIndex.getViewOfsByTarget(viewOf.getTargetElement());
                             TypeElement mostImportantViewConfigElement = getMostImportantViewConfigElement(viewOfDataList);
                             if (Objects.equals(typeElement, mostImportantViewConfigElement)) {
                                 ViewMetaData viewMetaData = new ViewMetaData("", "", viewOf.getTargetElement(), viewOf.getTargetElement());
@@ -58,9 +59,8 @@ public class ViewOfProcessor extends AbstractProcessor {
                                 if (!metaClassNames.contains(metaClassName)) {
                                     metaClassNames.add(metaClassName);
                                     try {
-                                        List<TypeElement> dependencies = Utils.calcDependencies(viewOf.getTargetElement());
-                                        dependencies.add(typeElement);
-                                        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(metaClassName, dependencies.toArray(new Element[0]));
+                                        Element[] dependencies = Utils.calcMetaDependencies(viewOf.getTargetElement(), typeElement, viewOfDataList);
+                                        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(metaClassName, dependencies);
                                         try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
                                             metaContext.collectData();
                                             metaContext.print(writer);
@@ -82,42 +82,6 @@ public class ViewOfProcessor extends AbstractProcessor {
         return false;
     }
 
-    private boolean hasMeta(RoundEnvironment roundEnv, TypeElement targetElement) {
-        Set<? extends Element> candidates = roundEnv.getElementsAnnotatedWith(ViewMeta.class);
-        for (Element candidate : candidates) {
-            if (Utils.shouldIgnoredElement(candidate)) {
-                continue;
-            }
-            List<? extends AnnotationMirror> annotationMirrors = processingEnv.getElementUtils().getAllAnnotationMirrors(candidate);
-            for (AnnotationMirror annotationMirror : annotationMirrors) {
-                if (Utils.isThisAnnotation(annotationMirror, ViewMeta.class)) {
-                    if (Utils.isViewMetaTargetTo(processingEnv, annotationMirror, (TypeElement) candidate, targetElement)) {
-                        return true;
-                    }
-                }
-            }
-        }
-        candidates = roundEnv.getElementsAnnotatedWith(ViewMetas.class);
-        for (Element candidate : candidates) {
-            if (Utils.shouldIgnoredElement(candidate)) {
-                continue;
-            }
-            List<? extends AnnotationMirror> annotationMirrors = processingEnv.getElementUtils().getAllAnnotationMirrors(candidate);
-            for (AnnotationMirror annotationMirror : annotationMirrors) {
-                if (Utils.isThisAnnotation(annotationMirror, ViewMetas.class)) {
-                    Map<? extends ExecutableElement, ? extends AnnotationValue> elementValuesWithDefaults = processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
-                    List<AnnotationMirror> viewMetas = Utils.getAnnotationElement(annotationMirror, elementValuesWithDefaults);
-                    for (AnnotationMirror viewMeta : viewMetas) {
-                        if (Utils.isViewMetaTargetTo(processingEnv, viewMeta, (TypeElement) candidate, targetElement)) {
-                            return true;
-                        }
-                    }
-                }
-            }
-        }
-        return false;
-    }
-
     private TypeElement getMostImportantViewConfigElement(List<ViewOfData> viewOfDataList) {
         return viewOfDataList.stream().map(ViewOfData::getConfigElement).max(Comparator.comparing(e -> e.getQualifiedName().toString())).orElse(null);
     }
@@ -0,0 +1,233 @@
+package io.github.vipcxj.beanknife.core.models;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.github.vipcxj.beanknife.core.utils.ParamInfo;
+import io.github.vipcxj.beanknife.core.utils.VarMapper;
+import io.github.vipcxj.beanknife.runtime.annotations.BatchViewProperty;
+import io.github.vipcxj.beanknife.runtime.annotations.ExtraParam;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Types;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The extractor of the property method annotated by {@link BatchViewProperty}.
+ * The method accepts a list of sources and returns the map from the source to the property value,
+ * so the readers are able to extract the property of many sources by one call.
+ */
+public class BatchMethodExtractor implements Extractor {
+
+    @NonNull
+    private final ViewContext context;
+    @CheckForNull
+    private final Type container;
+    @NonNull
+    private final ExecutableElement executableElement;
+    @NonNull
+    private final String propertyName;
+    @NonNull
+    private final Type mapType;
+    @NonNull
+    private final Type returnType;
+    private final List<ParamInfo> paramInfoList;
+    // Resolved here, so the method can be invoked by the printers without touching the javac model.
+    private final boolean staticMethod;
+    @NonNull
+    private final String methodName;
+
+    public BatchMethodExtractor(@NonNull ViewContext context, @NonNull ExecutableElement executableElement, @NonNull String propertyName) {
+        this.context = context;
+        this.container = Type.extract(context, context.getViewOf().getConfigElement());
+        this.executableElement = executableElement;
+        this.propertyName = propertyName;
+        Type type = Type.extract(context, executableElement);
+        if (type == null) {
+            context.error("Failed to resolve the return type of batch property method" + executableElement.getSimpleName() + ".");
+            this.mapType = Type.extract(context, Object.class);
+        } else {
+            this.mapType = type;
+        }
+        if (this.mapType.isType(Map.class) && this.mapType.getParameters().size() == 2) {
+            this.returnType = this.mapType.getParameters().get(1);
+        } else {
+            this.returnType = Type.extract(context, Object.class);
+        }
+        this.paramInfoList = collectParamInfoList(context, executableElement);
+        this.staticMethod = executableElement.getModifiers().contains(Modifier.STATIC);
+        this.methodName = executableElement.getSimpleName().toString();
+    }
+
+    private static List<ParamInfo> collectParamInfoList(@NonNull ViewContext context, @NonNull ExecutableElement executableElement) {
+        List<ParamInfo> paramInfoList = new ArrayList<>();
+        for (VariableElement parameter : executableElement.getParameters()) {
+            ExtraParam extraParam = parameter.getAnnotation(ExtraParam.class);
+            if (extraParam != null) {
+                paramInfoList.add(ParamInfo.extraParam(parameter, extraParam.value()));
+            } else if (isSourcesParam(context, parameter)) {
+                paramInfoList.add(ParamInfo.sourceParam(parameter));
+            } else {
+                paramInfoList.add(ParamInfo.unknown(parameter));
+            }
+        }
+        return paramInfoList;
+    }
+
+    private static boolean isSourcesParam(@NonNull ViewContext context, @NonNull VariableElement parameter) {
+        Types typeUtils = context.getProcessingEnv().getTypeUtils();
+        TypeElement listElement = context.getProcessingEnv().getElementUtils().getTypeElement(List.class.getCanonicalName());
+        TypeMirror sourcesTypeMirror = typeUtils.getDeclaredType(listElement, context.getViewOf().getTargetElement().asType());
+        return typeUtils.isAssignable(sourcesTypeMirror, parameter.asType());
+    }
+
+    private boolean isSourceKey() {
+        TypeMirror returnTypeMirror = executableElement.getReturnType();
+        if (returnTypeMirror.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) returnTypeMirror).getTypeArguments();
+        if (typeArguments.size() != 2) {
+            return false;
+        }
+        TypeMirror keyType = typeArguments.get(0);
+        if (keyType.getKind() == TypeKind.WILDCARD) {
+            WildcardType wildcardType = (WildcardType) keyType;
+            keyType = wildcardType.getExtendsBound() != null ? wildcardType.getExtendsBound() : wildcardType.getSuperBound();
+            if (keyType == null) {
+                return true;
+            }
+        }
+        Types typeUtils = context.getProcessingEnv().getTypeUtils();
+        return typeUtils.isAssignable(context.getViewOf().getTargetElement().asType(), keyType);
+    }
+
+    @Override
+    public boolean check() {
+        if (container == null) {
+            context.error("Unable to resolve the type config element: " + context.getViewOf().getConfigElement().getQualifiedName());
+            return false;
+        }
+        Name name = executableElement.getSimpleName();
+        if (!executableElement.getTypeParameters().isEmpty()) {
+            context.error("The batch property method \"" + name + "\" should not be a generic method.");
+            return false;
+        }
+        if (!mapType.isType(Map.class) || mapType.getParameters().size() != 2) {
+            context.error("The batch property method \"" + name + "\" should return a Map from the source to the property value.");
+            return false;
+        }
+        if (!isSourceKey()) {
+            context.error("The key type of the map returned by the batch property method \"" + name + "\" should accept the source type " + context.getViewOf().getTargetElement().getQualifiedName() + ".");
+            return false;
+        }
+        if (paramInfoList.stream().filter(ParamInfo::isSource).count() != 1) {
+            context.error("There should be exactly one parameter accepting the list of the sources in the batch property method \"" + name + "\".");
+            return false;
+        }
+        if (paramInfoList.stream().anyMatch(ParamInfo::isUnknown)) {
+            String params = paramInfoList.stream().filter(ParamInfo::isUnknown).map(ParamInfo::getParameterName).collect(Collectors.joining(", "));
+            context.error("There are some unknown parameter in the batch property method \"" + name + "\": " + params + ". Only the list of the sources and the extra parameters are supported.");
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    @NonNull
+    public ViewContext getContext() {
+        return context;
+    }
+
+    @Override
+    @CheckForNull
+    public Type getContainer() {
+        return container;
+    }
+
+    @Override
+    @NonNull
+    public ExecutableElement getExecutableElement() {
+        return executableElement;
+    }
+
+    /**
+     * The property type, that is the value type of the returned map.
+     * @return the property type
+     */
+    @Override
+    @NonNull
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    @NonNull
+    public Type getMapType() {
+        return mapType;
+    }
+
+    @Override
+    public boolean isDynamic() {
+        return false;
+    }
+
+    public List<ParamInfo> getParamInfoList() {
+        return paramInfoList;
+    }
+
+    /**
+     * Get the variable holding the values extracted in batch in the read methods.
+     * @param varMapper the var mapper of the read method
+     * @return the variable name
+     */
+    @NonNull
+    public String getBatchVar(@NonNull VarMapper varMapper) {
+        return varMapper.getVar(this, propertyName + "Batch");
+    }
+
+    /**
+     * Print the invocation of the batch property method.
+     * @param writer the writer
+     * @param varMapper the var mapper of the read method
+     * @param sources the expression of the list of the sources
+     * @param requester the requester used to get the configure bean
+     * @param useConfigBeanVar whether the configure bean is available as a variable
+     */
+    public void print(@NonNull PrintWriter writer, @NonNull VarMapper varMapper, @NonNull String sources, @NonNull String requester, boolean useConfigBeanVar) {
+        if (container == null) {
+            throw new IllegalStateException("This is impossible!");
+        }
+        if (staticMethod) {
+            container.printType(writer, context, false, false);
+        } else {
+            context.printInitConfigureBean(writer, requester, useConfigBeanVar);
+        }
+        writer.print(".");
+        writer.print(methodName);
+        writer.print("(");
+        int i = 0;
+        for (ParamInfo paramInfo : paramInfoList) {
+            if (paramInfo.isSource()) {
+                writer.print(sources);
+            } else {
+                Object key = context.getExtraParams().get(paramInfo.getExtraParamName());
+                writer.print(varMapper.getVar(key, paramInfo.getExtraParamName()));
+            }
+            if (i++ != paramInfoList.size() - 1) {
+                writer.print(", ");
+            }
+        }
+        writer.print(")");
+    }
+}
@@ -11,6 +11,7 @@ import io.github.vipcxj.beanknife.core.utils.Utils;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
@@ -22,15 +23,17 @@ import java.util.stream.Collectors;
 public class Context {
 
     final static String INDENT = "    ";
+    private static final Object MODEL_LOCK = new Object();
 
     private final List<String> imports;
     private final Set<String> symbols;
     private final Map<Property, String> fields;
+    @CheckForNull
     protected final Trees trees;
     protected final ProcessingEnvironment processingEnv;
     protected final ProcessorData processorData;
     protected String packageName;
-    private final List<Property> properties;
+    private final PropertyTable properties;
     protected final Stack<Type> containers;
     protected final List<String> errors;
     private String configureBeanFieldVar;
@@ -38,14 +41,14 @@ public class Context {
     private boolean locked;
     private final Map<String, Object> subContexts;
 
-    public Context(@NonNull Trees trees, @NonNull ProcessingEnvironment processingEnv, ProcessorData processorData) {
+    public Context(@CheckForNull Trees trees, @NonNull ProcessingEnvironment processingEnv, ProcessorData processorData) {
         this.imports = new ArrayList<>();
         this.symbols = new HashSet<>();
         this.fields = new IdentityHashMap<>();
         this.trees = trees;
         this.processingEnv = processingEnv;
         this.processorData = processorData;
-        this.properties = new LinkedList<>();
+        this.properties = new PropertyTable();
         this.containers = new Stack<>();
         this.errors = new ArrayList<>();
         this.locked = false;
@@ -152,14 +155,12 @@ public class Context {
         }
         Elements elementUtils = processingEnv.getElementUtils();
         boolean done = false;
-        ListIterator<Property> iterator = properties.listIterator();
-        while (iterator.hasNext()) {
-            Property p = iterator.next();
+        // Only the properties with the same element name may hide or be hidden, and only the ones with the same getter name may conflict.
+        for (Map.Entry<Integer, Property> candidate : properties.getConflictCandidates(property)) {
+            int index = candidate.getKey();
+            Property p = candidate.getValue();
             if (elementUtils.hides(property.getElement(), p.getElement())) {
-                iterator.remove();
-                if (Utils.isNotObjectProperty(property)) {
-                    iterator.add(p.overrideBy(property));
-                }
+                replaceProperty(index, p, property);
                 done = true;
                 break;
             } else if (elementUtils.hides(p.getElement(), property.getElement())) {
@@ -167,10 +168,7 @@ public class Context {
                 break;
             } else if (p.getGetterName().equals(property.getGetterName())) {
                 if (override || (!p.isMethod() && property.isMethod())) {
-                    iterator.remove();
-                    if (Utils.isNotObjectProperty(property)) {
-                        iterator.add(p.overrideBy(property));
-                    }
+                    replaceProperty(index, p, property);
                 } else if (p.isMethod() == property.isMethod()) {
                     Element ownerP = p.getElement().getEnclosingElement();
                     Element ownerProperty = property.getElement().getEnclosingElement();
@@ -192,6 +190,14 @@ public class Context {
         }
     }
 
+    private void replaceProperty(int index, Property old, Property property) {
+        if (Utils.isNotObjectProperty(property)) {
+            properties.set(index, old.overrideBy(property));
+        } else {
+            properties.remove(index);
+        }
+    }
+
     public String getConfigureBeanFieldVar() {
         return configureBeanFieldVar;
     }
@@ -214,7 +220,7 @@ public class Context {
         locked = true;
     }
 
-    private String calcNewVar(String varName, String... otherVars) {
+    protected String calcNewVar(String varName, String... otherVars) {
         for (Property property : properties) {
             String fieldName = getMappedFieldName(property);
             if (Objects.equals(fieldName, varName)) {
@@ -243,6 +249,10 @@ public class Context {
         return methodName;
     }
 
+    public boolean hasSymbol(String symbol) {
+        return symbols.contains(symbol);
+    }
+
     public boolean hasImport(String importedName) {
         return imports.contains(importedName);
     }
@@ -295,24 +305,29 @@ public class Context {
         return packageName;
     }
 
-    public List<Property> getProperties() {
+    public PropertyTable getProperties() {
         return properties;
     }
 
     @CheckForNull
     public Property getProperty(String name) {
-        for (Property property : properties) {
-            if (property.getName().equals(name)) {
-                return property;
-            }
-        }
-        return null;
+        return properties.getByName(name);
+    }
+
+    @NonNull
+    public List<String> getErrors() {
+        return errors;
     }
 
     public ProcessingEnvironment getProcessingEnv() {
         return processingEnv;
     }
 
+    /**
+     * Get the javac trees.
+     * @return the trees, or null if the build tool hides the javac environment.
+     */
+    @CheckForNull
     public Trees getTrees() {
         return trees;
     }
@@ -334,6 +349,9 @@ public class Context {
     }
 
     private Type tryGetTypeMirror(CompilationUnitTree compilationUnit, Tree tree) {
+        if (trees == null) {
+            return null;
+        }
         TreePath path = trees.getPath(compilationUnit, tree);
         TypeMirror typeMirror = trees.getTypeMirror(path);
         if (
@@ -422,7 +440,49 @@ public class Context {
 
     public void error(@NonNull String message) {
         errors.add(message);
-        Utils.logWarn(getProcessingEnv(), message);
+        runWithModel(() -> Utils.logWarn(getProcessingEnv(), message));
+    }
+
+    /**
+     * Access the javac model holding the model lock.
+     * The views may be printed by several threads, but the javac model (elements, types, trees and the messager) is not thread-safe,
+     * so the printing code must access it only through this method or {@link #runWithModel(Runnable)}.
+     * @param action the action accessing the javac model
+     * @param <T> the result type
+     * @return the result of the action
+     */
+    public static <T> T withModel(@NonNull Supplier<T> action) {
+        synchronized (MODEL_LOCK) {
+            return action.get();
+        }
+    }
+
+    /**
+     * Access the javac model holding the model lock.
+     * @see #withModel(Supplier)
+     * @param action the action accessing the javac model
+     */
+    public static void runWithModel(@NonNull Runnable action) {
+        synchronized (MODEL_LOCK) {
+            action.run();
+        }
+    }
+
+    /**
+     * Get the interned type of the class extracted before in the current round.
+     * The types are only interned when the context belongs to a {@link ProcessorData}.
+     * @param typeElement the class element
+     * @return the interned type or null
+     */
+    @CheckForNull
+    Type getInternedType(@NonNull TypeElement typeElement) {
+        return processorData != null ? processorData.getInternedType(typeElement) : null;
+    }
+
+    void internType(@NonNull TypeElement typeElement, @NonNull Type type) {
+        if (processorData != null) {
+            processorData.internType(typeElement, type);
+        }
     }
 
     public boolean isViewType(Type type) {
@@ -0,0 +1,285 @@
+package io.github.vipcxj.beanknife.core.models;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.github.vipcxj.beanknife.core.utils.Utils;
+import io.github.vipcxj.beanknife.runtime.PropertyConverter;
+import io.github.vipcxj.beanknife.runtime.annotations.UsePropertyConverter;
+import io.github.vipcxj.beanknife.runtime.annotations.UsePropertyConverters;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.lang.annotation.Annotation;
+import java.util.*;
+
+/**
+ * The round-scoped registry of the property converters configured by {@link UsePropertyConverter}.
+ * The converters of a member are read, validated and resolved to their from type and to type only once,
+ * and the best matches are indexed by the member and the property types,
+ * so the views sharing the same configuration do not walk the annotations and the type hierarchies again.
+ */
+public class ConverterRegistry {
+
+    private final ProcessingEnvironment processingEnv;
+    private final Map<TypeElement, ConverterInfo> converterInfos;
+    private final Map<Element, List<ConverterInfo>> memberConverters;
+    private final Map<MatchKey, List<ConverterInfo>> matches;
+
+    ConverterRegistry(@NonNull ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+        this.converterInfos = new HashMap<>();
+        this.memberConverters = new HashMap<>();
+        this.matches = new HashMap<>();
+    }
+
+    void clear() {
+        converterInfos.clear();
+        memberConverters.clear();
+        matches.clear();
+    }
+
+    /**
+     * Get the converters configured on the member, in the order of the annotations.
+     * @param member the member
+     * @return the converters
+     */
+    @NonNull
+    public List<ConverterInfo> getConverters(@NonNull Element member) {
+        List<ConverterInfo> converters = memberConverters.get(member);
+        if (converters == null) {
+            Elements elementUtils = processingEnv.getElementUtils();
+            Map<TypeElement, ConverterInfo> out = new LinkedHashMap<>();
+            Set<TypeElement> notShared = new HashSet<>();
+            for (AnnotationMirror annotation : Utils.getAnnotationsOn(elementUtils, member, UsePropertyConverter.class, UsePropertyConverters.class)) {
+                Map<? extends ExecutableElement, ? extends AnnotationValue> attributes = elementUtils.getElementValuesWithDefaults(annotation);
+                TypeElement converterElement = Utils.toElement(Utils.getTypeAnnotationValue(annotation, attributes, "value"));
+                out.putIfAbsent(converterElement, getConverterInfo(converterElement));
+                if (!Utils.getBooleanAnnotationValue(annotation, attributes, "shared")) {
+                    notShared.add(converterElement);
+                }
+            }
+            converters = new ArrayList<>();
+            for (ConverterInfo info : out.values()) {
+                converters.add(notShared.contains(info.getElement()) ? info.notShared() : info);
+            }
+            memberConverters.put(member, converters);
+        }
+        return converters;
+    }
+
+    /**
+     * Get the valid converters of the member with the best score converting the from type to the to type.
+     * @param member the member configuring the converters
+     * @param toType the type converted to
+     * @param fromType the type converted from
+     * @return the converters with the best score. More than one means ambiguous.
+     */
+    @NonNull
+    public List<ConverterInfo> findBestConverters(@NonNull Element member, @NonNull TypeMirror toType, @NonNull TypeMirror fromType) {
+        // The type arguments take part in the score, so the key keeps the full types instead of the erasures.
+        MatchKey key = new MatchKey(member, toType.toString(), fromType.toString());
+        List<ConverterInfo> results = matches.get(key);
+        if (results == null) {
+            results = new ArrayList<>();
+            int score = -1;
+            for (ConverterInfo converter : getConverters(member)) {
+                if (converter.getInvalidReason() != null) {
+                    continue;
+                }
+                int theScore = calcConverterScore(converter, toType, fromType);
+                if (theScore >= 0 && (score == -1 || score >= theScore)) {
+                    score = theScore;
+                    results.clear();
+                    results.add(converter);
+                }
+            }
+            matches.put(key, results);
+        }
+        return results;
+    }
+
+    @NonNull
+    private ConverterInfo getConverterInfo(@NonNull TypeElement converterElement) {
+        ConverterInfo info = converterInfos.get(converterElement);
+        if (info == null) {
+            info = createConverterInfo(converterElement);
+            converterInfos.put(converterElement, info);
+        }
+        return info;
+    }
+
+    @NonNull
+    private ConverterInfo createConverterInfo(@NonNull TypeElement converterElement) {
+        if (!converterElement.getTypeParameters().isEmpty()) {
+            return new ConverterInfo(converterElement, null, null, "The property converter must make sure the from type and to type. So it can not be a generic type. The invalid converter: " + converterElement.getQualifiedName() + ".", true);
+        }
+        if (converterElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return new ConverterInfo(converterElement, null, null, "The property converter should be instantiable. So it can not be abstract. The invalid converter: " + converterElement.getQualifiedName() + ".", true);
+        }
+        if (!Utils.hasEmptyConstructor(processingEnv, converterElement)) {
+            return new ConverterInfo(converterElement, null, null, "The property converter should be instantiable. So it should has a empty constructor. The invalid converter: " + converterElement.getQualifiedName() + ".", true);
+        }
+        DeclaredType realConverter = Utils.findSuperType(Utils.toType(converterElement), PropertyConverter.class);
+        if (realConverter == null) {
+            throw new IllegalArgumentException("This is impossible.");
+        }
+        List<? extends TypeMirror> typeArguments = realConverter.getTypeArguments();
+        return new ConverterInfo(converterElement, typeArguments.get(0), typeArguments.get(1), null, true);
+    }
+
+    private int calcConverterScore(@NonNull ConverterInfo converter, @NonNull TypeMirror toType, @NonNull TypeMirror fromType) {
+        Types typeUtils = processingEnv.getTypeUtils();
+        TypeMirror converterFromType = converter.getFromType();
+        TypeMirror converterToType = converter.getToType();
+        if (!typeUtils.isAssignable(fromType, converterFromType) || !typeUtils.isAssignable(converterToType, toType)) {
+            return -1;
+        }
+        return calcTypeAssignScore(converterFromType, fromType) + calcTypeAssignScore(toType, converterToType);
+    }
+
+    private int calcTypeAssignScore(DeclaredType beAssigned, DeclaredType toAssign) {
+        if (processingEnv.getTypeUtils().isSameType(beAssigned, toAssign)) {
+            return 0;
+        }
+        TypeElement beAssignedElement = (TypeElement) beAssigned.asElement();
+        TypeElement toAssignElement = (TypeElement) toAssign.asElement();
+        boolean beAssignedIsInterface = beAssignedElement.getKind() == ElementKind.INTERFACE;
+        boolean beAssignedIsAnnotation = Utils.isThisTypeElement(beAssignedElement, Annotation.class);
+        boolean beAssignedIsEnum = Utils.isThisTypeElement(beAssignedElement, Enum.class);
+        boolean toAssignIsAnnotation = toAssignElement.getKind() == ElementKind.ANNOTATION_TYPE;
+        boolean toAssignIsClass = toAssignElement.getKind() == ElementKind.CLASS;
+        boolean toAssignIsEnum = toAssignElement.getKind() == ElementKind.ENUM;
+        int score = -1;
+        if (
+                beAssignedElement.getKind() == toAssignElement.getKind()
+                || (beAssignedIsInterface && toAssignIsClass)
+                || (beAssignedIsAnnotation && toAssignIsAnnotation)
+                || (beAssignedIsEnum && toAssignIsEnum)
+        ) {
+            if (beAssignedIsInterface) {
+                for (TypeMirror anInterface : toAssignElement.getInterfaces()) {
+                    int parentScore = calcTypeAssignScore(beAssigned, (DeclaredType) anInterface);
+                    if (parentScore >= 0 && (score == -1 || score > parentScore + 1)) {
+                        score = parentScore + 1;
+                    }
+                }
+            }
+            if (beAssignedIsAnnotation && toAssignIsAnnotation) {
+                score = 1;
+            }
+            if (toAssignIsClass) {
+                TypeMirror superClass = toAssignElement.getSuperclass();
+                if (superClass.getKind() != TypeKind.NONE) {
+                    int parentScore = calcTypeAssignScore(beAssigned, (DeclaredType) superClass);
+                    if (parentScore >= 0 && (score == -1 || score > parentScore + 1)) {
+                        score = parentScore + 1;
+                    }
+                }
+            }
+            if (beAssignedIsEnum && toAssignIsEnum) {
+                score = 1;
+            }
+        }
+        return score;
+    }
+
+    // let beAssigned := toAssign
+    private int calcTypeAssignScore(TypeMirror beAssigned, TypeMirror toAssign) {
+        Types typeUtils = processingEnv.getTypeUtils();
+        if (!typeUtils.isAssignable(toAssign, beAssigned)) {
+            return -1;
+        }
+        if (beAssigned.getKind() == TypeKind.ARRAY) {
+            ArrayType beAssignedArrayType = (ArrayType) beAssigned;
+            ArrayType toAssignArrayType = (ArrayType) toAssign;
+            return calcTypeAssignScore(beAssignedArrayType.getComponentType(), toAssignArrayType.getComponentType());
+        } else if (beAssigned.getKind().isPrimitive()) {
+            return typeUtils.isSameType(beAssigned, toAssign) ? 0 : 1;
+        } else if (beAssigned.getKind() == TypeKind.DECLARED) {
+            return calcTypeAssignScore((DeclaredType) beAssigned, (DeclaredType) toAssign);
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * The validated metadata of a property converter.
+     */
+    public static class ConverterInfo {
+        private final TypeElement element;
+        private final TypeMirror fromType;
+        private final TypeMirror toType;
+        private final String invalidReason;
+        private final boolean shared;
+
+        private ConverterInfo(@NonNull TypeElement element, TypeMirror fromType, TypeMirror toType, String invalidReason, boolean shared) {
+            this.element = element;
+            this.fromType = fromType;
+            this.toType = toType;
+            this.invalidReason = invalidReason;
+            this.shared = shared;
+        }
+
+        private ConverterInfo notShared() {
+            return new ConverterInfo(element, fromType, toType, invalidReason, false);
+        }
+
+        @NonNull
+        public TypeElement getElement() {
+            return element;
+        }
+
+        public TypeMirror getFromType() {
+            return fromType;
+        }
+
+        public TypeMirror getToType() {
+            return toType;
+        }
+
+        /**
+         * Get the reason why the converter is invalid.
+         * @return the error message or null if the converter is valid.
+         */
+        @CheckForNull
+        public String getInvalidReason() {
+            return invalidReason;
+        }
+
+        /**
+         * Whether the converter instance is shared by the view. It is not shared when any of its annotations on the member says not.
+         * @return true if shared
+         */
+        public boolean isShared() {
+            return shared;
+        }
+    }
+
+    private static class MatchKey {
+        private final Element member;
+        private final String toType;
+        private final String fromType;
+
+        private MatchKey(Element member, String toType, String fromType) {
+            this.member = member;
+            this.toType = toType;
+            this.fromType = fromType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            MatchKey matchKey = (MatchKey) o;
+            return member.equals(matchKey.member) && toType.equals(matchKey.toType) && fromType.equals(matchKey.fromType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(member, toType, fromType);
+        }
+    }
+}
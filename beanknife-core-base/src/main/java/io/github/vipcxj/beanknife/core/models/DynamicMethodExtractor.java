@@ -2,16 +2,22 @@ package io.github.vipcxj.beanknife.core.models;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import io.github.vipcxj.beanknife.core.utils.Utils;
+import io.github.vipcxj.beanknife.runtime.annotations.Dynamic;
 import io.github.vipcxj.beanknife.runtime.annotations.InjectProperty;
 import io.github.vipcxj.beanknife.runtime.annotations.InjectSelf;
 import io.github.vipcxj.beanknife.runtime.utils.CacheType;
+import io.github.vipcxj.beanknife.runtime.utils.DynamicCacheType;
 
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.Name;
 import javax.lang.model.element.VariableElement;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class DynamicMethodExtractor implements Extractor {
 
@@ -25,6 +31,14 @@ public class DynamicMethodExtractor implements Extractor {
     private final ExecutableElement executableElement;
     @NonNull
     private final Type returnType;
+    @NonNull
+    private final DynamicCacheType cacheType;
+    private final boolean staticMethod;
+    @NonNull
+    private final String methodName;
+    // The parameter bindings are resolved here, so the getters can be printed without touching the javac model.
+    @NonNull
+    private final List<ParamBinding> paramBindings;
 
     public DynamicMethodExtractor(@NonNull ViewContext context, @NonNull ExecutableElement executableElement, @NonNull Type viewType) {
         this.context = context;
@@ -38,6 +52,27 @@ public class DynamicMethodExtractor implements Extractor {
         } else {
             this.returnType = type;
         }
+        Dynamic dynamic = executableElement.getAnnotation(Dynamic.class);
+        this.cacheType = dynamic != null ? dynamic.cache() : DynamicCacheType.NONE;
+        this.staticMethod = executableElement.getModifiers().contains(Modifier.STATIC);
+        this.methodName = executableElement.getSimpleName().toString();
+        this.paramBindings = collectParamBindings(executableElement);
+    }
+
+    private static List<ParamBinding> collectParamBindings(@NonNull ExecutableElement executableElement) {
+        List<ParamBinding> bindings = new ArrayList<>();
+        for (VariableElement parameter : executableElement.getParameters()) {
+            InjectProperty injectProperty = parameter.getAnnotation(InjectProperty.class);
+            if (parameter.getAnnotation(InjectSelf.class) != null) {
+                bindings.add(new ParamBinding(true, null));
+            } else if (injectProperty != null) {
+                String propertyName = !injectProperty.value().isEmpty() ? injectProperty.value() : parameter.getSimpleName().toString();
+                bindings.add(new ParamBinding(false, propertyName));
+            } else {
+                bindings.add(new ParamBinding(false, null));
+            }
+        }
+        return bindings;
     }
 
     @Override
@@ -116,11 +151,101 @@ public class DynamicMethodExtractor implements Extractor {
         return true;
     }
 
+    @NonNull
+    public DynamicCacheType getCacheType() {
+        return cacheType;
+    }
+
+    public boolean isCached() {
+        return cacheType != DynamicCacheType.NONE;
+    }
+
+    /**
+     * Whether the value of this dynamic property depends on the given property,
+     * directly or through other dynamic properties injected to the method.
+     * @param property the property
+     * @return true if the method injects the property, another dynamic property depending on it, or the whole object.
+     */
+    public boolean dependsOn(@NonNull Property property) {
+        return dependsOn(property, new HashSet<>());
+    }
+
+    private boolean dependsOn(@NonNull Property property, @NonNull Set<DynamicMethodExtractor> visited) {
+        if (!visited.add(this)) {
+            return false;
+        }
+        for (ParamBinding binding : paramBindings) {
+            if (binding.self) {
+                return true;
+            }
+            String propertyName = binding.propertyName;
+            if (propertyName != null) {
+                if (propertyName.equals(property.getName())) {
+                    return true;
+                }
+                Property injected = context.getProperty(propertyName);
+                if (injected != null && injected.isDynamic() && ((DynamicMethodExtractor) injected.getExtractor()).dependsOn(property, visited)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Print the body of the getter which calculates the value on the first call and then returns the cached one.
+     * @param writer the writer
+     * @param property the dynamic property
+     * @param indent the indent
+     * @param indentNum the indent number of the statements in the body
+     */
+    public void printCachedGetterBody(@NonNull PrintWriter writer, @NonNull Property property, @NonNull String indent, int indentNum) {
+        String cacheVar = context.getDynamicCacheVar(property);
+        String flagVar = context.getDynamicCachedFlagVar(property);
+        boolean threadSafe = cacheType == DynamicCacheType.THREAD_SAFE;
+        Utils.printIndent(writer, indent, indentNum);
+        writer.print("if (!this.");
+        writer.print(flagVar);
+        writer.println(") {");
+        int bodyIndentNum = indentNum + 1;
+        if (threadSafe) {
+            Utils.printIndent(writer, indent, indentNum + 1);
+            writer.println("synchronized (this) {");
+            Utils.printIndent(writer, indent, indentNum + 2);
+            writer.print("if (!this.");
+            writer.print(flagVar);
+            writer.println(") {");
+            bodyIndentNum = indentNum + 3;
+        }
+        Utils.printIndent(writer, indent, bodyIndentNum);
+        writer.print("this.");
+        writer.print(cacheVar);
+        writer.print(" = ");
+        print(writer);
+        writer.println(";");
+        Utils.printIndent(writer, indent, bodyIndentNum);
+        writer.print("this.");
+        writer.print(flagVar);
+        writer.println(" = true;");
+        if (threadSafe) {
+            Utils.printIndent(writer, indent, indentNum + 2);
+            writer.println("}");
+            Utils.printIndent(writer, indent, indentNum + 1);
+            writer.println("}");
+        }
+        Utils.printIndent(writer, indent, indentNum);
+        writer.println("}");
+        Utils.printIndent(writer, indent, indentNum);
+        writer.print("return this.");
+        writer.print(cacheVar);
+        writer.println(";");
+    }
+
     private void printConfigBean(PrintWriter writer, @NonNull String requester) {
         if (getContainer() == null) {
             throw new IllegalStateException("This is impossible!");
         }
-        if (getExecutableElement().getModifiers().contains(Modifier.STATIC)) {
+        if (staticMethod) {
             getContainer().printType(writer, getContext(), false, false);
         } else {
             CacheType cacheType = getContext().getViewOf().getConfigureBeanCacheType();
@@ -137,18 +262,14 @@ public class DynamicMethodExtractor implements Extractor {
     public void print(PrintWriter writer) {
         printConfigBean(writer, "this");
         writer.print(".");
-        writer.print(executableElement.getSimpleName());
+        writer.print(methodName);
         writer.print("(");
         int i = 0;
-        List<? extends VariableElement> parameters = executableElement.getParameters();
-        for (VariableElement parameter : parameters) {
-            InjectSelf injectSelf = parameter.getAnnotation(InjectSelf.class);
-            InjectProperty injectProperty = parameter.getAnnotation(InjectProperty.class);
-            if (injectSelf != null) {
+        for (ParamBinding binding : paramBindings) {
+            if (binding.self) {
                 writer.print("this");
-            } else if (injectProperty != null){
-                String propertyName = !injectProperty.value().isEmpty() ? injectProperty.value() : parameter.getSimpleName().toString();
-                Property property = context.getProperty(propertyName);
+            } else if (binding.propertyName != null) {
+                Property property = context.getProperty(binding.propertyName);
                 assert property != null;
                 writer.print("this.");
                 if (property.isDynamic()) {
@@ -160,10 +281,21 @@ public class DynamicMethodExtractor implements Extractor {
             } else {
                 writer.print("null");
             }
-            if (i++ != parameters.size() - 1) {
+            if (i++ != paramBindings.size() - 1) {
                 writer.print(", ");
             }
         }
         writer.print(")");
     }
+
+    private static class ParamBinding {
+        private final boolean self;
+        @CheckForNull
+        private final String propertyName;
+
+        private ParamBinding(boolean self, @CheckForNull String propertyName) {
+            this.self = self;
+            this.propertyName = propertyName;
+        }
+    }
 }
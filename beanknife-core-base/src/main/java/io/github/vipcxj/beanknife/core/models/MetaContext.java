@@ -1,6 +1,7 @@
 package io.github.vipcxj.beanknife.core.models;
 
 import com.sun.source.util.Trees;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.github.vipcxj.beanknife.core.utils.LombokUtils;
 import io.github.vipcxj.beanknife.core.utils.Utils;
@@ -24,7 +25,7 @@ public class MetaContext extends Context {
     private final Type genType;
     private final Type generatedType;
 
-    public MetaContext(@NonNull Trees trees, @NonNull ProcessingEnvironment processingEnv, @NonNull ViewMetaData viewMeta, @NonNull List<ViewOfData> viewOfDataList) {
+    public MetaContext(@CheckForNull Trees trees, @NonNull ProcessingEnvironment processingEnv, @NonNull ViewMetaData viewMeta, @NonNull List<ViewOfData> viewOfDataList) {
         super(trees, processingEnv, null);
         this.viewMeta = viewMeta;
         this.viewOfDataList = viewOfDataList;
@@ -44,6 +45,10 @@ public class MetaContext extends Context {
         return viewMeta;
     }
 
+    public List<ViewOfData> getViewOfDataList() {
+        return viewOfDataList;
+    }
+
     public Type getGenType() {
         return genType;
     }
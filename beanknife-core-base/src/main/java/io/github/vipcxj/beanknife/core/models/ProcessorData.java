@@ -3,15 +3,21 @@ package io.github.vipcxj.beanknife.core.models;
 import com.sun.source.util.Trees;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import io.github.vipcxj.beanknife.core.utils.PatternSet;
 import io.github.vipcxj.beanknife.core.utils.Utils;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.TypeElement;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 public class ProcessorData {
+    @CheckForNull
     private final Trees trees;
     private final ProcessingEnvironment processingEnv;
     private final List<String> errors;
@@ -20,8 +26,12 @@ public class ProcessorData {
     private final Map<String, List<ViewOfData>> viewOfDataByConfigTypeName;
     private final Map<String, ViewContext> viewContextMap;
     private final Map<String, Object> subContexts;
+    private final Map<TypeElement, Type> internedTypes;
+    private final Map<String, PatternSet> patternSets;
+    private final ConverterRegistry converterRegistry;
+    private final Profiler profiler;
 
-    public ProcessorData(@NonNull Trees trees, @NonNull ProcessingEnvironment processingEnv) {
+    public ProcessorData(@CheckForNull Trees trees, @NonNull ProcessingEnvironment processingEnv) {
         this.trees = trees;
         this.processingEnv = processingEnv;
         this.errors = new ArrayList<>();
@@ -30,6 +40,10 @@ public class ProcessorData {
         this.viewOfDataByConfigTypeName = new HashMap<>();
         this.viewContextMap = new HashMap<>();
         this.subContexts = new HashMap<>();
+        this.internedTypes = new HashMap<>();
+        this.patternSets = new HashMap<>();
+        this.converterRegistry = new ConverterRegistry(processingEnv);
+        this.profiler = new Profiler(processingEnv);
     }
 
     @NonNull
@@ -37,6 +51,15 @@ public class ProcessorData {
         return errors;
     }
 
+    /**
+     * Get the qualified names of all the views configured in the current round.
+     * @return the qualified names of the views
+     */
+    @NonNull
+    public Set<String> getGenTypeNames() {
+        return Collections.unmodifiableSet(viewOfDataByGenTypeName.keySet());
+    }
+
     @CheckForNull
     public ViewOfData getByGenName(@NonNull String qualifiedNameWithoutParameters) {
         return viewOfDataByGenTypeName.get(qualifiedNameWithoutParameters);
@@ -54,6 +77,22 @@ public class ProcessorData {
         return viewOfDataList != null ? viewOfDataList : Collections.emptyList();
     }
 
+    /**
+     * Get the compiled include or exclude pattern.
+     * The inherited configurations share the same patterns across many views, so they are compiled only once.
+     * @param pattern the include or exclude pattern
+     * @return the compiled pattern
+     */
+    @NonNull
+    public PatternSet getPatternSet(@NonNull String pattern) {
+        PatternSet patternSet = patternSets.get(pattern);
+        if (patternSet == null) {
+            patternSet = PatternSet.compile(pattern);
+            patternSets.put(pattern, patternSet);
+        }
+        return patternSet;
+    }
+
     public <T> T getOrCreateSubContext(String key, Supplier<T> creator) {
         Object o = subContexts.get(key);
         if (o == null) {
@@ -92,7 +131,8 @@ public class ProcessorData {
     }
 
     /**
-     * 从所有可能的View生成名中检索type可能的全限定名。因为View必定不是嵌套类，所以不需要考虑type是嵌套类的可能性
+     * 从所有可能的View生成名中检索type可能的全限定名。因为View必定不是嵌套类，所以不需要考虑type是嵌套类的可能性。
+     * 所有可能的结果都是某个View生成名本身，所以直接用生成名索引查找，而不是遍历所有的生成名。
      * @param imports 所有import语句
      * @param packageName 当前包名
      * @param type 需要修复的不可识别类型
@@ -101,37 +141,31 @@ public class ProcessorData {
     @CheckForNull
     public String fixType(@NonNull Set<String> imports, @NonNull String packageName, @NonNull String type) {
         type = tryCompleteTypeName(imports, type);
-        for (String genTypeName : viewOfDataByGenTypeName.keySet()) {
-            if (genTypeName.endsWith(type)) {
-                if (genTypeName.equals(type)) {
-                    if (packageName.isEmpty() || genTypeName.indexOf('.') != -1) {
-                        return type;
-                    } else {
-                        return null;
-                    }
-                } else {
-                    // 同一个包对象可见性优先级高于star import的对象，所以先判断同包的情况
-                    // 假设type属于同一包内，加上包名再判断下
-                    // 因为若当前包围unnamed，type如果处于同一包，即也为unnamed，此时必须与genTypeName完全相同，但这已经不可能了，所以pass
-                    if (!packageName.isEmpty()) {
-                        if (genTypeName.equals(packageName + "." + type)) {
-                            return genTypeName;
-                        }
-                    }
-                    for (String anImport : imports) {
-                        if (anImport.endsWith(".*")) {
-                            if (genTypeName.equals(anImport.substring(0, anImport.length() - 1) + type)) {
-                                return genTypeName;
-                            }
-                        }
-                    }
+        // 全限定名，或者当前包与type都处于unnamed包
+        if (viewOfDataByGenTypeName.containsKey(type) && (packageName.isEmpty() || type.indexOf('.') != -1)) {
+            return type;
+        }
+        // 同一个包对象可见性优先级高于star import的对象，所以先判断同包的情况
+        // 因为若当前包为unnamed，type如果处于同一包，即也为unnamed，此时必须与genTypeName完全相同，这已经在上面判断过了
+        if (!packageName.isEmpty()) {
+            String genTypeName = packageName + "." + type;
+            if (viewOfDataByGenTypeName.containsKey(genTypeName)) {
+                return genTypeName;
+            }
+        }
+        for (String anImport : imports) {
+            if (anImport.endsWith(".*")) {
+                String genTypeName = anImport.substring(0, anImport.length() - 1) + type;
+                if (viewOfDataByGenTypeName.containsKey(genTypeName)) {
+                    return genTypeName;
                 }
             }
         }
         return null;
     }
 
-    private String getGenTypeName(@NonNull ViewOfData viewOfData) {
+    @NonNull
+    public String getGenTypeName(@NonNull ViewOfData viewOfData) {
         return Utils.extractGenTypeName(
                 viewOfData.getTargetElement(),
                 viewOfData.getGenName(),
@@ -173,8 +207,36 @@ public class ProcessorData {
         }
     }
 
+    /**
+     * Clear the round-scoped data, should be called at the beginning of each round.
+     */
     public void clearViewContextMap() {
         viewContextMap.clear();
+        internedTypes.clear();
+        converterRegistry.clear();
+    }
+
+    /**
+     * Get the property converter registry of the current round.
+     * @return the converter registry
+     */
+    @NonNull
+    public ConverterRegistry getConverterRegistry() {
+        return converterRegistry;
+    }
+
+    @NonNull
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    @CheckForNull
+    Type getInternedType(@NonNull TypeElement typeElement) {
+        return internedTypes.get(typeElement);
+    }
+
+    void internType(@NonNull TypeElement typeElement, @NonNull Type type) {
+        internedTypes.put(typeElement, type);
     }
 
     public ViewContext getViewContext(@NonNull ViewOfData viewOf) {
@@ -187,4 +249,99 @@ public class ProcessorData {
         }
         return viewContext;
     }
+
+    /**
+     * Print the views.
+     * The view contexts referenced by the views are collected and the model derived parts of the views are snapshot
+     * at first in the current thread, see {@link ViewContext#snapshotModel()},
+     * then the views are printed by at most <code>parallelism</code> threads.
+     * @param contexts the collected view contexts
+     * @param parallelism the max number of the printing threads, the views are printed in the current thread if it is less than 2.
+     * @return the printed sources, in the order of the contexts
+     */
+    @NonNull
+    public List<String> printViews(@NonNull List<ViewContext> contexts, int parallelism) {
+        int threads = Math.min(parallelism, contexts.size());
+        if (threads < 2) {
+            List<String> sources = new ArrayList<>(contexts.size());
+            for (ViewContext context : contexts) {
+                sources.add(printView(context));
+            }
+            return sources;
+        }
+        collectReferencedViewContexts(contexts);
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "beanknife-printer-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<String>> futures = new ArrayList<>(contexts.size());
+            for (ViewContext context : contexts) {
+                context.snapshotModel();
+                futures.add(executor.submit(() -> printView(context)));
+            }
+            List<String> sources = new ArrayList<>(contexts.size());
+            for (Future<String> future : futures) {
+                sources.add(future.get());
+            }
+            return sources;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @NonNull
+    public String printView(@NonNull ViewContext context) {
+        StringWriter stringWriter = new StringWriter();
+        try (PrintWriter writer = new PrintWriter(stringWriter)) {
+            printView(context, writer);
+        }
+        return stringWriter.toString();
+    }
+
+    /**
+     * Print the view into the writer directly, so it can be streamed into the Filer.
+     * @param context the view context
+     * @param writer the writer
+     */
+    public void printView(@NonNull ViewContext context, @NonNull PrintWriter writer) {
+        long start = profiler.start();
+        context.print(writer);
+        if (profiler.isEnabled()) {
+            profiler.recordView(context.getGenType().getQualifiedName(), Profiler.Phase.RENDER, start);
+        }
+    }
+
+    /**
+     * The views print the referenced views according to their configurations,
+     * so collect them before printing, or the printing threads would collect them one by one holding the model lock.
+     */
+    private void collectReferencedViewContexts(@NonNull List<ViewContext> contexts) {
+        Set<ViewContext> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<ViewContext> queue = new ArrayDeque<>(contexts);
+        visited.addAll(contexts);
+        while (!queue.isEmpty()) {
+            ViewContext context = queue.poll();
+            for (Property property : context.getProperties()) {
+                ViewContext referenced = context.getViewContext(property.getType());
+                if (referenced != null && visited.add(referenced)) {
+                    queue.add(referenced);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,186 @@
+package io.github.vipcxj.beanknife.core.models;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.apache.commons.text.StringEscapeUtils;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * The opt-in profiler of the view generation, enabled by the processor option {@value #OPTION_PROFILE}.
+ * It records the time spent in each phase and in each view, then writes a json report named {@value #REPORT_NAME}
+ * to the class output directory when the processing is over.
+ * When disabled, all the methods are no-op.
+ */
+public class Profiler {
+
+    public static final String OPTION_PROFILE = "beanknife.profile";
+    public static final String REPORT_NAME = "beanknife-profile.json";
+    private static final int SLOWEST_VIEWS = 20;
+
+    public enum Phase {
+        /**
+         * Collect the view configurations of the round.
+         */
+        COLLECT,
+        /**
+         * Look up the view cache and write the cached views.
+         */
+        CACHE,
+        /**
+         * Resolve the properties of the views.
+         */
+        RESOLVE,
+        /**
+         * Render the source of the views.
+         */
+        RENDER,
+        /**
+         * Write the source of the views.
+         */
+        WRITE
+    }
+
+    private final boolean enabled;
+    private final long[] phaseNanos;
+    private final Map<String, long[]> viewNanos;
+    private int rounds;
+
+    public Profiler(@NonNull ProcessingEnvironment processingEnv) {
+        this.enabled = "true".equalsIgnoreCase(processingEnv.getOptions().get(OPTION_PROFILE));
+        this.phaseNanos = new long[Phase.values().length];
+        this.viewNanos = new HashMap<>();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start a measure.
+     * @return the start time, should be passed to {@link #record(Phase, long)} or {@link #recordView(String, Phase, long)}.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void nextRound() {
+        if (enabled) {
+            ++rounds;
+        }
+    }
+
+    /**
+     * Record the time spent in the phase since the start time.
+     * @param phase the phase
+     * @param start the start time returned by {@link #start()}
+     */
+    public synchronized void record(@NonNull Phase phase, long start) {
+        if (enabled) {
+            phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Record the time spent on the view in the phase since the start time.
+     * The time of a view includes the time of the views referenced and resolved by it.
+     * It is thread-safe, so the views rendered in parallel can be recorded too.
+     * @param viewName the qualified name of the view
+     * @param phase the phase
+     * @param start the start time returned by {@link #start()}
+     */
+    public synchronized void recordView(@NonNull String viewName, @NonNull Phase phase, long start) {
+        if (enabled) {
+            long[] nanos = viewNanos.computeIfAbsent(viewName, k -> new long[Phase.values().length]);
+            nanos[phase.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Write the json report to the class output directory.
+     * @param filer the filer
+     * @param messager the messager
+     */
+    public synchronized void report(@NonNull Filer filer, @NonNull Messager messager) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", REPORT_NAME);
+            try (Writer writer = resource.openWriter(); PrintWriter printWriter = new PrintWriter(writer)) {
+                printReport(printWriter);
+            }
+            messager.printMessage(Diagnostic.Kind.NOTE, "BeanKnife profile report: " + resource.toUri() + ".");
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.WARNING, "Unable to write the BeanKnife profile report: " + e.getMessage());
+        }
+    }
+
+    private void printReport(@NonNull PrintWriter writer) {
+        Phase[] phases = Phase.values();
+        writer.println("{");
+        writer.print("  \"rounds\": ");
+        writer.print(rounds);
+        writer.println(",");
+        writer.print("  \"views\": ");
+        writer.print(viewNanos.size());
+        writer.println(",");
+        writer.println("  \"phases\": {");
+        for (int i = 0; i < phases.length; ++i) {
+            writer.print("    \"");
+            writer.print(phaseName(phases[i]));
+            writer.print("\": ");
+            writer.print(toMillis(phaseNanos[i]));
+            writer.println(i < phases.length - 1 ? "," : "");
+        }
+        writer.println("  },");
+        List<Map.Entry<String, long[]>> views = new ArrayList<>(viewNanos.entrySet());
+        views.sort(Comparator.comparingLong((Map.Entry<String, long[]> e) -> total(e.getValue())).reversed());
+        writer.println("  \"slowestViews\": [");
+        int size = Math.min(SLOWEST_VIEWS, views.size());
+        for (int i = 0; i < size; ++i) {
+            Map.Entry<String, long[]> view = views.get(i);
+            writer.print("    {\"name\": \"");
+            writer.print(StringEscapeUtils.escapeJson(view.getKey()));
+            writer.print("\"");
+            for (Phase phase : phases) {
+                if (phase == Phase.COLLECT) {
+                    continue;
+                }
+                writer.print(", \"");
+                writer.print(phaseName(phase));
+                writer.print("\": ");
+                writer.print(toMillis(view.getValue()[phase.ordinal()]));
+            }
+            writer.print(", \"total\": ");
+            writer.print(toMillis(total(view.getValue())));
+            writer.println(i < size - 1 ? "}," : "}");
+        }
+        writer.println("  ]");
+        writer.println("}");
+    }
+
+    private static String phaseName(@NonNull Phase phase) {
+        return phase.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static long total(@NonNull long[] nanos) {
+        long total = 0;
+        for (long n : nanos) {
+            total += n;
+        }
+        return total;
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1000000.0);
+    }
+}
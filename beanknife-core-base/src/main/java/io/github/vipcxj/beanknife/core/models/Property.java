@@ -34,6 +34,7 @@ public class Property {
     private Extractor extractor;
     @CheckForNull
     private Type converter;
+    private boolean sharedConverter;
     private boolean view;
     @CheckForNull
     private Property override;
@@ -83,6 +84,7 @@ public class Property {
         this.comment = other.comment != null ? other.comment : commentIfNone;
         this.extractor = other.extractor;
         this.converter = other.converter;
+        this.sharedConverter = other.sharedConverter;
         this.view = other.view;
         this.override = other.override;
         this.lombokInfo = other.lombokInfo;
@@ -154,8 +156,13 @@ public class Property {
     }
 
     public Property withConverter(@CheckForNull Type converter) {
+        return withConverter(converter, false);
+    }
+
+    public Property withConverter(@CheckForNull Type converter, boolean shared) {
         Property property = new Property(this, null);
         property.converter = converter;
+        property.sharedConverter = converter != null && shared;
         return property;
     }
 
@@ -179,9 +186,24 @@ public class Property {
     }
 
     public boolean isLombokWritable(boolean samePackage) {
+        return isLombokWritable(samePackage, isFinalField());
+    }
+
+    /**
+     * Same as {@link #isLombokWritable(boolean)}, but the final modifier of the field is provided by the caller,
+     * so the javac model is not accessed.
+     * @param samePackage whether the accessor is in the same package
+     * @param finalField whether the field is final, see {@link #isFinalField()}
+     * @return whether the property is writable by the lombok setter
+     */
+    public boolean isLombokWritable(boolean samePackage, boolean finalField) {
+        Property field = Objects.requireNonNull(getField());
+        return !finalField && field.lombokInfo != null && field.lombokInfo.isWritable(samePackage);
+    }
+
+    public boolean isFinalField() {
         Property field = getField();
-        boolean isFinal = Objects.requireNonNull(field).getElement().getModifiers().contains(Modifier.FINAL);
-        return !isFinal && field.lombokInfo != null && field.lombokInfo.isWritable(samePackage);
+        return field != null && field.getElement().getModifiers().contains(Modifier.FINAL);
     }
 
     public boolean hasLombokGetter() {
@@ -276,6 +298,10 @@ public class Property {
         return converter;
     }
 
+    public boolean isSharedConverter() {
+        return sharedConverter;
+    }
+
     public boolean isView() {
         return view;
     }
@@ -293,6 +319,10 @@ public class Property {
         return extractor instanceof StaticMethodExtractor;
     }
 
+    public boolean isBatchMethod() {
+        return extractor instanceof BatchMethodExtractor;
+    }
+
     public List<? extends AnnotationMirror> getAnnotations() {
         return element.getAnnotationMirrors();
     }
@@ -426,6 +456,12 @@ public class Property {
         writer.print(" ");
         writer.print(getGetterName());
         writer.println("() {");
+        if (isDynamic() && ((DynamicMethodExtractor) extractor).isCached()) {
+            ((DynamicMethodExtractor) extractor).printCachedGetterBody(writer, this, indent, indentNum + 1);
+            Utils.printIndent(writer, indent, indentNum);
+            writer.println("}");
+            return;
+        }
         Utils.printIndent(writer, indent, indentNum + 1);
         writer.print("return ");
         if (isDynamic()) {
@@ -451,12 +487,26 @@ public class Property {
         String mappedFieldName = context.getMappedFieldName(this);
         writer.print(mappedFieldName);
         writer.println(") {");
-        Utils.printIndent(writer, indent, indentNum + 1);
+        boolean synchronizedSetter = context instanceof ViewContext && ((ViewContext) context).isSetterSynchronized(this);
+        int bodyIndentNum = indentNum + 1;
+        if (synchronizedSetter) {
+            Utils.printIndent(writer, indent, indentNum + 1);
+            writer.println("synchronized (this) {");
+            bodyIndentNum = indentNum + 2;
+        }
+        Utils.printIndent(writer, indent, bodyIndentNum);
         writer.print("this.");
         writer.print(mappedFieldName);
         writer.print(" = ");
         writer.print(mappedFieldName);
         writer.println(";");
+        if (context instanceof ViewContext) {
+            ((ViewContext) context).printInvalidateDynamicCaches(writer, this, indent, bodyIndentNum);
+        }
+        if (synchronizedSetter) {
+            Utils.printIndent(writer, indent, indentNum + 1);
+            writer.println("}");
+        }
         Utils.printIndent(writer, indent, indentNum);
         writer.println("}");
     }
@@ -0,0 +1,191 @@
+package io.github.vipcxj.beanknife.core.models;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * The ordered list of the properties, indexed by the property name, the getter name and the simple name of the element.
+ * It is still a mutable {@link List} keeping the declaration order, and the indexes follow all the modifications,
+ * so the properties can be looked up without scanning the whole list.
+ * Null elements are allowed temporarily, but not indexed.
+ */
+public class PropertyTable extends AbstractList<Property> implements RandomAccess {
+
+    private final ArrayList<Property> properties;
+    private final Map<String, List<Property>> byName;
+    private final Map<String, List<Property>> byGetterName;
+    private final Map<String, List<Property>> byElementName;
+
+    public PropertyTable() {
+        this.properties = new ArrayList<>();
+        this.byName = new HashMap<>();
+        this.byGetterName = new HashMap<>();
+        this.byElementName = new HashMap<>();
+    }
+
+    public PropertyTable(@NonNull Collection<Property> properties) {
+        this();
+        addAll(properties);
+    }
+
+    @Override
+    public Property get(int index) {
+        return properties.get(index);
+    }
+
+    @Override
+    public int size() {
+        return properties.size();
+    }
+
+    @Override
+    public Property set(int index, Property element) {
+        Property old = properties.set(index, element);
+        unindex(old);
+        index(element);
+        return old;
+    }
+
+    @Override
+    public void add(int index, Property element) {
+        properties.add(index, element);
+        index(element);
+        ++modCount;
+    }
+
+    @Override
+    public Property remove(int index) {
+        Property old = properties.remove(index);
+        unindex(old);
+        ++modCount;
+        return old;
+    }
+
+    @Override
+    public boolean removeIf(@NonNull Predicate<? super Property> filter) {
+        if (properties.removeIf(filter)) {
+            reindex();
+            ++modCount;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        properties.subList(fromIndex, toIndex).clear();
+        reindex();
+        ++modCount;
+    }
+
+    @Override
+    public void clear() {
+        properties.clear();
+        byName.clear();
+        byGetterName.clear();
+        byElementName.clear();
+        ++modCount;
+    }
+
+    /**
+     * Get the first property with the name.
+     * @param name the property name
+     * @return the property or null if not exists
+     */
+    @CheckForNull
+    public Property getByName(@NonNull String name) {
+        return first(byName.get(name));
+    }
+
+    /**
+     * Get the properties which may hide or be hidden by the property,
+     * that is the ones with the same element simple name or the same getter name, in the order of the list.
+     * @param property the property
+     * @return the candidates with their indexes, sorted by the index
+     */
+    @NonNull
+    List<Map.Entry<Integer, Property>> getConflictCandidates(@NonNull Property property) {
+        List<Property> sameElementName = byElementName.get(property.getElement().getSimpleName().toString());
+        List<Property> sameGetterName = byGetterName.get(property.getGetterName());
+        if (sameElementName == null && sameGetterName == null) {
+            return Collections.emptyList();
+        }
+        Set<Property> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (sameElementName != null) {
+            candidates.addAll(sameElementName);
+        }
+        if (sameGetterName != null) {
+            candidates.addAll(sameGetterName);
+        }
+        List<Map.Entry<Integer, Property>> results = new ArrayList<>(candidates.size());
+        for (int i = 0; i < properties.size() && results.size() < candidates.size(); ++i) {
+            Property p = properties.get(i);
+            if (p != null && candidates.contains(p)) {
+                results.add(new AbstractMap.SimpleImmutableEntry<>(i, p));
+            }
+        }
+        return results;
+    }
+
+    @CheckForNull
+    private Property first(@CheckForNull List<Property> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return null;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        // Rare, the ones added later may be inserted before the others.
+        Set<Property> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(candidates);
+        for (Property property : properties) {
+            if (property != null && set.contains(property)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    private void index(@CheckForNull Property property) {
+        if (property != null) {
+            byName.computeIfAbsent(property.getName(), k -> new ArrayList<>(1)).add(property);
+            byGetterName.computeIfAbsent(property.getGetterName(), k -> new ArrayList<>(1)).add(property);
+            byElementName.computeIfAbsent(property.getElement().getSimpleName().toString(), k -> new ArrayList<>(1)).add(property);
+        }
+    }
+
+    private void unindex(@CheckForNull Property property) {
+        if (property != null) {
+            unindex(byName, property.getName(), property);
+            unindex(byGetterName, property.getGetterName(), property);
+            unindex(byElementName, property.getElement().getSimpleName().toString(), property);
+        }
+    }
+
+    private static void unindex(@NonNull Map<String, List<Property>> index, @NonNull String key, @NonNull Property property) {
+        List<Property> list = index.get(key);
+        if (list != null) {
+            for (int i = 0; i < list.size(); ++i) {
+                if (list.get(i) == property) {
+                    list.remove(i);
+                    break;
+                }
+            }
+            if (list.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private void reindex() {
+        byName.clear();
+        byGetterName.clear();
+        byElementName.clear();
+        for (Property property : properties) {
+            index(property);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.vipcxj.beanknife.core.models;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.github.vipcxj.beanknife.core.utils.Utils;
+import io.github.vipcxj.beanknife.runtime.annotations.ViewMeta;
+import io.github.vipcxj.beanknife.runtime.annotations.ViewMetas;
+import io.github.vipcxj.beanknife.runtime.annotations.ViewOf;
+import io.github.vipcxj.beanknife.runtime.annotations.ViewOfs;
+import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedMeta;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import java.util.*;
+
+/**
+ * The index of the view configurations found in a processing round.
+ * The annotated elements are scanned only once per round by each processor.
+ * It references the javac model of the round, so it must be dropped at the end of the round.
+ */
+public class RoundIndex {
+
+    private final ProcessingEnvironment processingEnv;
+    private final RoundEnvironment roundEnv;
+    private Map<TypeElement, List<ViewOfData>> viewOfsByTarget;
+    private Map<TypeElement, List<TypeElement>> viewMetaConfigsByTarget;
+    private final Map<TypeElement, List<ViewOfData>> viewOfsByConfig;
+    private List<ViewOfData> proxyViewOfs;
+
+    public RoundIndex(@NonNull ProcessingEnvironment processingEnv, @NonNull RoundEnvironment roundEnv) {
+        this.processingEnv = processingEnv;
+        this.roundEnv = roundEnv;
+        this.viewOfsByConfig = new HashMap<>();
+    }
+
+    /**
+     * Get all the view configurations targeting the target element.
+     * @param targetElement the target element
+     * @return the view configurations, in the order of the annotated elements.
+     */
+    @NonNull
+    public synchronized List<ViewOfData> getViewOfsByTarget(@NonNull TypeElement targetElement) {
+        if (viewOfsByTarget == null) {
+            viewOfsByTarget = new HashMap<>();
+            List<ViewOfData> viewOfDataList = new ArrayList<>();
+            for (Element candidate : roundEnv.getElementsAnnotatedWith(ViewOf.class)) {
+                if (Utils.shouldIgnoredElement(candidate)) {
+                    continue;
+                }
+                for (AnnotationMirror annotationMirror : candidate.getAnnotationMirrors()) {
+                    if (Utils.isThisAnnotation(annotationMirror, ViewOf.class)) {
+                        Utils.collectViewOfs(viewOfDataList, processingEnv, (TypeElement) candidate, annotationMirror);
+                    }
+                }
+            }
+            for (Element candidate : roundEnv.getElementsAnnotatedWith(ViewOfs.class)) {
+                if (Utils.shouldIgnoredElement(candidate)) {
+                    continue;
+                }
+                for (AnnotationMirror annotationMirror : candidate.getAnnotationMirrors()) {
+                    if (Utils.isThisAnnotation(annotationMirror, ViewOfs.class)) {
+                        for (AnnotationMirror viewOf : getRepeatedAnnotations(annotationMirror)) {
+                            Utils.collectViewOfs(viewOfDataList, processingEnv, (TypeElement) candidate, viewOf);
+                        }
+                    }
+                }
+            }
+            for (ViewOfData viewOfData : viewOfDataList) {
+                viewOfsByTarget.computeIfAbsent(viewOfData.getTargetElement(), k -> new ArrayList<>()).add(viewOfData);
+            }
+        }
+        List<ViewOfData> viewOfDataList = viewOfsByTarget.get(targetElement);
+        return viewOfDataList != null ? viewOfDataList : Collections.emptyList();
+    }
+
+    /**
+     * Get all the configurations declared directly on the config element.
+     * @param configElement the config element
+     * @return the view configurations, the ones from {@link ViewOf} come first, then the ones from {@link ViewOfs}.
+     */
+    @NonNull
+    public synchronized List<ViewOfData> getViewOfsByConfig(@NonNull TypeElement configElement) {
+        return viewOfsByConfig.computeIfAbsent(configElement, k -> {
+            List<ViewOfData> out = new ArrayList<>();
+            List<? extends AnnotationMirror> annotationMirrors = configElement.getAnnotationMirrors();
+            for (AnnotationMirror annotationMirror : annotationMirrors) {
+                if (Utils.isThisAnnotation(annotationMirror, ViewOf.class)) {
+                    Utils.collectViewOfs(out, processingEnv, configElement, annotationMirror);
+                }
+            }
+            for (AnnotationMirror annotationMirror : annotationMirrors) {
+                if (Utils.isThisAnnotation(annotationMirror, ViewOfs.class)) {
+                    for (AnnotationMirror viewOf : getRepeatedAnnotations(annotationMirror)) {
+                        Utils.collectViewOfs(out, processingEnv, configElement, viewOf);
+                    }
+                }
+            }
+            return out;
+        });
+    }
+
+    /**
+     * Get the view configurations of the config classes proxied by the {@link GeneratedMeta} classes of the round.
+     * @return the view configurations
+     */
+    @NonNull
+    public synchronized List<ViewOfData> getProxyViewOfs() {
+        if (proxyViewOfs == null) {
+            Map<String, TypeElement> configClasses = new HashMap<>();
+            for (Element proxySource : roundEnv.getElementsAnnotatedWith(GeneratedMeta.class)) {
+                for (AnnotationMirror annotationMirror : proxySource.getAnnotationMirrors()) {
+                    if (Utils.isThisAnnotation(annotationMirror, GeneratedMeta.class)) {
+                        Map<? extends ExecutableElement, ? extends AnnotationValue> elementValuesWithDefaults = processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
+                        DeclaredType[] proxies = Utils.getTypeArrayAnnotationValue(annotationMirror, elementValuesWithDefaults, "proxies");
+                        for (DeclaredType proxy : proxies) {
+                            TypeElement proxyElement = Utils.toElement(proxy);
+                            configClasses.put(proxyElement.getQualifiedName().toString(), proxyElement);
+                        }
+                    }
+                }
+            }
+            proxyViewOfs = new ArrayList<>();
+            for (TypeElement configElement : configClasses.values()) {
+                proxyViewOfs.addAll(getViewOfsByConfig(configElement));
+            }
+        }
+        return proxyViewOfs;
+    }
+
+    /**
+     * Whether there is any {@link ViewMeta} configured for the target element.
+     * @param targetElement the target element
+     * @return true if exists
+     */
+    public boolean hasViewMeta(@NonNull TypeElement targetElement) {
+        return !getViewMetaConfigs(targetElement).isEmpty();
+    }
+
+    /**
+     * Get the config element with the highest priority among the ones configuring a {@link ViewMeta} for the target element.
+     * @param targetElement the target element
+     * @return the config element or null if not exists
+     */
+    @CheckForNull
+    public TypeElement getMostImportantViewMetaElement(@NonNull TypeElement targetElement) {
+        List<TypeElement> configs = getViewMetaConfigs(targetElement);
+        return configs.isEmpty() ? null : configs.get(0);
+    }
+
+    @NonNull
+    private synchronized List<TypeElement> getViewMetaConfigs(@NonNull TypeElement targetElement) {
+        if (viewMetaConfigsByTarget == null) {
+            viewMetaConfigsByTarget = new HashMap<>();
+            for (Element candidate : roundEnv.getElementsAnnotatedWith(ViewMeta.class)) {
+                if (Utils.shouldIgnoredElement(candidate)) {
+                    continue;
+                }
+                for (AnnotationMirror annotationMirror : processingEnv.getElementUtils().getAllAnnotationMirrors(candidate)) {
+                    if (Utils.isThisAnnotation(annotationMirror, ViewMeta.class)) {
+                        addViewMetaConfig(annotationMirror, (TypeElement) candidate);
+                    }
+                }
+            }
+            for (Element candidate : roundEnv.getElementsAnnotatedWith(ViewMetas.class)) {
+                if (Utils.shouldIgnoredElement(candidate)) {
+                    continue;
+                }
+                for (AnnotationMirror annotationMirror : processingEnv.getElementUtils().getAllAnnotationMirrors(candidate)) {
+                    if (Utils.isThisAnnotation(annotationMirror, ViewMetas.class)) {
+                        for (AnnotationMirror viewMeta : getRepeatedAnnotations(annotationMirror)) {
+                            addViewMetaConfig(viewMeta, (TypeElement) candidate);
+                        }
+                    }
+                }
+            }
+            for (List<TypeElement> configs : viewMetaConfigsByTarget.values()) {
+                configs.sort(Comparator.comparing(e -> e.getQualifiedName().toString()));
+            }
+        }
+        List<TypeElement> configs = viewMetaConfigsByTarget.get(targetElement);
+        return configs != null ? configs : Collections.emptyList();
+    }
+
+    private void addViewMetaConfig(@NonNull AnnotationMirror viewMeta, @NonNull TypeElement candidate) {
+        TypeElement targetElement = ViewMetaData.read(processingEnv, viewMeta, candidate).getOf();
+        List<TypeElement> configs = viewMetaConfigsByTarget.computeIfAbsent(targetElement, k -> new ArrayList<>());
+        if (!configs.contains(candidate)) {
+            configs.add(candidate);
+        }
+    }
+
+    private List<AnnotationMirror> getRepeatedAnnotations(@NonNull AnnotationMirror container) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> elementValuesWithDefaults = processingEnv.getElementUtils().getElementValuesWithDefaults(container);
+        return Utils.getAnnotationElement(container, elementValuesWithDefaults);
+    }
+}
@@ -55,7 +55,7 @@ public class StaticMethodExtractor implements Extractor {
                 context.error("@ExtraParam and @InjectProperty can not be put on the same parameter: " + executableElement.getSimpleName() + "#" + parameter.getSimpleName() + ". The @ExtraParam is ignored.");
             }
             if (injectProperty != null) {
-                Property injectedProperty = context.getBaseProperties().stream().filter(property -> property.getName().equals(injectProperty.value())).findAny().orElse(null);
+                Property injectedProperty = context.getBaseProperties().getByName(injectProperty.value());
                 if (injectedProperty == null) {
                     context.error("Unable to inject the property " +
                             injectProperty.value() + ", No property named " +
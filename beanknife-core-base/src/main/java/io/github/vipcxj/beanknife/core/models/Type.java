@@ -5,7 +5,6 @@ import com.sun.source.util.TreePath;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import io.github.vipcxj.beanknife.core.utils.ObjectsCompatible;
 import io.github.vipcxj.beanknife.core.utils.TreeUtils;
 import io.github.vipcxj.beanknife.core.utils.Utils;
 
@@ -329,6 +328,9 @@ public class Type {
     }
 
     private static Tree parseTree(@NonNull Context context, @NonNull Element element) {
+        if (context.trees == null) {
+            return null;
+        }
         Tree tree = context.trees.getTree(element);
         if (tree != null) {
             return tree;
@@ -351,44 +353,18 @@ public class Type {
     }
 
     public static Type extract(@NonNull Context context, @NonNull Element element, @Nullable List<Type> parameterTypes) {
-        CompilationUnitTree cu = TreeUtils.getCompilationUnit(context, element);
-        Tree tree = parseTree(context, element);
         if (element.getKind().isClass() || element.getKind().isInterface()) {
-            TypeElement typeElement = (TypeElement) element;
-            List<? extends TypeParameterElement> typeParameters = typeElement.getTypeParameters();
-            List<Type> parameters;
-            parameters = ObjectsCompatible.requireNonNullElseGet(parameterTypes, () -> typeParameters.stream().map(e -> extract(context, e, null)).collect(Collectors.toList()));
-            boolean annotation = element.getKind() == ElementKind.ANNOTATION_TYPE;
-            Element enclosingElement = element.getEnclosingElement();
-            Type parentType = null;
-            String packageName;
-            if (enclosingElement.getKind() == ElementKind.PACKAGE) {
-                PackageElement packageElement = (PackageElement) enclosingElement;
-                packageName = packageElement.getQualifiedName().toString();
-            } else {
-                parentType = extract(context, enclosingElement, null);
-                if (parentType == null) {
-                    return null;
-                }
-                packageName = parentType.packageName;
+            Type type = extractTypeElement(context, (TypeElement) element);
+            if (type == null || parameterTypes == null || (parameterTypes.isEmpty() && type.parameters.isEmpty())) {
+                return type;
             }
-            return new Type(
-                    context,
-                    typeElement.getModifiers(),
-                    packageName,
-                    element.getSimpleName().toString(),
-                    0,
-                    annotation,
-                    false,
-                    false,
-                    parameters,
-                    parentType,
-                    Collections.emptyList(),
-                    Collections.emptyList(),
-                    cu,
-                    tree
-            );
-        } else if (
+            Type parameterizedType = new Type(type);
+            parameterizedType.parameters = parameterTypes;
+            return parameterizedType;
+        }
+        CompilationUnitTree cu = TreeUtils.getCompilationUnit(context, element);
+        Tree tree = parseTree(context, element);
+        if (
                 element.getKind() == ElementKind.FIELD
                 || element.getKind() == ElementKind.PARAMETER
         ) {
@@ -442,6 +418,54 @@ public class Type {
         throw new UnsupportedOperationException("Unsupported element kind: " + element.getKind() + ".");
     }
 
+    /**
+     * The types of the classes are extracted again and again for the properties, the converters and so on,
+     * so they are interned per round, see {@link Context#getInternedType(TypeElement)}.
+     * The interned types are shared, which is safe because all the types are immutable.
+     */
+    @CheckForNull
+    private static Type extractTypeElement(@NonNull Context context, @NonNull TypeElement typeElement) {
+        Type type = context.getInternedType(typeElement);
+        if (type != null) {
+            return type;
+        }
+        CompilationUnitTree cu = TreeUtils.getCompilationUnit(context, typeElement);
+        Tree tree = parseTree(context, typeElement);
+        List<Type> parameters = typeElement.getTypeParameters().stream().map(e -> extract(context, e, null)).collect(Collectors.toList());
+        boolean annotation = typeElement.getKind() == ElementKind.ANNOTATION_TYPE;
+        Element enclosingElement = typeElement.getEnclosingElement();
+        Type parentType = null;
+        String packageName;
+        if (enclosingElement.getKind() == ElementKind.PACKAGE) {
+            PackageElement packageElement = (PackageElement) enclosingElement;
+            packageName = packageElement.getQualifiedName().toString();
+        } else {
+            parentType = extract(context, enclosingElement, null);
+            if (parentType == null) {
+                return null;
+            }
+            packageName = parentType.packageName;
+        }
+        type = new Type(
+                context,
+                typeElement.getModifiers(),
+                packageName,
+                typeElement.getSimpleName().toString(),
+                0,
+                annotation,
+                false,
+                false,
+                parameters,
+                parentType,
+                Collections.emptyList(),
+                Collections.emptyList(),
+                cu,
+                tree
+        );
+        context.internType(typeElement, type);
+        return type;
+    }
+
     @NonNull
     private static List<Type> parseBounds(@NonNull Context context, @Nullable TypeMirror typeMirror, @CheckForNull CompilationUnitTree cu, @NonNull List<Tree> tree) {
         if (typeMirror == null) {
@@ -586,7 +610,7 @@ public class Type {
     }
 
     public TypeMirror getTypeMirror() {
-        if (cu != null && tree != null) {
+        if (cu != null && tree != null && context.trees != null) {
             TreePath path = context.trees.getPath(cu, tree);
             return context.trees.getTypeMirror(path);
         } else if (isPrimate()) {
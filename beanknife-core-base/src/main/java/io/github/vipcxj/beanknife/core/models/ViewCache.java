@@ -0,0 +1,492 @@
+package io.github.vipcxj.beanknife.core.models;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.github.vipcxj.beanknife.core.ViewCodeGenerators;
+import io.github.vipcxj.beanknife.core.spi.ViewCodeGenerator;
+import io.github.vipcxj.beanknife.core.utils.Utils;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * The on-disk cache of the generated views.
+ * Each entry keeps the printed source of a view, the types it is generated from and a fingerprint of these types.
+ * When the fingerprint still matches, the source is written back directly without collecting and printing the view again,
+ * and the warnings reported while collecting the view are reported again.
+ * <p>
+ * The cache lives outside the Filer, so it is opt-in. The processor option <code>beanknife.cache=true</code> stores it in the directory
+ * <code>beanknife-cache/&lt;class output directory name&gt;</code> next to the class output directory,
+ * which requires the class output to be on the file system. The processor option <code>beanknife.cache.dir</code> enables it in the given directory.
+ */
+public class ViewCache {
+
+    public static final String OPTION_CACHE = "beanknife.cache";
+    public static final String OPTION_CACHE_DIR = "beanknife.cache.dir";
+    private static final String CACHE_DIR_NAME = "beanknife-cache";
+    private static final String ENTRY_SUFFIX = ".view";
+    private static final String FORMAT_VERSION = "2";
+    private static final String LOMBOK_CLASS = "lombok.Lombok";
+
+    private final ProcessingEnvironment processingEnv;
+    @CheckForNull
+    private final Path dir;
+    private final String processorVersion;
+    private int hits;
+    private int misses;
+
+    public ViewCache(@NonNull ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+        this.dir = resolveDir(processingEnv);
+        this.processorVersion = dir != null ? calcProcessorVersion() : "";
+    }
+
+    public boolean isEnabled() {
+        return dir != null;
+    }
+
+    /**
+     * Write the view file from the cache if its entry is still valid.
+     * @param processorData the processor data
+     * @param viewOfData the view configuration
+     * @return true if the view file is written, otherwise the view should be collected and printed,
+     * then written by {@link #writeViewFile(ProcessorData, ViewContext, String)}.
+     * @throws IOException if unable to write the view file
+     */
+    public boolean writeCachedViewFile(@NonNull ProcessorData processorData, @NonNull ViewOfData viewOfData) throws IOException {
+        if (dir == null) {
+            return false;
+        }
+        String genTypeName = processorData.getGenTypeName(viewOfData);
+        Entry entry = readEntry(getEntryFile(genTypeName));
+        if (entry != null) {
+            TypeElement[] dependencies = resolveDependencies(entry.dependencies);
+            if (dependencies != null && entry.fingerprint.equals(calcFingerprint(processorData, genTypeName, dependencies))) {
+                ++hits;
+                for (String warning : entry.warnings) {
+                    Utils.logWarn(processingEnv, warning);
+                }
+                writeSourceFile(genTypeName, dependencies, entry.source);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Print the view file, and update the cache.
+     * Without the cache, the view is streamed into the Filer instead of being printed into a string at first.
+     * @param processorData the processor data
+     * @param context the view context
+     * @throws IOException if unable to write the view file
+     */
+    public void printViewFile(@NonNull ProcessorData processorData, @NonNull ViewContext context) throws IOException {
+        if (dir != null) {
+            writeViewFile(processorData, context, processorData.printView(context));
+            return;
+        }
+        String genTypeName = context.getGenType().getQualifiedName();
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(genTypeName, Utils.calcViewDependencies(context));
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(sourceFile.openWriter()))) {
+            processorData.printView(context, writer);
+            if (writer.checkError()) {
+                throw new IOException("Unable to write the view file " + genTypeName + ".");
+            }
+        }
+    }
+
+    /**
+     * Write the printed view file, and update the cache.
+     * @param processorData the processor data
+     * @param context the view context
+     * @param source the printed source of the view
+     * @throws IOException if unable to write the view file
+     */
+    public void writeViewFile(@NonNull ProcessorData processorData, @NonNull ViewContext context, @NonNull String source) throws IOException {
+        String genTypeName = context.getGenType().getQualifiedName();
+        Element[] dependencies = Utils.calcViewDependencies(context);
+        writeSourceFile(genTypeName, dependencies, source);
+        if (dir == null) {
+            return;
+        }
+        ++misses;
+        Path entryFile = getEntryFile(genTypeName);
+        TypeElement[] typeDependencies = toTypeElements(dependencies);
+        if (typeDependencies != null) {
+            String fingerprint = calcFingerprint(processorData, genTypeName, typeDependencies);
+            writeEntry(entryFile, new Entry(fingerprint, typeDependencies, context.getErrors(), source));
+        } else {
+            Files.deleteIfExists(entryFile);
+        }
+    }
+
+    /**
+     * Report the hit and miss counts of the cache.
+     * @param messager the messager
+     */
+    public void report(@NonNull Messager messager) {
+        if (dir != null && hits + misses > 0) {
+            messager.printMessage(Diagnostic.Kind.NOTE, "BeanKnife view cache: " + hits + " hit(s), " + misses + " miss(es).");
+        }
+        hits = 0;
+        misses = 0;
+    }
+
+    @NonNull
+    private Path getEntryFile(@NonNull String genTypeName) {
+        return Objects.requireNonNull(dir).resolve(genTypeName + ENTRY_SUFFIX);
+    }
+
+    private void writeSourceFile(@NonNull String genTypeName, @NonNull Element[] dependencies, @NonNull String source) throws IOException {
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(genTypeName, dependencies);
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    @CheckForNull
+    private TypeElement[] resolveDependencies(@NonNull String[] names) {
+        Elements elementUtils = processingEnv.getElementUtils();
+        TypeElement[] dependencies = new TypeElement[names.length];
+        for (int i = 0; i < names.length; ++i) {
+            TypeElement dependency = elementUtils.getTypeElement(names[i]);
+            if (dependency == null) {
+                return null;
+            }
+            dependencies[i] = dependency;
+        }
+        return dependencies;
+    }
+
+    @CheckForNull
+    private static TypeElement[] toTypeElements(@NonNull Element[] elements) {
+        TypeElement[] typeElements = new TypeElement[elements.length];
+        for (int i = 0; i < elements.length; ++i) {
+            if (!(elements[i] instanceof TypeElement)) {
+                return null;
+            }
+            typeElements[i] = (TypeElement) elements[i];
+        }
+        return typeElements;
+    }
+
+    @CheckForNull
+    private static Entry readEntry(@NonNull Path entryFile) {
+        if (!Files.isRegularFile(entryFile)) {
+            return null;
+        }
+        try {
+            String content = new String(Files.readAllBytes(entryFile), StandardCharsets.UTF_8);
+            int start = 0;
+            int end = content.indexOf('\n', start);
+            if (end == -1 || !FORMAT_VERSION.equals(content.substring(start, end))) {
+                return null;
+            }
+            start = end + 1;
+            end = content.indexOf('\n', start);
+            String fingerprint = content.substring(start, end);
+            start = end + 1;
+            end = content.indexOf('\n', start);
+            String[] dependencies = new String[Integer.parseInt(content.substring(start, end))];
+            for (int i = 0; i < dependencies.length; ++i) {
+                start = end + 1;
+                end = content.indexOf('\n', start);
+                dependencies[i] = content.substring(start, end);
+            }
+            start = end + 1;
+            end = content.indexOf('\n', start);
+            List<String> warnings = new ArrayList<>();
+            int warningNum = Integer.parseInt(content.substring(start, end));
+            for (int i = 0; i < warningNum; ++i) {
+                start = end + 1;
+                end = content.indexOf('\n', start);
+                warnings.add(unescape(content.substring(start, end)));
+            }
+            return new Entry(fingerprint, dependencies, warnings, content.substring(end + 1));
+        } catch (IOException | RuntimeException e) {
+            // A broken entry is just a miss, it will be overwritten.
+            return null;
+        }
+    }
+
+    private void writeEntry(@NonNull Path entryFile, @NonNull Entry entry) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(FORMAT_VERSION).append('\n');
+        sb.append(entry.fingerprint).append('\n');
+        sb.append(entry.dependencies.length).append('\n');
+        for (String dependency : entry.dependencies) {
+            sb.append(dependency).append('\n');
+        }
+        sb.append(entry.warnings.size()).append('\n');
+        for (String warning : entry.warnings) {
+            sb.append(escape(warning)).append('\n');
+        }
+        sb.append(entry.source);
+        try {
+            Files.createDirectories(entryFile.getParent());
+            Path tmpFile = Files.createTempFile(entryFile.getParent(), entryFile.getFileName().toString(), ".tmp");
+            Files.write(tmpFile, sb.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(tmpFile, entryFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Unable to write the view cache " + entryFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * The fingerprint covers the processor itself, the processor options, the names of all the views (they decide how the unresolved types are fixed)
+     * and the signatures of all the types the view is generated from.
+     * Besides the types, their whole super type hierarchies, the annotation types used on them (with their meta annotations)
+     * and the types referenced by the annotation values, such as the converters, are covered too.
+     */
+    @NonNull
+    private String calcFingerprint(@NonNull ProcessorData processorData, @NonNull String genTypeName, @NonNull TypeElement[] dependencies) {
+        MessageDigest digest = createDigest();
+        update(digest, processorVersion);
+        update(digest, processingEnv.getSourceVersion());
+        update(digest, new TreeMap<>(processingEnv.getOptions()));
+        update(digest, genTypeName);
+        List<String> genTypeNames = new ArrayList<>(processorData.getGenTypeNames());
+        Collections.sort(genTypeNames);
+        for (String name : genTypeNames) {
+            update(digest, name);
+        }
+        Elements elementUtils = processingEnv.getElementUtils();
+        Set<String> visited = new HashSet<>();
+        Deque<TypeElement> types = new ArrayDeque<>(Arrays.asList(dependencies));
+        while (!types.isEmpty()) {
+            TypeElement type = types.poll();
+            if (visited.add(type.getQualifiedName().toString())) {
+                updateType(digest, elementUtils, type, types);
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static void updateType(@NonNull MessageDigest digest, @NonNull Elements elementUtils, @NonNull TypeElement type, @NonNull Deque<TypeElement> related) {
+        update(digest, type.getQualifiedName());
+        if (isJdkType(type)) {
+            // Covered by the source version and the processor version.
+            return;
+        }
+        update(digest, type.getKind());
+        update(digest, type.getModifiers());
+        for (TypeParameterElement typeParameter : type.getTypeParameters()) {
+            update(digest, typeParameter.getSimpleName());
+            update(digest, typeParameter.getBounds());
+        }
+        update(digest, type.getSuperclass());
+        update(digest, type.getInterfaces());
+        addRelatedType(related, type.getSuperclass());
+        for (TypeMirror anInterface : type.getInterfaces()) {
+            addRelatedType(related, anInterface);
+        }
+        updateAnnotations(digest, type.getAnnotationMirrors(), related);
+        update(digest, elementUtils.getDocComment(type));
+        for (Element member : type.getEnclosedElements()) {
+            update(digest, member.getKind());
+            update(digest, member.getSimpleName());
+            update(digest, member.getModifiers());
+            update(digest, member.asType());
+            updateAnnotations(digest, member.getAnnotationMirrors(), related);
+            update(digest, elementUtils.getDocComment(member));
+            if (member instanceof ExecutableElement) {
+                ExecutableElement executable = (ExecutableElement) member;
+                for (VariableElement parameter : executable.getParameters()) {
+                    update(digest, parameter.getSimpleName());
+                    updateAnnotations(digest, parameter.getAnnotationMirrors(), related);
+                }
+                update(digest, executable.getDefaultValue());
+            } else if (member instanceof VariableElement) {
+                update(digest, ((VariableElement) member).getConstantValue());
+            }
+        }
+    }
+
+    private static void updateAnnotations(@NonNull MessageDigest digest, @NonNull List<? extends AnnotationMirror> annotations, @NonNull Deque<TypeElement> related) {
+        update(digest, annotations);
+        for (AnnotationMirror annotation : annotations) {
+            addRelatedType(related, annotation.getAnnotationType());
+            for (AnnotationValue value : annotation.getElementValues().values()) {
+                addRelatedTypes(related, value.getValue());
+            }
+        }
+    }
+
+    private static void addRelatedTypes(@NonNull Deque<TypeElement> related, @CheckForNull Object annotationValue) {
+        if (annotationValue instanceof TypeMirror) {
+            addRelatedType(related, (TypeMirror) annotationValue);
+        } else if (annotationValue instanceof AnnotationMirror) {
+            AnnotationMirror annotation = (AnnotationMirror) annotationValue;
+            addRelatedType(related, annotation.getAnnotationType());
+            for (AnnotationValue value : annotation.getElementValues().values()) {
+                addRelatedTypes(related, value.getValue());
+            }
+        } else if (annotationValue instanceof List) {
+            for (Object value : (List<?>) annotationValue) {
+                if (value instanceof AnnotationValue) {
+                    addRelatedTypes(related, ((AnnotationValue) value).getValue());
+                }
+            }
+        }
+    }
+
+    private static void addRelatedType(@NonNull Deque<TypeElement> related, @NonNull TypeMirror type) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            related.add((TypeElement) ((DeclaredType) type).asElement());
+        }
+    }
+
+    private static boolean isJdkType(@NonNull TypeElement type) {
+        String name = type.getQualifiedName().toString();
+        return name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+    private static void update(@NonNull MessageDigest digest, @CheckForNull Object value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    @NonNull
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The cache must be dropped when the processor, any code generator or lombok is upgraded,
+     * so the location and the modification time of their class path entries are part of the fingerprint.
+     */
+    @NonNull
+    private static String calcProcessorVersion() {
+        StringBuilder sb = new StringBuilder(FORMAT_VERSION);
+        sb.append(';').append(System.getProperty("java.version"));
+        appendCodeSource(sb, ViewCache.class);
+        try {
+            appendCodeSource(sb, Class.forName(LOMBOK_CLASS, false, ViewCache.class.getClassLoader()));
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            // lombok is not on the processor path.
+        }
+        for (ViewCodeGenerator generator : ViewCodeGenerators.INSTANCE.getGenerators()) {
+            sb.append(';').append(generator.getClass().getName());
+            appendCodeSource(sb, generator.getClass());
+        }
+        return sb.toString();
+    }
+
+    private static void appendCodeSource(@NonNull StringBuilder sb, @NonNull Class<?> type) {
+        try {
+            CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+            if (codeSource != null && codeSource.getLocation() != null) {
+                File file = new File(codeSource.getLocation().toURI());
+                sb.append(';').append(file.getPath()).append(':').append(file.lastModified()).append(':').append(file.length());
+            }
+        } catch (Exception ignored) {
+            sb.append(";unknown");
+        }
+    }
+
+    @CheckForNull
+    private static Path resolveDir(@NonNull ProcessingEnvironment processingEnv) {
+        Map<String, String> options = processingEnv.getOptions();
+        String enabled = options.get(OPTION_CACHE);
+        if ("false".equalsIgnoreCase(enabled)) {
+            return null;
+        }
+        String dir = options.get(OPTION_CACHE_DIR);
+        if (dir != null && !dir.isEmpty()) {
+            return Paths.get(dir);
+        }
+        if (!"true".equalsIgnoreCase(enabled)) {
+            return null;
+        }
+        try {
+            FileObject probe = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", CACHE_DIR_NAME);
+            URI uri = probe.toUri();
+            if (!"file".equals(uri.getScheme())) {
+                return null;
+            }
+            Path classOutput = Paths.get(uri).getParent();
+            if (classOutput == null || classOutput.getParent() == null || classOutput.getFileName() == null) {
+                return null;
+            }
+            return classOutput.getParent().resolve(CACHE_DIR_NAME).resolve(classOutput.getFileName().toString());
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    @NonNull
+    private static String escape(@NonNull String message) {
+        return message.replace("\\", "\\\\").replace("\r", "\\r").replace("\n", "\\n");
+    }
+
+    @NonNull
+    private static String unescape(@NonNull String message) {
+        StringBuilder sb = new StringBuilder(message.length());
+        for (int i = 0; i < message.length(); ++i) {
+            char c = message.charAt(i);
+            if (c == '\\' && i + 1 < message.length()) {
+                char next = message.charAt(++i);
+                sb.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static class Entry {
+        private final String fingerprint;
+        private final String[] dependencies;
+        private final List<String> warnings;
+        private final String source;
+
+        private Entry(String fingerprint, String[] dependencies, List<String> warnings, String source) {
+            this.fingerprint = fingerprint;
+            this.dependencies = dependencies;
+            this.warnings = warnings;
+            this.source = source;
+        }
+
+        private Entry(String fingerprint, TypeElement[] dependencies, List<String> warnings, String source) {
+            this.fingerprint = fingerprint;
+            this.dependencies = new String[dependencies.length];
+            for (int i = 0; i < dependencies.length; ++i) {
+                this.dependencies[i] = dependencies[i].getQualifiedName().toString();
+            }
+            this.warnings = warnings;
+            this.source = source;
+        }
+    }
+}
@@ -7,32 +7,28 @@ import io.github.vipcxj.beanknife.core.ViewCodeGenerators;
 import io.github.vipcxj.beanknife.core.spi.ViewCodeGenerator;
 import io.github.vipcxj.beanknife.core.utils.LombokUtils;
 import io.github.vipcxj.beanknife.core.utils.ParamInfo;
+import io.github.vipcxj.beanknife.core.utils.PatternSet;
 import io.github.vipcxj.beanknife.core.utils.Utils;
 import io.github.vipcxj.beanknife.core.utils.VarMapper;
 import io.github.vipcxj.beanknife.runtime.BeanProviders;
-import io.github.vipcxj.beanknife.runtime.PropertyConverter;
 import io.github.vipcxj.beanknife.runtime.annotations.*;
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
 import io.github.vipcxj.beanknife.runtime.utils.AnnotationDest;
 import io.github.vipcxj.beanknife.runtime.utils.BeanUsage;
 import io.github.vipcxj.beanknife.runtime.utils.CacheType;
+import io.github.vipcxj.beanknife.runtime.utils.DynamicCacheType;
 import org.apache.commons.text.StringEscapeUtils;
 
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
 import javax.lang.model.element.*;
-import javax.lang.model.type.ArrayType;
-import javax.lang.model.type.DeclaredType;
-import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
-import javax.lang.model.util.Types;
 import java.io.PrintWriter;
 import java.io.Serializable;
 import java.io.StringWriter;
-import java.lang.annotation.Annotation;
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class ViewContext extends Context {
@@ -42,19 +38,49 @@ public class ViewContext extends Context {
     private final static String SIMPLE_TYPE_BEAN_PROVIDERS = "BeanProviders";
     private final static String TYPE_BEAN_USAGE = "io.github.vipcxj.beanknife.runtime.utils.BeanUsage";
     private final static String SIMPLE_TYPE_BEAN_USAGE = "BeanUsage";
+    private final static String TYPE_PARALLEL_READERS = "io.github.vipcxj.beanknife.runtime.utils.ParallelReaders";
+    private final static String SIMPLE_TYPE_PARALLEL_READERS = "ParallelReaders";
+    private final static String TYPE_EXECUTOR = "java.util.concurrent.Executor";
+    private final static String SIMPLE_TYPE_EXECUTOR = "Executor";
+    private final static String TYPE_LAZY_READERS = "io.github.vipcxj.beanknife.runtime.utils.LazyReaders";
+    private final static String SIMPLE_TYPE_LAZY_READERS = "LazyReaders";
+    private final static String TYPE_STREAM = "java.util.stream.Stream";
+    private final static String SIMPLE_TYPE_STREAM = "Stream";
+    private final static String TYPE_ITERATOR = "java.util.Iterator";
+    private final static String SIMPLE_TYPE_ITERATOR = "Iterator";
+    private final static String TYPE_FUNCTION = "java.util.function.Function";
+    private final static String SIMPLE_TYPE_FUNCTION = "Function";
+    private final static String TYPE_VIEW_READ_CONTEXT = "io.github.vipcxj.beanknife.runtime.utils.ViewReadContext";
+    private final static String SIMPLE_TYPE_VIEW_READ_CONTEXT = "ViewReadContext";
+    private final static String READ_CONTEXT_VAR = "context";
+    private final static String TYPE_COLLECTIONS = "java.util.Collections";
+    private final static String SIMPLE_TYPE_COLLECTIONS = "Collections";
+    private final static String BATCH_SOURCES_VAR = "batchSources";
     private final ViewOfData viewOf;
     private final Type targetType;
     private final Type configType;
     private final Type genType;
     private final Type generatedType;
     private final boolean samePackage;
-    private List<Property> baseProperties;
+    private PropertyTable baseProperties;
     private List<Property> extraProperties;
     private final Map<String, ParamInfo> extraParams;
+    private List<Property> batchProperties;
+    private final Map<String, String> readConditions;
     private boolean useConfigureBeanVarInRead;
     private boolean useCachedConfigureBeanField;
+    private boolean useConfigureBeanHolder;
+    private String configureBeanHolderType;
+    private final Map<String, Type> sharedConverters;
+    private final Map<String, String> sharedConverterVars;
+    private boolean printInGraphMode;
+    private final Map<String, String> dynamicCacheVars;
+    private final Map<String, String> dynamicCachedFlagVars;
+    private final List<String> classVars;
+    @CheckForNull
+    private ModelSnapshot modelSnapshot;
 
-    public ViewContext(@NonNull Trees trees, @NonNull ProcessingEnvironment processingEnv, @NonNull ProcessorData processorData, @NonNull ViewOfData viewOf) {
+    public ViewContext(@CheckForNull Trees trees, @NonNull ProcessingEnvironment processingEnv, @NonNull ProcessorData processorData, @NonNull ViewOfData viewOf) {
         super(trees, processingEnv, processorData);
         this.viewOf = viewOf;
         this.targetType = Type.extract(this, viewOf.getTargetElement());
@@ -70,9 +96,17 @@ public class ViewContext extends Context {
         this.samePackage = this.targetType.isSamePackage(this.genType);
         this.extraProperties = new ArrayList<>();
         this.extraParams = new TreeMap<>();
+        this.batchProperties = new ArrayList<>();
+        this.readConditions = new HashMap<>();
         this.containers.push(Type.fromPackage(this, this.packageName));
         this.useCachedConfigureBeanField = false;
         this.useConfigureBeanVarInRead = false;
+        this.useConfigureBeanHolder = false;
+        this.sharedConverters = new LinkedHashMap<>();
+        this.sharedConverterVars = new HashMap<>();
+        this.dynamicCacheVars = new HashMap<>();
+        this.dynamicCachedFlagVars = new HashMap<>();
+        this.classVars = new ArrayList<>();
     }
 
     public ViewOfData getViewOf() {
@@ -91,11 +125,12 @@ public class ViewContext extends Context {
         return configType;
     }
 
+    @CheckForNull
     public Trees getTrees() {
         return trees;
     }
 
-    public List<Property> getBaseProperties() {
+    public PropertyTable getBaseProperties() {
         return baseProperties;
     }
 
@@ -115,6 +150,18 @@ public class ViewContext extends Context {
         return !extraParams.isEmpty();
     }
 
+    public List<Property> getBatchProperties() {
+        return batchProperties;
+    }
+
+    public boolean hasBatchProperties() {
+        return !batchProperties.isEmpty();
+    }
+
+    public boolean isGraphMode() {
+        return viewOf.isGraphMode() && !hasExtraProperties() && !hasExtraParams();
+    }
+
     public boolean hasFieldsConstructor() {
         return viewOf.getFieldsConstructor() != null;
     }
@@ -149,15 +196,16 @@ public class ViewContext extends Context {
     private int checkAnnConflict(
             @CheckForNull NewViewProperty newViewProperty,
             @CheckForNull OverrideViewProperty overrideViewProperty,
-            @CheckForNull MapViewProperty mapViewProperty
+            @CheckForNull MapViewProperty mapViewProperty,
+            @CheckForNull BatchViewProperty batchViewProperty
     ) {
         return (newViewProperty != null ? 1 : 0)
                 + (overrideViewProperty != null ? 1 : 0)
-                + (mapViewProperty != null ? 1 : 0);
+                + (mapViewProperty != null ? 1 : 0)
+                + (batchViewProperty != null ? 1 : 0);
     }
 
     public void collectData() {
-        System.out.println("collecting data...");
         TypeElement targetElement = viewOf.getTargetElement();
         TypeElement configElement = viewOf.getConfigElement();
         getProperties().clear();
@@ -213,80 +261,82 @@ public class ViewContext extends Context {
                 return property;
             }
         });
-        this.baseProperties = new ArrayList<>(getProperties());
-        List<Pattern> includePatterns = new ArrayList<>();
-        for (String p : viewOf.getIncludePattern().split(",\\s*|\\s+")) {
-            try {
-                Pattern pattern = Pattern.compile(p);
-                includePatterns.add(pattern);
-            } catch (PatternSyntaxException e) {
-                error("Invalid include pattern part: \"" + p + "\"." + System.lineSeparator() +
-                        e.getMessage() + System.lineSeparator() +
-                        "Include pattern is a space or comma divided string which each part is a valid regex pattern. " +
-                        "For example: \"[aA]pple, [oO]range\" matches apple, Apple, orange and Orange."
-                );
-            }
-        }
-        List<Pattern> excludePatterns = new ArrayList<>();
-        for (String p : viewOf.getExcludePattern().split(",\\s*|\\s+")) {
-            try {
-                Pattern pattern = Pattern.compile(p);
-                excludePatterns.add(pattern);
-            } catch (PatternSyntaxException e) {
-                error("Invalid exclude pattern part: \"" + p + "\"." + System.lineSeparator() +
-                        e.getMessage() + System.lineSeparator() +
-                        "Exclude pattern is a space or comma divided string which each part is a valid regex pattern. " +
-                        "For example: \"[aA]pple, [oO]range\" matches apple, Apple, orange and Orange."
-                );
-            }
-        }
-        getProperties().removeIf(
-                property -> (includePatterns.stream().noneMatch(pattern -> pattern.matcher(property.getName()).matches())
-                        && Arrays.stream(viewOf.getIncludes()).noneMatch(include -> include.equals(property.getName())))
-                        || excludePatterns.stream().anyMatch(pattern -> pattern.matcher(property.getName()).matches())
-                        || Arrays.stream(viewOf.getExcludes()).anyMatch(exclude -> exclude.equals(property.getName()))
-                        || viewOf.getExtraExcludes().contains(property.getName())
-        );
-        List<Property> baseProperties = new ArrayList<>(getProperties());
+        this.baseProperties = new PropertyTable(getProperties());
+        PatternSet includePatterns = processorData.getPatternSet(viewOf.getIncludePattern());
+        for (Map.Entry<String, String> entry : includePatterns.getInvalidParts().entrySet()) {
+            error("Invalid include pattern part: \"" + entry.getKey() + "\"." + System.lineSeparator() +
+                    entry.getValue() + System.lineSeparator() +
+                    "Include pattern is a space or comma divided string which each part is a valid regex pattern. " +
+                    "For example: \"[aA]pple, [oO]range\" matches apple, Apple, orange and Orange."
+            );
+        }
+        PatternSet excludePatterns = processorData.getPatternSet(viewOf.getExcludePattern());
+        for (Map.Entry<String, String> entry : excludePatterns.getInvalidParts().entrySet()) {
+            error("Invalid exclude pattern part: \"" + entry.getKey() + "\"." + System.lineSeparator() +
+                    entry.getValue() + System.lineSeparator() +
+                    "Exclude pattern is a space or comma divided string which each part is a valid regex pattern. " +
+                    "For example: \"[aA]pple, [oO]range\" matches apple, Apple, orange and Orange."
+            );
+        }
+        Set<String> includes = new HashSet<>(Arrays.asList(viewOf.getIncludes()));
+        Set<String> excludes = new HashSet<>(Arrays.asList(viewOf.getExcludes()));
+        getProperties().removeIf(property -> {
+            String name = property.getName();
+            return (!includePatterns.matches(name) && !includes.contains(name))
+                    || excludePatterns.matches(name)
+                    || excludes.contains(name)
+                    || viewOf.getExtraExcludes().contains(name);
+        });
+        PropertyTable baseProperties = new PropertyTable(getProperties());
         if (!Objects.equals(configElement, targetElement)) {
             List<? extends Element> configMembers = elementUtils.getAllMembers(configElement);
             for (Element member : configMembers) {
                 NewViewProperty newViewProperty = member.getAnnotation(NewViewProperty.class);
                 OverrideViewProperty overrideViewProperty = member.getAnnotation(OverrideViewProperty.class);
                 MapViewProperty mapViewProperty = member.getAnnotation(MapViewProperty.class);
-                int exists = checkAnnConflict(newViewProperty, overrideViewProperty, mapViewProperty);
+                BatchViewProperty batchViewProperty = member.getAnnotation(BatchViewProperty.class);
+                int exists = checkAnnConflict(newViewProperty, overrideViewProperty, mapViewProperty, batchViewProperty);
                 if (exists > 1) {
-                    error("NewViewProperty, OverrideViewProperty and MapViewProperty should not be put on the same property.");
+                    error("NewViewProperty, OverrideViewProperty, MapViewProperty and BatchViewProperty should not be put on the same property.");
                     continue;
                 }
                 if (exists == 0) {
                     continue;
                 }
                 if (newViewProperty != null) {
-                    if (baseProperties.stream().anyMatch(p -> p.getName().equals(newViewProperty.value()))) {
+                    if (baseProperties.getByName(newViewProperty.value()) != null) {
                         error("The property " + newViewProperty.value() + " already exists, so the @NewViewProperty annotation is invalid and has been ignored.");
                         continue;
                     }
                 }
+                if (batchViewProperty != null) {
+                    if (baseProperties.getByName(batchViewProperty.value()) != null) {
+                        error("The property " + batchViewProperty.value() + " already exists, so the @BatchViewProperty annotation is invalid and has been ignored.");
+                        continue;
+                    }
+                    if (member.getAnnotation(Dynamic.class) != null) {
+                        error("The batch property " + batchViewProperty.value() + " can not be dynamic, so the @BatchViewProperty annotation is invalid and has been ignored.");
+                        continue;
+                    }
+                }
                 if (overrideViewProperty != null) {
-                    if (baseProperties.stream().noneMatch(p -> p.getName().equals(overrideViewProperty.value()))) {
+                    if (baseProperties.getByName(overrideViewProperty.value()) == null) {
                         error("The property " + overrideViewProperty.value() + " does not exists, so the @OverrideViewProperty annotation is invalid and has been ignored.");
                         continue;
                     }
                 }
                 if (mapViewProperty != null) {
-                    if (baseProperties.stream().noneMatch(p -> p.getName().equals(mapViewProperty.map()))) {
+                    if (baseProperties.getByName(mapViewProperty.map()) == null) {
                         error("The property " + mapViewProperty.map() + " does not exists, so the @MapViewProperty annotation is invalid and has been ignored.");
                         continue;
                     }
-                    if (!mapViewProperty.name().equals(mapViewProperty.map()) && getProperties().stream().anyMatch(p -> p.getName().equals(mapViewProperty.name()))) {
+                    if (!mapViewProperty.name().equals(mapViewProperty.map()) && getProperty(mapViewProperty.name()) != null) {
                         error("The property " + mapViewProperty.name() + " already exists, so the @MapViewProperty annotation is invalid and has been ignored.");
                         continue;
                     }
                 }
                 if (member.getKind() == ElementKind.FIELD) {
                     if (overrideViewProperty != null || mapViewProperty != null) {
-                        List<DeclaredType> converters = getConverters(member);
                         String name = overrideViewProperty != null ? overrideViewProperty.value() : mapViewProperty.name();
                         String mappedName = overrideViewProperty != null ? overrideViewProperty.value() : mapViewProperty.map();
                         Type newType = Type.extract(this, member);
@@ -301,10 +351,10 @@ public class ViewContext extends Context {
                                 Property newProperty = p.extend(member, name)
                                         .withGetterAccess(Utils.resolveGetterAccess(viewOf, getterAccess))
                                         .withSetterAccess(Utils.resolveSetterAccess(viewOf, setterAccess));
-                                TypeElement converter = selectConverter(member, converters, member.asType(), p.getTypeMirror());
+                                ConverterRegistry.ConverterInfo converter = selectConverter(member, member.asType(), p.getTypeMirror());
                                 Type converterType = null;
                                 if (converter != null) {
-                                    converterType = Type.extract(this, converter);
+                                    converterType = Type.extract(this, converter.getElement());
                                     if (converterType == null) {
                                         error("The converter of the property " + p.getName() + " can not be resolved. So this property is ignored.");
                                         return null;
@@ -320,7 +370,7 @@ public class ViewContext extends Context {
                                         if (viewContext == null) {
                                             throw new NullPointerException("This is impossible!");
                                         }
-                                        if (!viewContext.isLocked()) {
+                                        if (!viewContext.isLocked() && !(viewOf.isGraphMode() && viewContext.getViewOf().isGraphMode())) {
                                             error("There exists  circular reference on the property " + p.getName() + ". This may cause the generated class not stable and produce unpredictable behavior.");
                                         }
                                         if (viewContext.hasExtraProperties() || viewContext.hasExtraParams()) {
@@ -335,7 +385,7 @@ public class ViewContext extends Context {
                                     }
                                 }
                                 newProperty = newProperty.withType(newType, isView);
-                                return converterType != null ? newProperty.withConverter(converterType) : newProperty;
+                                return converterType != null ? newProperty.withConverter(converterType, converter.isShared()) : newProperty;
                             } else {
                                 return p;
                             }
@@ -371,7 +421,9 @@ public class ViewContext extends Context {
                         continue;
                     }
                     Dynamic dynamic = member.getAnnotation(Dynamic.class);
-                    if (dynamic != null) {
+                    if (batchViewProperty != null) {
+                        extractor = new BatchMethodExtractor(this, (ExecutableElement) member, batchViewProperty.value());
+                    } else if (dynamic != null) {
                         extractor = new DynamicMethodExtractor(this, (ExecutableElement) member, genType);
                     } else {
                         extractor = new StaticMethodExtractor(this, (ExecutableElement) member);
@@ -391,14 +443,14 @@ public class ViewContext extends Context {
                                 return p;
                             }
                         });
-                    } else if (newViewProperty != null) {
-                        String name = newViewProperty.value();
+                    } else if (newViewProperty != null || batchViewProperty != null) {
+                        String name = newViewProperty != null ? newViewProperty.value() : batchViewProperty.value();
                         Type type = extractor.getReturnType();
-                        Access getterAccess = Utils.resolveGetterAccess(viewOf, newViewProperty.getter());
-                        Access setterAccess = Utils.resolveSetterAccess(viewOf, newViewProperty.setter());
+                        Access getterAccess = Utils.resolveGetterAccess(viewOf, newViewProperty != null ? newViewProperty.getter() : batchViewProperty.getter());
+                        Access setterAccess = Utils.resolveSetterAccess(viewOf, newViewProperty != null ? newViewProperty.setter() : batchViewProperty.setter());
                         Modifier modifier = Utils.accessToModifier(getterAccess);
                         Property property = new Property(
-                                newViewProperty.value(),
+                                name,
                                 false,
                                 modifier,
                                 getterAccess,
@@ -426,7 +478,9 @@ public class ViewContext extends Context {
             importVariable(property.getType());
             Extractor extractor = property.getExtractor();
             if (extractor != null && !extractor.isDynamic()) {
-                List<ParamInfo> paramInfoList = ((StaticMethodExtractor) extractor).getParamInfoList();
+                List<ParamInfo> paramInfoList = property.isBatchMethod()
+                        ? ((BatchMethodExtractor) extractor).getParamInfoList()
+                        : ((StaticMethodExtractor) extractor).getParamInfoList();
                 boolean conflict = false;
                 for (ParamInfo paramInfo : paramInfoList) {
                     if (paramInfo.isExtraParam()) {
@@ -470,6 +524,9 @@ public class ViewContext extends Context {
                 if (extractor.isDynamic() && viewOf.getConfigureBeanCacheType() == CacheType.LOCAL) {
                     useCachedConfigureBeanField = true;
                 }
+                if (viewOf.getConfigureBeanCacheType() == CacheType.STATIC) {
+                    useConfigureBeanHolder = true;
+                }
                 if (!extractor.isDynamic()) {
                     useConfigureBeanVarInRead = true;
                 }
@@ -493,23 +550,166 @@ public class ViewContext extends Context {
         }
         extraProperties = getProperties()
                 .stream()
-                .filter(p -> !p.isDynamic() && !p.isCustomMethod() && p.getBase() == null)
+                .filter(p -> !p.isDynamic() && !p.isCustomMethod() && !p.isBatchMethod() && p.getBase() == null)
+                .collect(Collectors.toList());
+        batchProperties = getProperties()
+                .stream()
+                .filter(Property::isBatchMethod)
                 .collect(Collectors.toList());
+        // The lazy and parallel readers are only printed without the extra properties and params, see printCollectionReaders.
+        if (!hasExtraProperties() && !hasExtraParams()) {
+            importVariable(TYPE_LAZY_READERS, SIMPLE_TYPE_LAZY_READERS);
+            importVariable(TYPE_STREAM, SIMPLE_TYPE_STREAM);
+            importVariable(TYPE_ITERATOR, SIMPLE_TYPE_ITERATOR);
+            importVariable(TYPE_FUNCTION, SIMPLE_TYPE_FUNCTION);
+            if (viewOf.isParallelReader()) {
+                importVariable(TYPE_PARALLEL_READERS, SIMPLE_TYPE_PARALLEL_READERS);
+                importVariable(TYPE_EXECUTOR, SIMPLE_TYPE_EXECUTOR);
+            }
+        }
+        if (hasBatchProperties()) {
+            importVariable(TYPE_COLLECTIONS, SIMPLE_TYPE_COLLECTIONS);
+            for (Property batchProperty : batchProperties) {
+                importVariable(((BatchMethodExtractor) batchProperty.getExtractor()).getMapType());
+            }
+        }
+        if (viewOf.isGraphMode()) {
+            if (hasExtraProperties() || hasExtraParams()) {
+                error("The graph mode is ignored, because the view has extra properties or extra params.");
+            } else {
+                importVariable(TYPE_VIEW_READ_CONTEXT, SIMPLE_TYPE_VIEW_READ_CONTEXT);
+            }
+        }
 
-        System.out.println("ready generators...");
         for (ViewCodeGenerator generator : ViewCodeGenerators.INSTANCE.getGenerators()) {
-            System.out.println("Find generator " + generator.getClass().getName() + ".");
             generator.ready(this);
         }
-        System.out.println("All generators have been ready.");
+        collectReadConditions();
 
         lock();
     }
 
+    @Override
+    public void lock() {
+        super.lock();
+        classVars.add(getConfigureBeanFieldVar());
+        for (Property property : getProperties()) {
+            Type converter = property.getConverter();
+            if (converter != null && property.isSharedConverter()) {
+                String qualifiedName = converter.getQualifiedName();
+                if (!sharedConverters.containsKey(qualifiedName)) {
+                    String simpleName = converter.getSimpleName();
+                    String var = newClassVar("shared" + simpleName);
+                    sharedConverters.put(qualifiedName, converter);
+                    sharedConverterVars.put(qualifiedName, var);
+                }
+            }
+        }
+        if (useConfigureBeanHolder) {
+            String holderType = "ConfigureBeanHolder";
+            while (hasSymbol(holderType) || holderType.equals(genType.getSimpleName())) {
+                holderType += "_";
+            }
+            configureBeanHolderType = holderType;
+        }
+        for (Property property : getProperties()) {
+            if (isCachedDynamicProperty(property)) {
+                String cacheVar = newClassVar(property.getName() + "Cache");
+                String flagVar = newClassVar(property.getName() + "Cached");
+                dynamicCacheVars.put(property.getName(), cacheVar);
+                dynamicCachedFlagVars.put(property.getName(), flagVar);
+            }
+        }
+    }
+
+    /**
+     * Allocate a new field name of the generated class,
+     * which conflicts with neither the property fields nor the other allocated fields.
+     * @param varName the expected name
+     * @return the allocated name
+     */
+    public String newClassVar(@NonNull String varName) {
+        String var = calcNewVar(varName, classVars.toArray(new String[0]));
+        classVars.add(var);
+        return var;
+    }
+
+    private static boolean isCachedDynamicProperty(@NonNull Property property) {
+        return property.isDynamic() && ((DynamicMethodExtractor) property.getExtractor()).isCached();
+    }
+
+    public String getDynamicCacheVar(@NonNull Property property) {
+        return dynamicCacheVars.get(property.getName());
+    }
+
+    public String getDynamicCachedFlagVar(@NonNull Property property) {
+        return dynamicCachedFlagVars.get(property.getName());
+    }
+
+    /**
+     * Whether the setter of the property should hold the lock of the view.
+     * The thread safe cached getters calculate and publish the value while holding the lock,
+     * so the setter must update the property and invalidate the caches under the same lock,
+     * otherwise a getter racing with the setter may publish a value calculated from the old property after the invalidation.
+     * @param property the property being set
+     * @return true if a thread safe cached dynamic property depends on the property
+     */
+    public boolean isSetterSynchronized(@NonNull Property property) {
+        for (Property dynamicProperty : getProperties()) {
+            if (isCachedDynamicProperty(dynamicProperty)) {
+                DynamicMethodExtractor extractor = (DynamicMethodExtractor) dynamicProperty.getExtractor();
+                if (extractor.getCacheType() == DynamicCacheType.THREAD_SAFE && extractor.dependsOn(property)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Print the statements which invalidate the cached dynamic properties depending on the property.
+     * Used by the setter of the property.
+     * @param writer the writer
+     * @param property the property being set
+     * @param indent the indent
+     * @param indentNum the indent number
+     */
+    public void printInvalidateDynamicCaches(@NonNull PrintWriter writer, @NonNull Property property, @NonNull String indent, int indentNum) {
+        for (Property dynamicProperty : getProperties()) {
+            if (isCachedDynamicProperty(dynamicProperty) && ((DynamicMethodExtractor) dynamicProperty.getExtractor()).dependsOn(property)) {
+                Utils.printIndent(writer, indent, indentNum);
+                writer.print("this.");
+                writer.print(getDynamicCachedFlagVar(dynamicProperty));
+                writer.println(" = false;");
+            }
+        }
+    }
+
+    /**
+     * Print the converter instance used by the property.
+     * A shared converter is referenced by its static field, otherwise a new instance is created.
+     * @param writer the writer
+     * @param property the property with converter
+     */
+    public void printConverterInstance(@NonNull PrintWriter writer, @NonNull Property property) {
+        Type converter = property.getConverter();
+        if (converter == null) {
+            throw new IllegalArgumentException("The property " + property.getName() + " has no converter.");
+        }
+        String var = property.isSharedConverter() ? sharedConverterVars.get(converter.getQualifiedName()) : null;
+        if (var != null) {
+            writer.print(var);
+        } else {
+            converter.startInvokeNew(writer, this);
+            converter.endInvokeNew(writer);
+        }
+    }
+
     @CheckForNull
     public ViewContext getViewContext(@NonNull Type type) {
         if (isViewType(type)) {
-            return processorData.getViewContext(getViewData(type));
+            // The view context is collected lazily, which accesses the javac model.
+            return withModel(() -> processorData.getViewContext(getViewData(type)));
         }
         if ((type.isType(List.class))
                 || type.isType(Stack.class)
@@ -547,118 +747,15 @@ public class ViewContext extends Context {
         }
     }
 
-    private List<DeclaredType> getConverters(Element element) {
-        return Utils.getAnnotationsOn(getProcessingEnv().getElementUtils(), element, UsePropertyConverter.class, UsePropertyConverters.class)
-                .stream().map(annotation -> {
-                    Map<? extends ExecutableElement, ? extends AnnotationValue> attributes = getProcessingEnv().getElementUtils().getElementValuesWithDefaults(annotation);
-                    return Utils.getTypeAnnotationValue(annotation, attributes, "value");
-                }).collect(Collectors.toList());
-    }
-
-    private int calcTypeAssignScore(DeclaredType beAssigned, DeclaredType toAssign) {
-        if (getProcessingEnv().getTypeUtils().isSameType(beAssigned, toAssign)) {
-            return 0;
-        }
-        TypeElement beAssignedElement = (TypeElement) beAssigned.asElement();
-        TypeElement toAssignElement = (TypeElement) toAssign.asElement();
-        boolean beAssignedIsInterface = beAssignedElement.getKind() == ElementKind.INTERFACE;
-        boolean beAssignedIsAnnotation = Utils.isThisTypeElement(beAssignedElement, Annotation.class);
-        boolean beAssignedIsEnum = Utils.isThisTypeElement(beAssignedElement, Enum.class);
-        boolean toAssignIsAnnotation = toAssignElement.getKind() == ElementKind.ANNOTATION_TYPE;
-        boolean toAssignIsClass = toAssignElement.getKind() == ElementKind.CLASS;
-        boolean toAssignIsEnum = toAssignElement.getKind() == ElementKind.ENUM;
-        int score = -1;
-        if (
-                beAssignedElement.getKind() == toAssignElement.getKind()
-                || (beAssignedIsInterface && toAssignIsClass)
-                || (beAssignedIsAnnotation && toAssignIsAnnotation)
-                || (beAssignedIsEnum && toAssignIsEnum)
-        ) {
-            if (beAssignedIsInterface) {
-                for (TypeMirror anInterface : toAssignElement.getInterfaces()) {
-                    int parentScore = calcTypeAssignScore(beAssigned, (DeclaredType) anInterface);
-                    if (parentScore >= 0 && (score == -1 || score > parentScore + 1)) {
-                        score = parentScore + 1;
-                    }
-                }
-            }
-            if (beAssignedIsAnnotation && toAssignIsAnnotation) {
-                score = 1;
-            }
-            if (toAssignIsClass) {
-                TypeMirror superClass = toAssignElement.getSuperclass();
-                if (superClass.getKind() != TypeKind.NONE) {
-                    int parentScore = calcTypeAssignScore(beAssigned, (DeclaredType) superClass);
-                    if (parentScore >= 0 && (score == -1 || score > parentScore + 1)) {
-                        score = parentScore + 1;
-                    }
-                }
-            }
-            if (beAssignedIsEnum && toAssignIsEnum) {
-                score = 1;
-            }
-        }
-        return score;
-    }
-
-    // let beAssigned := toAssign
-    private int calcTypeAssignScore(TypeMirror beAssigned, TypeMirror toAssign) {
-        Types typeUtils = getProcessingEnv().getTypeUtils();
-        if (!typeUtils.isAssignable(toAssign, beAssigned)) {
-            return -1;
-        }
-        if (beAssigned.getKind() == TypeKind.ARRAY) {
-            ArrayType beAssignedArrayType = (ArrayType) beAssigned;
-            ArrayType toAssignArrayType = (ArrayType) toAssign;
-            return calcTypeAssignScore(beAssignedArrayType.getComponentType(), toAssignArrayType.getComponentType());
-        } else if (beAssigned.getKind().isPrimitive()) {
-            return typeUtils.isSameType(beAssigned, toAssign) ? 0 : 1;
-        } else if (beAssigned.getKind() == TypeKind.DECLARED) {
-            return calcTypeAssignScore((DeclaredType) beAssigned, (DeclaredType) toAssign);
-        } else {
-            throw new UnsupportedOperationException();
-        }
-    }
-
-    private int calcConverterScore(DeclaredType converter, TypeMirror toType, TypeMirror fromType) {
-        Types typeUtils = getProcessingEnv().getTypeUtils();
-        DeclaredType realConverter = Utils.findSuperType(converter, PropertyConverter.class);
-        if (realConverter == null) {
-            throw new IllegalArgumentException("This is impossible.");
-        }
-        List<? extends TypeMirror> typeArguments = realConverter.getTypeArguments();
-        TypeMirror converterFromType = typeArguments.get(0);
-        TypeMirror converterToType = typeArguments.get(1);
-        if (!typeUtils.isAssignable(fromType, converterFromType) || !typeUtils.isAssignable(converterToType, toType)) {
-            return -1;
-        }
-        return calcTypeAssignScore(converterFromType, fromType) + calcTypeAssignScore(toType, converterToType);
-    }
-
-    private TypeElement selectConverter(Element member, List<DeclaredType> converters, TypeMirror toType, TypeMirror fromType) {
-        List<TypeElement> results = new ArrayList<>();
-        int score = -1;
-        for (DeclaredType converter : converters) {
-            TypeElement converterElement = Utils.toElement(converter);
-            if (!converterElement.getTypeParameters().isEmpty()) {
-                error("The property converter must make sure the from type and to type. So it can not be a generic type. The invalid converter: " + converterElement.getQualifiedName() + ".");
-                continue;
-            }
-            if (converterElement.getModifiers().contains(Modifier.ABSTRACT)) {
-                error("The property converter should be instantiable. So it can not be abstract. The invalid converter: " + converterElement.getQualifiedName() + ".");
-                continue;
-            }
-            if (!Utils.hasEmptyConstructor(getProcessingEnv(), converterElement)) {
-                error("The property converter should be instantiable. So it should has a empty constructor. The invalid converter: " + converterElement.getQualifiedName() + ".");
-                continue;
-            }
-            int theScore = calcConverterScore(converter, toType, fromType);
-            if (theScore >= 0 && (score == -1 || score >= theScore)) {
-                score = theScore;
-                results.clear();
-                results.add(Utils.toElement(converter));
+    private ConverterRegistry.ConverterInfo selectConverter(Element member, TypeMirror toType, TypeMirror fromType) {
+        ConverterRegistry converterRegistry = processorData.getConverterRegistry();
+        for (ConverterRegistry.ConverterInfo converter : converterRegistry.getConverters(member)) {
+            String invalidReason = converter.getInvalidReason();
+            if (invalidReason != null) {
+                error(invalidReason);
             }
         }
+        List<ConverterRegistry.ConverterInfo> results = converterRegistry.findBestConverters(member, toType, fromType);
         if (results.size() == 1) {
             return results.get(0);
         } else if (results.size() > 1) {
@@ -667,7 +764,7 @@ public class ViewContext extends Context {
                             member.getSimpleName() +
                             ": " +
                             results.stream()
-                                    .map(TypeElement::getQualifiedName)
+                                    .map(converter -> converter.getElement().getQualifiedName())
                                     .collect(Collectors.joining(", "))
             );
             return null;
@@ -697,6 +794,9 @@ public class ViewContext extends Context {
     public void printInitConfigureBean(@NonNull PrintWriter writer, @NonNull String requester, boolean useConfigBeanVar) {
         if (useConfigBeanVar) {
             writer.print(READ_CONFIG_BEAN_VAR);
+        } else if (useConfigureBeanHolder) {
+            writer.print(configureBeanHolderType);
+            writer.print(".INSTANCE");
         } else {
             printBeanProviderGetInstance(
                     writer, configType,
@@ -707,6 +807,102 @@ public class ViewContext extends Context {
         }
     }
 
+    /**
+     * Render the parts of the view derived from the javac model, in the javac thread.
+     * Then the view can be printed by another thread without taking the model lock for each of these parts.
+     * Without the snapshot, {@link #print(PrintWriter)} derives them from the javac model directly.
+     */
+    public void snapshotModel() {
+        ModelSnapshot snapshot = new ModelSnapshot();
+        snapshot.viewAnnotations = render(writer -> printAnnotations(writer, viewOf.getAnnotationMirrors(), 0));
+        enter(genType);
+        try {
+            if (viewOf.isSerializable()) {
+                snapshot.serializableType = Type.extract(this, Serializable.class);
+            }
+            for (Property property : getProperties()) {
+                for (AnnotationDest dest : new AnnotationDest[] { AnnotationDest.FIELD, AnnotationDest.GETTER, AnnotationDest.SETTER }) {
+                    snapshot.propertyAnnotations.put(new PropertyAnnotationKey(property, dest), render(writer -> printAnnotations(writer, property.collectAnnotations(this, dest), 1)));
+                }
+                if (property.isFinalField()) {
+                    snapshot.finalFields.add(property);
+                }
+            }
+            for (ParamInfo paramInfo : extraParams.values()) {
+                snapshot.extraParamTypes.put(paramInfo, Type.extract(this, paramInfo.getVar()));
+            }
+            for (ViewCodeGenerator generator : ViewCodeGenerators.INSTANCE.getGenerators()) {
+                snapshot.generatedCodes.add(render(writer -> generator.print(writer, this, INDENT, 1)));
+            }
+        } finally {
+            exit();
+        }
+        this.modelSnapshot = snapshot;
+    }
+
+    @NonNull
+    private static String render(@NonNull Consumer<PrintWriter> printer) {
+        StringWriter sw = new StringWriter();
+        PrintWriter pw = new PrintWriter(sw);
+        printer.accept(pw);
+        pw.flush();
+        return sw.toString();
+    }
+
+    private void printAnnotations(@NonNull PrintWriter writer, @NonNull List<? extends AnnotationMirror> annotationMirrors, int indentNum) {
+        for (AnnotationMirror annotationMirror : annotationMirrors) {
+            Utils.printIndent(writer, INDENT, indentNum);
+            Utils.printAnnotation(writer, annotationMirror, this, INDENT, indentNum);
+            writer.println();
+        }
+    }
+
+    private void printPropertyAnnotations(@NonNull PrintWriter writer, @NonNull Property property, @NonNull AnnotationDest dest) {
+        ModelSnapshot snapshot = modelSnapshot;
+        if (snapshot != null) {
+            writer.print(snapshot.propertyAnnotations.get(new PropertyAnnotationKey(property, dest)));
+        } else {
+            runWithModel(() -> printAnnotations(writer, property.collectAnnotations(this, dest), 1));
+        }
+    }
+
+    @NonNull
+    private Type getExtraParamType(@NonNull ParamInfo paramInfo) {
+        ModelSnapshot snapshot = modelSnapshot;
+        Type type = snapshot != null ? snapshot.extraParamTypes.get(paramInfo) : null;
+        return type != null ? type : withModel(() -> Type.extract(this, paramInfo.getVar()));
+    }
+
+    private boolean isFinalField(@NonNull Property property) {
+        ModelSnapshot snapshot = modelSnapshot;
+        return snapshot != null ? snapshot.finalFields.contains(property) : withModel(property::isFinalField);
+    }
+
+    /**
+     * Print the holder class of the configure bean when the cache type is {@link CacheType#STATIC}.
+     * The jvm initializes the holder class only when it is first used, so the configure bean is lazily achieved
+     * and thread-safe without any lock.
+     * @param writer the writer
+     */
+    private void printConfigureBeanHolder(@NonNull PrintWriter writer) {
+        Utils.printIndent(writer, INDENT, 1);
+        writer.print("private static class ");
+        writer.print(configureBeanHolderType);
+        writer.println(" {");
+        Utils.printIndent(writer, INDENT, 2);
+        writer.print("private static final ");
+        configType.printType(writer, this, true, false);
+        writer.print(" INSTANCE = ");
+        StringWriter sw = new StringWriter();
+        PrintWriter pw = new PrintWriter(sw);
+        genType.printType(pw, this, false, false);
+        pw.flush();
+        printBeanProviderGetInstance(writer, configType, BeanUsage.CONFIGURE, sw + ".class", false);
+        writer.println(";");
+        Utils.printIndent(writer, INDENT, 1);
+        writer.println("}");
+    }
+
     @Override
     public boolean print(@NonNull PrintWriter writer) {
         Modifier modifier = viewOf.getAccess();
@@ -723,17 +919,18 @@ public class ViewContext extends Context {
         writer.print(".class, configClass = ");
         configType.printType(writer, this, false, false);
         writer.println(".class)");
-        for (AnnotationMirror annotationMirror : viewOf.getAnnotationMirrors()) {
-            Utils.printIndent(writer, INDENT, 0);
-            Utils.printAnnotation(writer, annotationMirror, this, INDENT, 0);
-            writer.println();
+        ModelSnapshot snapshot = modelSnapshot;
+        if (snapshot != null) {
+            writer.print(snapshot.viewAnnotations);
+        } else {
+            runWithModel(() -> printAnnotations(writer, viewOf.getAnnotationMirrors(), 0));
         }
         List<Property> properties = getProperties();
         boolean empty = true;
         enter(genType);
         List<Type> implTypes = new ArrayList<>();
         if (viewOf.isSerializable()) {
-            implTypes.add(Type.extract(this, Serializable.class));
+            implTypes.add(snapshot != null ? snapshot.serializableType : withModel(() -> Type.extract(this, Serializable.class)));
         }
         genType.openClass(writer, modifier, this, null, implTypes, INDENT, 0);
         if (viewOf.isSerializable()) {
@@ -744,18 +941,62 @@ public class ViewContext extends Context {
             writer.println("L;");
             writer.println();
         }
+        for (Map.Entry<String, Type> entry : sharedConverters.entrySet()) {
+            if (empty) {
+                empty = false;
+                writer.println();
+            }
+            Utils.printIndent(writer, INDENT, 1);
+            writer.print("private static final ");
+            entry.getValue().printType(writer, this, false, false);
+            writer.print(" ");
+            writer.print(sharedConverterVars.get(entry.getKey()));
+            writer.print(" = ");
+            entry.getValue().startInvokeNew(writer, this);
+            entry.getValue().endInvokeNew(writer);
+            writer.println(";");
+            writer.println();
+        }
+        if (useConfigureBeanHolder) {
+            if (empty) {
+                empty = false;
+                writer.println();
+            }
+            printConfigureBeanHolder(writer);
+            writer.println();
+        }
         for (Property property : properties) {
             if (!property.isDynamic()) {
                 if (empty) {
                     empty = false;
                     writer.println();
                 }
-                for (AnnotationMirror annotationMirror : property.collectAnnotations(this, AnnotationDest.FIELD)) {
-                    Utils.printIndent(writer, INDENT, 1);
-                    Utils.printAnnotation(writer, annotationMirror, this, INDENT, 1);
+                printPropertyAnnotations(writer, property, AnnotationDest.FIELD);
+                property.printField(writer, this, INDENT, 1);
+                writer.println();
+            }
+        }
+        for (Property property : properties) {
+            if (isCachedDynamicProperty(property)) {
+                if (empty) {
+                    empty = false;
                     writer.println();
                 }
-                property.printField(writer, this, INDENT, 1);
+                Utils.printIndent(writer, INDENT, 1);
+                writer.print("private transient ");
+                property.printType(writer, this, true, false);
+                writer.print(" ");
+                writer.print(getDynamicCacheVar(property));
+                writer.println(";");
+                writer.println();
+                Utils.printIndent(writer, INDENT, 1);
+                writer.print("private transient ");
+                if (((DynamicMethodExtractor) property.getExtractor()).getCacheType() == DynamicCacheType.THREAD_SAFE) {
+                    writer.print("volatile ");
+                }
+                writer.print("boolean ");
+                writer.print(getDynamicCachedFlagVar(property));
+                writer.println(";");
                 writer.println();
             }
         }
@@ -797,11 +1038,7 @@ public class ViewContext extends Context {
         printWriteBack(writer, true);
         for (Property property : properties) {
             if (property.hasGetter()) {
-                for (AnnotationMirror annotationMirror : property.collectAnnotations(this, AnnotationDest.GETTER)) {
-                    Utils.printIndent(writer, INDENT, 1);
-                    Utils.printAnnotation(writer, annotationMirror, this, INDENT, 1);
-                    writer.println();
-                }
+                printPropertyAnnotations(writer, property, AnnotationDest.GETTER);
                 property.printGetter(writer, this, INDENT, 1);
                 writer.println();
             }
@@ -835,24 +1072,20 @@ public class ViewContext extends Context {
         }
         for (Property property : properties) {
             if (!property.isDynamic() && property.hasSetter()) {
-                for (AnnotationMirror annotationMirror : property.collectAnnotations(this, AnnotationDest.SETTER)) {
-                    Utils.printIndent(writer, INDENT, 1);
-                    Utils.printAnnotation(writer, annotationMirror, this, INDENT, 1);
-                    writer.println();
-                }
+                printPropertyAnnotations(writer, property, AnnotationDest.SETTER);
                 property.printSetter(writer, this, INDENT, 1);
                 writer.println();
             }
         }
 
-        for (ViewCodeGenerator generator : ViewCodeGenerators.INSTANCE.getGenerators()) {
-            StringWriter sw = new StringWriter();
-            PrintWriter pw = new PrintWriter(sw);
-            generator.print(pw, this, INDENT, 1);
-            pw.flush();
-            String generated = sw.toString();
-            if (!generated.isEmpty()) {
-                writer.print(generated);
+        if (snapshot != null) {
+            for (String code : snapshot.generatedCodes) {
+                writer.print(code);
+            }
+        } else {
+            for (ViewCodeGenerator generator : ViewCodeGenerators.INSTANCE.getGenerators()) {
+                // The generators are free to access the javac model, and stream into the writer directly.
+                runWithModel(() -> generator.print(writer, this, INDENT, 1));
             }
         }
 
@@ -921,7 +1154,11 @@ public class ViewContext extends Context {
         }
     }
 
-    private void printCollectionReader(@NonNull PrintWriter writer, String collectionType, String collectionImpl) {
+    private void printCollectionReaderSignature(@NonNull PrintWriter writer, String collectionType, String methodName, String extraArguments) {
+        printCollectionReaderSignature(writer, collectionType, methodName, extraArguments, null);
+    }
+
+    private void printCollectionReaderSignature(@NonNull PrintWriter writer, String collectionType, String methodName, String extraArguments, VarMapper varMapper) {
         Utils.printIndent(writer, INDENT, 1);
         Utils.printModifier(writer, Modifier.PUBLIC);
         writer.print("static ");
@@ -942,19 +1179,11 @@ public class ViewContext extends Context {
         }
         if (collectionType.equals("Array")) {
             genType.printType(writer, this, true, false);
-            writer.print("[] read(");
+            writer.print("[] ");
+            writer.print(methodName);
+            writer.print("(");
             targetType.printType(writer, this, true, false);
-            writer.println("[] sources) {");
-            printReturnNullWhenInputNull(writer, "sources");
-            Utils.printIndent(writer, INDENT, 2);
-            genType.printType(writer, this, true, false);
-            writer.print("[] results = new ");
-            genType.printType(writer, this, false, false);
-            writer.println("[sources.length];");
-            Utils.printIndent(writer, INDENT, 2);
-            writer.println("for (int i = 0; i < sources.length; ++i) {");
-            Utils.printIndent(writer, INDENT, 3);
-            writer.println("results[i] = read(sources[i]);");
+            writer.print("[] sources");
         } else {
             writer.print(collectionType);
             writer.print("<");
@@ -963,7 +1192,9 @@ public class ViewContext extends Context {
                 writer.print(", ");
             }
             genType.printType(writer, this, true, false);
-            writer.print("> read(");
+            writer.print("> ");
+            writer.print(methodName);
+            writer.print("(");
             writer.print(collectionType);
             writer.print("<");
             if (collectionType.equals("Map")) {
@@ -971,8 +1202,61 @@ public class ViewContext extends Context {
                 writer.print(", ");
             }
             targetType.printType(writer, this, true, false);
-            writer.println("> sources) {");
-            printReturnNullWhenInputNull(writer, "sources");
+            writer.print("> sources");
+        }
+        if (varMapper != null) {
+            printDefineExtraReadArguments(writer, varMapper);
+        }
+        if (extraArguments != null) {
+            writer.print(", ");
+            writer.print(extraArguments);
+        }
+        writer.println(") {");
+    }
+
+    private void printCollectionReader(@NonNull PrintWriter writer, String collectionType, String collectionImpl) {
+        String keyParameter = getMapKeyParameter("K");
+        VarMapper varMapper = new VarMapper("source", "sources", "results", "i", READ_CONFIG_BEAN_VAR, BATCH_SOURCES_VAR);
+        printCollectionReaderSignature(writer, collectionType, "read", null, varMapper);
+        printReturnNullWhenInputNull(writer, "sources");
+        if (isGraphMode()) {
+            Utils.printIndent(writer, INDENT, 2);
+            String readContextType = getImportedName(TYPE_VIEW_READ_CONTEXT, SIMPLE_TYPE_VIEW_READ_CONTEXT);
+            writer.print(readContextType);
+            writer.print(" ");
+            writer.print(READ_CONTEXT_VAR);
+            writer.print(" = new ");
+            writer.print(readContextType);
+            writer.println("();");
+        }
+        if (isConfigureBeanPassedToRead()) {
+            // Resolve the configure bean once for the whole batch instead of once per element,
+            // lazily with the first non-null element as the requester.
+            Utils.printIndent(writer, INDENT, 2);
+            printDefineConfigureBeanArgument(writer);
+            writer.println(" = null;");
+        }
+        // The batch sources are collected before the loop, the configure bean is resolved there.
+        boolean lazyInitInLoop = isConfigureBeanPassedToRead() && !hasBatchProperties();
+        if (hasBatchProperties()) {
+            printReadBatches(writer, collectionType, varMapper);
+        }
+        if (collectionType.equals("Array")) {
+            Utils.printIndent(writer, INDENT, 2);
+            genType.printType(writer, this, true, false);
+            writer.print("[] results = new ");
+            genType.printType(writer, this, false, false);
+            writer.println("[sources.length];");
+            Utils.printIndent(writer, INDENT, 2);
+            writer.println("for (int i = 0; i < sources.length; ++i) {");
+            if (lazyInitInLoop) {
+                printLazyInitConfigureBean(writer, "sources[i]", true, 3);
+            }
+            Utils.printIndent(writer, INDENT, 3);
+            writer.print("results[i] = read(sources[i]");
+            printCollectionReaderReadArguments(writer, varMapper);
+            writer.println(");");
+        } else {
             Utils.printIndent(writer, INDENT, 2);
             writer.print(collectionType);
             writer.print("<");
@@ -981,9 +1265,10 @@ public class ViewContext extends Context {
                 writer.print(", ");
             }
             genType.printType(writer, this, true, false);
-            writer.print("> results = new ");
-            writer.print(collectionImpl);
-            writer.println("<>();");
+            writer.print("> results = ");
+            printNewSizedCollection(writer, collectionImpl, "sources.size()");
+            writer.println(";");
+            printEnsureCapacity(writer, collectionImpl, "results", "sources.size()", 2);
             Utils.printIndent(writer, INDENT, 2);
             writer.print("for (");
             if (collectionType.equals("Map")) {
@@ -1002,11 +1287,18 @@ public class ViewContext extends Context {
                 writer.print("sources");
             }
             writer.println(") {");
+            if (lazyInitInLoop) {
+                printLazyInitConfigureBean(writer, collectionType.equals("Map") ? "source.getValue()" : "source", true, 3);
+            }
             Utils.printIndent(writer, INDENT, 3);
             if (collectionType.equals("Map")) {
-                writer.println("results.put(source.getKey(), read(source.getValue()));");
+                writer.print("results.put(source.getKey(), read(source.getValue()");
+                printCollectionReaderReadArguments(writer, varMapper);
+                writer.println("));");
             } else {
-                writer.println("results.add(read(source));");
+                writer.print("results.add(read(source");
+                printCollectionReaderReadArguments(writer, varMapper);
+                writer.println("));");
             }
         }
         Utils.printIndent(writer, INDENT, 2);
@@ -1018,22 +1310,283 @@ public class ViewContext extends Context {
         writer.println();
     }
 
+    /**
+     * Print the extraction of the batch properties of all the non-null sources, each batch property method is called only once.
+     */
+    private void printReadBatches(@NonNull PrintWriter writer, String collectionType, @NonNull VarMapper varMapper) {
+        Utils.printIndent(writer, INDENT, 2);
+        writer.print("List<");
+        targetType.printType(writer, this, true, false);
+        writer.print("> ");
+        writer.print(BATCH_SOURCES_VAR);
+        writer.print(" = new ArrayList<>(");
+        writer.print(collectionType.equals("Array") ? "sources.length" : "sources.size()");
+        writer.println(");");
+        Utils.printIndent(writer, INDENT, 2);
+        writer.print("for (");
+        targetType.printType(writer, this, true, false);
+        writer.print(" source : ");
+        writer.print(collectionType.equals("Map") ? "sources.values()" : "sources");
+        writer.println(") {");
+        Utils.printIndent(writer, INDENT, 3);
+        writer.println("if (source != null) {");
+        if (isConfigureBeanPassedToRead()) {
+            printLazyInitConfigureBean(writer, "source", false, 4);
+        }
+        Utils.printIndent(writer, INDENT, 4);
+        writer.print(BATCH_SOURCES_VAR);
+        writer.println(".add(source);");
+        Utils.printIndent(writer, INDENT, 3);
+        writer.println("}");
+        Utils.printIndent(writer, INDENT, 2);
+        writer.println("}");
+        for (Property property : batchProperties) {
+            BatchMethodExtractor extractor = (BatchMethodExtractor) Objects.requireNonNull(property.getExtractor());
+            Utils.printIndent(writer, INDENT, 2);
+            extractor.getMapType().printType(writer, this, true, false);
+            writer.print(" ");
+            writer.print(extractor.getBatchVar(varMapper));
+            writer.print(" = ");
+            // No need to call the batch property method when all the sources are null.
+            writer.print(BATCH_SOURCES_VAR);
+            writer.print(".isEmpty() ? ");
+            writer.print(getImportedName(TYPE_COLLECTIONS, SIMPLE_TYPE_COLLECTIONS));
+            writer.print(".emptyMap() : ");
+            extractor.print(writer, varMapper, BATCH_SOURCES_VAR, "sources", isConfigureBeanPassedToRead());
+            writer.println(";");
+        }
+    }
+
+    /**
+     * Print the initialization of the configure bean of the collection readers, with the first non-null element as the requester.
+     * @param checkSource whether the element should be checked, false if it is known not null
+     */
+    private void printLazyInitConfigureBean(@NonNull PrintWriter writer, @NonNull String source, boolean checkSource, int indentNum) {
+        Utils.printIndent(writer, INDENT, indentNum);
+        writer.print("if (");
+        writer.print(READ_CONFIG_BEAN_VAR);
+        writer.print(" == null");
+        if (checkSource) {
+            writer.print(" && ");
+            writer.print(source);
+            writer.print(" != null");
+        }
+        writer.println(") {");
+        Utils.printIndent(writer, INDENT, indentNum + 1);
+        writer.print(READ_CONFIG_BEAN_VAR);
+        writer.print(" = ");
+        printInitConfigureBean(writer, source, false);
+        writer.println(";");
+        Utils.printIndent(writer, INDENT, indentNum);
+        writer.println("}");
+    }
+
+    private void printCollectionReaderReadArguments(@NonNull PrintWriter writer, @NonNull VarMapper varMapper) {
+        printUseExtraReadArguments(writer, varMapper);
+        if (isGraphMode()) {
+            writer.print(", ");
+            writer.print(READ_CONTEXT_VAR);
+        }
+        printUseReadCoreArguments(writer, varMapper, true, false);
+    }
+
+    private void printParallelCollectionReader(@NonNull PrintWriter writer, String collectionType, boolean withExecutor) {
+        String executorType = getImportedName(TYPE_EXECUTOR, SIMPLE_TYPE_EXECUTOR);
+        printCollectionReaderSignature(writer, collectionType, "readParallel", withExecutor ? executorType + " executor" : null);
+        if (collectionType.equals("Array")) {
+            printReturnNullWhenInputNull(writer, "sources");
+        }
+        Utils.printIndent(writer, INDENT, 2);
+        writer.print("return ");
+        writer.print(getImportedName(TYPE_PARALLEL_READERS, SIMPLE_TYPE_PARALLEL_READERS));
+        writer.print(".read");
+        writer.print(collectionType);
+        if (hasBatchProperties()) {
+            // Each chunk is read by the collection reader, so the batch property methods are called once per chunk.
+            writer.print("InBatches");
+        }
+        writer.print("(sources, ");
+        if (collectionType.equals("Array")) {
+            writer.print("new ");
+            genType.printType(writer, this, false, false);
+            writer.print("[sources.length], ");
+        }
+        genType.printType(writer, this, false, false);
+        writer.print("::read, ");
+        writer.print(viewOf.getParallelReadThreshold());
+        if (withExecutor) {
+            writer.print(", executor");
+        }
+        writer.println(");");
+        Utils.printIndent(writer, INDENT, 1);
+        writer.println("}");
+        writer.println();
+    }
+
+    private void printLazyReader(@NonNull PrintWriter writer, String collectionType, String methodName) {
+        printCollectionReaderSignature(writer, collectionType, methodName, null);
+        printReturnNullWhenInputNull(writer, "sources");
+        if (isGraphMode() && !hasBatchProperties() && !"readStream".equals(methodName)) {
+            // The iterators are consumed by one thread, so all the elements of an iteration share the read context.
+            Utils.printIndent(writer, INDENT, 2);
+            if ("readIterable".equals(methodName)) {
+                writer.println("return () -> readIterator(sources.iterator());");
+            } else {
+                String readContextType = getImportedName(TYPE_VIEW_READ_CONTEXT, SIMPLE_TYPE_VIEW_READ_CONTEXT);
+                writer.print(readContextType);
+                writer.print(" ");
+                writer.print(READ_CONTEXT_VAR);
+                writer.print(" = new ");
+                writer.print(readContextType);
+                writer.println("();");
+                Utils.printIndent(writer, INDENT, 2);
+                writer.print("return ");
+                writer.print(getImportedName(TYPE_LAZY_READERS, SIMPLE_TYPE_LAZY_READERS));
+                writer.print(".iterator(sources, source -> read(source, ");
+                writer.print(READ_CONTEXT_VAR);
+                writer.println("));");
+            }
+            Utils.printIndent(writer, INDENT, 1);
+            writer.println("}");
+            writer.println();
+            return;
+        }
+        Utils.printIndent(writer, INDENT, 2);
+        writer.print("return ");
+        if (hasBatchProperties()) {
+            // Read batch by batch by the list reader, so the batch property methods are called once per batch.
+            String lazyReadersType = getImportedName(TYPE_LAZY_READERS, SIMPLE_TYPE_LAZY_READERS);
+            writer.print(lazyReadersType);
+            if ("readStream".equals(methodName)) {
+                writer.print(".batchStream(");
+            } else {
+                writer.print("readIterable".equals(methodName) ? ".batchIterable(" : ".batchIterator(");
+            }
+            writer.print("sources, ");
+            writer.print(lazyReadersType);
+            writer.print(".DEFAULT_BATCH_SIZE, ");
+        } else if ("readStream".equals(methodName)) {
+            writer.print("sources.map(");
+        } else {
+            writer.print(getImportedName(TYPE_LAZY_READERS, SIMPLE_TYPE_LAZY_READERS));
+            writer.print("readIterable".equals(methodName) ? ".iterable(" : ".iterator(");
+            writer.print("sources, ");
+        }
+        genType.printType(writer, this, false, false);
+        writer.println("::read);");
+        Utils.printIndent(writer, INDENT, 1);
+        writer.println("}");
+        writer.println();
+    }
+
+    private void printReaderFunction(@NonNull PrintWriter writer) {
+        Utils.printIndent(writer, INDENT, 1);
+        Utils.printModifier(writer, Modifier.PUBLIC);
+        writer.print("static ");
+        if (!genType.getParameters().isEmpty()) {
+            genType.printGenericParameters(writer, this, true);
+            writer.print(" ");
+        }
+        writer.print(getImportedName(TYPE_FUNCTION, SIMPLE_TYPE_FUNCTION));
+        writer.print("<");
+        targetType.printType(writer, this, true, false);
+        writer.print(", ");
+        genType.printType(writer, this, true, false);
+        writer.println("> reader() {");
+        Utils.printIndent(writer, INDENT, 2);
+        writer.print("return ");
+        genType.printType(writer, this, false, false);
+        writer.println("::read;");
+        Utils.printIndent(writer, INDENT, 1);
+        writer.println("}");
+        writer.println();
+    }
+
+    /**
+     * Print the creation of a collection which is able to hold the given number of elements without growing.
+     * Lists are created with the exact capacity, hash based collections with size / 0.75 + 1.
+     * Stack has no capacity constructor, so it is handled by {@link #printEnsureCapacity}.
+     */
+    private void printNewSizedCollection(@NonNull PrintWriter writer, @NonNull String collectionImpl, @NonNull String sizeExpression) {
+        writer.print("new ");
+        writer.print(collectionImpl);
+        writer.print("<>(");
+        if ("ArrayList".equals(collectionImpl)) {
+            writer.print(sizeExpression);
+        } else if ("HashSet".equals(collectionImpl) || "HashMap".equals(collectionImpl)) {
+            writer.print("(int) (");
+            writer.print(sizeExpression);
+            writer.print(" / 0.75f) + 1");
+        }
+        writer.print(")");
+    }
+
+    private void printEnsureCapacity(@NonNull PrintWriter writer, @NonNull String collectionImpl, @NonNull String var, @NonNull String sizeExpression, int indentNum) {
+        if ("Stack".equals(collectionImpl)) {
+            Utils.printIndent(writer, INDENT, indentNum);
+            writer.print(var);
+            writer.print(".ensureCapacity(");
+            writer.print(sizeExpression);
+            writer.println(");");
+        }
+    }
+
+    /**
+     * Collect the conditions of the generators checked before reading the properties from the source.
+     * Collected with the javac model once, so the printing code only looks them up.
+     * See {@link ViewCodeGenerator#getReadCondition(ViewContext, Property, String)}.
+     */
+    private void collectReadConditions() {
+        for (Property property : getProperties()) {
+            if (property.isDynamic() || property.isCustomMethod() || property.getBase() == null || property.getType().isPrimate()) {
+                continue;
+            }
+            List<String> conditions = new ArrayList<>();
+            for (ViewCodeGenerator generator : ViewCodeGenerators.INSTANCE.getGenerators()) {
+                String condition = generator.getReadCondition(this, property, "source");
+                if (condition != null) {
+                    conditions.add(condition);
+                }
+            }
+            if (!conditions.isEmpty()) {
+                readConditions.put(property.getName(), String.join(" && ", conditions));
+            }
+        }
+    }
+
     private void prepareReadProperty(@NonNull PrintWriter writer, Property property, Map<String, String> varMap) {
         Type converter = property.getConverter();
         Property baseProperty = property.getBase();
         if (!property.isCustomMethod() && baseProperty != null && converter == null && property.isView()) {
             String var = "p" + varMap.size();
-            prepareView(writer, property.getType(), var, baseProperty.getType(), property.getValueString("source"), 2, 0);
+            String condition = readConditions.get(property.getName());
+            if (condition != null) {
+                // Only read the source property when the condition holds, otherwise leave the view null.
+                Utils.printIndent(writer, INDENT, 2);
+                property.getType().printType(writer, this, true, true);
+                writer.print(" ");
+                writer.print(var);
+                writer.println(" = null;");
+                Utils.printIndent(writer, INDENT, 2);
+                writer.print("if (");
+                writer.print(condition);
+                writer.println(") {");
+                prepareView(writer, property.getType(), var, baseProperty.getType(), property.getValueString("source"), 3, 0, false);
+                Utils.printIndent(writer, INDENT, 2);
+                writer.println("}");
+            } else {
+                prepareView(writer, property.getType(), var, baseProperty.getType(), property.getValueString("source"), 2, 0, true);
+            }
             varMap.put(property.getName(), var);
         }
     }
 
-    private Map<String, String> prepareRead(@NonNull PrintWriter writer) {
+    private Map<String, String> prepareRead(@NonNull PrintWriter writer, boolean initConfigureBean) {
         Map<String, String> varMap = new HashMap<>();
         for (Property property : getProperties()) {
             prepareReadProperty(writer, property, varMap);
         }
-        if (useConfigureBeanVarInRead) {
+        if (useConfigureBeanVarInRead && initConfigureBean) {
             Utils.printIndent(writer, INDENT, 2);
             configType.printType(writer, this, true, false);
             writer.print(" ");
@@ -1045,16 +1598,39 @@ public class ViewContext extends Context {
         return varMap;
     }
 
-    private void prepareView(@NonNull PrintWriter writer, Type targetType, String targetVarName, Type sourceType, String sourceVarName, int indentNum, int level) {
+    private boolean isGraphModeView(Type viewType) {
+        ViewContext viewContext = getViewContext(viewType);
+        return viewContext != null && viewContext.isGraphMode();
+    }
+
+    private void prepareView(@NonNull PrintWriter writer, Type targetType, String targetVarName, Type sourceType, String sourceVarName, int indentNum, int level, boolean declare) {
+        if (!isViewType(targetType) && !SourceVersion.isIdentifier(sourceVarName)) {
+            // The source collection is used by both the pre-sizing and the loop, so only evaluate the getter once.
+            String sourceVar = targetVarName + "Source";
+            Utils.printIndent(writer, INDENT, indentNum);
+            sourceType.printType(writer, this, true, true);
+            writer.print(" ");
+            writer.print(sourceVar);
+            writer.print(" = ");
+            writer.print(sourceVarName);
+            writer.println(";");
+            sourceVarName = sourceVar;
+        }
         Utils.printIndent(writer, INDENT, indentNum);
-        targetType.printType(writer, this, true, true);
-        writer.print(" ");
+        if (declare) {
+            targetType.printType(writer, this, true, true);
+            writer.print(" ");
+        }
         writer.print(targetVarName);
         writer.print(" = ");
         if (isViewType(targetType)) {
             targetType.printType(writer, this, true, true);
             writer.print(".read(");
             writer.print(sourceVarName);
+            if (printInGraphMode && isGraphModeView(targetType)) {
+                writer.print(", ");
+                writer.print(READ_CONTEXT_VAR);
+            }
             writer.println(");");
         } else {
             String collectionImpl;
@@ -1071,8 +1647,8 @@ public class ViewContext extends Context {
             } else {
                 throw new IllegalArgumentException("Unsupported view collection targetType: " + targetType + ".");
             }
-            writer.print("new ");
             if (targetType.isArray()) {
+                writer.print("new ");
                 targetType.withoutArray().printType(writer, this, false, false);
                 writer.print("[");
                 writer.print(sourceVarName);
@@ -1082,8 +1658,9 @@ public class ViewContext extends Context {
                 }
                 writer.println(";");
             } else {
-                writer.print(collectionImpl);
-                writer.println("<>();");
+                printNewSizedCollection(writer, collectionImpl, sourceVarName + ".size()");
+                writer.println(";");
+                printEnsureCapacity(writer, collectionImpl, targetVarName, sourceVarName + ".size()", indentNum);
             }
         }
         if (!isViewType(targetType)) {
@@ -1150,7 +1727,8 @@ public class ViewContext extends Context {
                     sourceComponentType,
                     targetType.isType(Map.class) ? elVar + ".getValue()" : elVar,
                     indentNum + 1,
-                    level + 1
+                    level + 1,
+                    true
             );
             Utils.printIndent(writer, INDENT, indentNum + 1);
             if (targetType.isType(List.class) || targetType.isType(Set.class) || targetType.isType(Stack.class)) {
@@ -1187,25 +1765,42 @@ public class ViewContext extends Context {
                 writer.print(".");
                 writer.print(this.getMappedFieldName(property));
                 writer.print(" = ");
-                if (property.isCustomMethod() && property.getExtractor() != null) {
+                if (property.isBatchMethod() && property.getExtractor() != null) {
+                    // Not resolved by the caller, then extract it by a batch only containing the source.
+                    BatchMethodExtractor extractor = (BatchMethodExtractor) property.getExtractor();
+                    String batchVar = extractor.getBatchVar(varMapper);
+                    writer.print("(");
+                    writer.print(batchVar);
+                    writer.print(" != null ? ");
+                    writer.print(batchVar);
+                    writer.print(" : ");
+                    extractor.print(writer, varMapper, getImportedName(TYPE_COLLECTIONS, SIMPLE_TYPE_COLLECTIONS) + ".singletonList(source)", "source", true);
+                    writer.println(").get(source);");
+                } else if (property.isCustomMethod() && property.getExtractor() != null) {
                     ((StaticMethodExtractor) property.getExtractor()).print(writer, varMapper, true, INDENT, 2);
                     writer.println(";");
                 } else {
                     Property baseProperty = property.getBase();
                     if (baseProperty != null) {
+                        String condition = property.isView() && converter == null ? null : readConditions.get(property.getName());
+                        if (condition != null) {
+                            writer.print(condition);
+                            writer.print(" ? ");
+                        }
                         if (converter != null) {
-                            writer.print("new ");
-                            converter.printType(writer, this, false, false);
-                            writer.print("().convert(");
+                            printConverterInstance(writer, property);
+                            writer.print(".convert(");
                             writer.print(baseProperty.getValueString("source"));
-                            writer.println(");");
+                            writer.print(")");
                         } else if (property.isView()) {
                             writer.print(varMap.get(property.getName()));
-                            writer.println(";");
                         } else {
                             writer.print(baseProperty.getValueString("source"));
-                            writer.println(";");
                         }
+                        if (condition != null) {
+                            writer.print(" : null");
+                        }
+                        writer.println(";");
                     } else {
                         writer.print(varMapper.getVar(property, property.getName()));
                         writer.println(";");
@@ -1215,8 +1810,30 @@ public class ViewContext extends Context {
         }
     }
 
+    /**
+     * Whether the configure bean used by the read methods is resolved by the callers and passed to the private read core.
+     * Then the collection readers resolve it only once instead of once per element.
+     * Not necessary when the configure bean is held by the holder class.
+     */
+    private boolean isConfigureBeanPassedToRead() {
+        return useConfigureBeanVarInRead && !useConfigureBeanHolder;
+    }
+
+    /**
+     * Whether the read methods delegate to a private read core, which accepts the configure bean and the values of the batch properties
+     * resolved by the callers. See {@link #isConfigureBeanPassedToRead()} and {@link #printReadBatches}.
+     */
+    private boolean hasReadCore() {
+        return isConfigureBeanPassedToRead() || hasBatchProperties();
+    }
+
     @NonNull
     private VarMapper printDefineReadArguments(@NonNull PrintWriter writer) {
+        return printDefineReadArguments(writer, false);
+    }
+
+    @NonNull
+    private VarMapper printDefineReadArguments(@NonNull PrintWriter writer, boolean withReadCoreArguments) {
         VarMapper varMapper = new VarMapper("source");
         if (extraProperties.size() + extraParams.size() > 3) {
             writer.println();
@@ -1233,11 +1850,14 @@ public class ViewContext extends Context {
             for (ParamInfo paramInfo : extraParams.values()) {
                 writer.println(",");
                 Utils.printIndent(writer, INDENT, 2);
-                Type type = Type.extract(this, paramInfo.getVar());
+                Type type = getExtraParamType(paramInfo);
                 type.printType(writer, this, true, false);
                 writer.print(" ");
                 writer.print(varMapper.getVar(paramInfo, paramInfo.getExtraParamName()));
             }
+            if (withReadCoreArguments) {
+                printDefineReadCoreArguments(writer, varMapper, true);
+            }
             writer.println();
             Utils.printIndent(writer, INDENT, 1);
         } else {
@@ -1251,34 +1871,134 @@ public class ViewContext extends Context {
             }
             for (ParamInfo paramInfo : extraParams.values()) {
                 writer.print(", ");
-                Type type = Type.extract(this, paramInfo.getVar());
+                Type type = getExtraParamType(paramInfo);
                 type.printType(writer, this, true, false);
                 writer.print(" ");
                 writer.print(varMapper.getVar(paramInfo, paramInfo.getExtraParamName()));
             }
+            if (withReadCoreArguments) {
+                printDefineReadCoreArguments(writer, varMapper, false);
+            }
         }
         return varMapper;
     }
 
+    private void printDefineConfigureBeanArgument(@NonNull PrintWriter writer) {
+        configType.printType(writer, this, true, false);
+        writer.print(" ");
+        writer.print(READ_CONFIG_BEAN_VAR);
+    }
+
+    private void printDefineReadCoreArguments(@NonNull PrintWriter writer, @NonNull VarMapper varMapper, boolean multiLine) {
+        if (isConfigureBeanPassedToRead()) {
+            printReadArgumentSeparator(writer, multiLine);
+            printDefineConfigureBeanArgument(writer);
+        }
+        for (Property property : batchProperties) {
+            BatchMethodExtractor extractor = (BatchMethodExtractor) Objects.requireNonNull(property.getExtractor());
+            printReadArgumentSeparator(writer, multiLine);
+            extractor.getMapType().printType(writer, this, true, false);
+            writer.print(" ");
+            writer.print(extractor.getBatchVar(varMapper));
+        }
+    }
+
+    /**
+     * Print the arguments of the read core following the source and the extra arguments.
+     * @param writer the writer
+     * @param varMapper the var mapper
+     * @param resolved true if the arguments are already resolved in the variables,
+     *                 otherwise the configure bean is resolved in place and the batch properties are left to the read core.
+     * @param checkSource whether to resolve the configure bean only when the source is not null
+     */
+    private void printUseReadCoreArguments(@NonNull PrintWriter writer, @NonNull VarMapper varMapper, boolean resolved, boolean checkSource) {
+        if (isConfigureBeanPassedToRead()) {
+            writer.print(", ");
+            if (resolved) {
+                writer.print(READ_CONFIG_BEAN_VAR);
+            } else {
+                if (checkSource) {
+                    writer.print("source != null ? ");
+                }
+                printInitConfigureBean(writer, "source", false);
+                if (checkSource) {
+                    writer.print(" : null");
+                }
+            }
+        }
+        for (Property property : batchProperties) {
+            writer.print(", ");
+            writer.print(resolved ? ((BatchMethodExtractor) Objects.requireNonNull(property.getExtractor())).getBatchVar(varMapper) : "null");
+        }
+    }
+
+    private void printReadArgumentSeparator(@NonNull PrintWriter writer, boolean multiLine) {
+        if (multiLine) {
+            writer.println(",");
+            Utils.printIndent(writer, INDENT, 2);
+        } else {
+            writer.print(", ");
+        }
+    }
+
+    private void printDefineExtraReadArguments(@NonNull PrintWriter writer, @NonNull VarMapper varMapper) {
+        for (Property extraProperty : extraProperties) {
+            writer.print(", ");
+            extraProperty.printType(writer, this, true, false);
+            writer.print(" ");
+            writer.print(varMapper.getVar(extraProperty, extraProperty.getName()));
+        }
+        for (ParamInfo paramInfo : extraParams.values()) {
+            writer.print(", ");
+            Type type = getExtraParamType(paramInfo);
+            type.printType(writer, this, true, false);
+            writer.print(" ");
+            writer.print(varMapper.getVar(paramInfo, paramInfo.getExtraParamName()));
+        }
+    }
+
+    private void printUseExtraReadArguments(@NonNull PrintWriter writer, @NonNull VarMapper varMapper) {
+        for (Property extraProperty : extraProperties) {
+            writer.print(", ");
+            writer.print(varMapper.getVar(extraProperty, extraProperty.getName()));
+        }
+        for (ParamInfo paramInfo : extraParams.values()) {
+            writer.print(", ");
+            writer.print(varMapper.getVar(paramInfo, paramInfo.getExtraParamName()));
+        }
+    }
+
+    private void printReadMethodHeader(@NonNull PrintWriter writer, @NonNull Modifier modifier) {
+        Utils.printIndent(writer, INDENT, 1);
+        Utils.printModifier(writer, modifier);
+        writer.print("static ");
+        if (!genType.getParameters().isEmpty()) {
+            genType.printGenericParameters(writer, this, true);
+            writer.print(" ");
+        }
+        genType.printType(writer, this, true, false);
+        writer.print(" read(");
+    }
+
     private void printUseReadArguments(
             @NonNull PrintWriter writer,
             @NonNull VarMapper varMapper
     ) {
         if (extraProperties.size() + extraParams.size() > 3) {
             writer.println();
-            Utils.printIndent(writer, INDENT, 2);
+            Utils.printIndent(writer, INDENT, 3);
             writer.print("source");
             for (Property extraProperty : extraProperties) {
                 writer.println(",");
-                Utils.printIndent(writer, INDENT, 2);
+                Utils.printIndent(writer, INDENT, 3);
                 writer.print(varMapper.getVar(extraProperty, extraProperty.getName()));
             }
             for (ParamInfo paramInfo : extraParams.values()) {
                 writer.println(",");
-                Utils.printIndent(writer, INDENT, 2);
+                Utils.printIndent(writer, INDENT, 3);
                 writer.print(varMapper.getVar(paramInfo, paramInfo.getExtraParamName()));
             }
-            writer.println(",");
+            writer.println();
             Utils.printIndent(writer, INDENT, 2);
         } else {
             writer.print("source");
@@ -1293,52 +2013,183 @@ public class ViewContext extends Context {
         }
     }
 
-    private void printReader(@NonNull PrintWriter writer) {
+    private void printGraphReader(@NonNull PrintWriter writer) {
+        String readContextType = getImportedName(TYPE_VIEW_READ_CONTEXT, SIMPLE_TYPE_VIEW_READ_CONTEXT);
+        boolean useReadCore = hasReadCore();
+        printReadMethodHeader(writer, Modifier.PUBLIC);
+        printDefineReadArguments(writer);
+        writer.println(") {");
+        Utils.printIndent(writer, INDENT, 2);
+        writer.print("return read(source, new ");
+        writer.print(readContextType);
+        writer.println("());");
         Utils.printIndent(writer, INDENT, 1);
-        Utils.printModifier(writer, Modifier.PUBLIC);
-        writer.print("static ");
-        if (!genType.getParameters().isEmpty()) {
-            genType.printGenericParameters(writer, this, true);
+        writer.println("}");
+        writer.println();
+        printReadMethodHeader(writer, Modifier.PUBLIC);
+        VarMapper varMapper = printDefineReadArguments(writer);
+        writer.print(", ");
+        writer.print(readContextType);
+        writer.print(" ");
+        writer.print(READ_CONTEXT_VAR);
+        writer.println(") {");
+        printReturnNullWhenInputNull(writer, "source");
+        printReturnCachedView(writer);
+        if (useReadCore) {
+            Utils.printIndent(writer, INDENT, 2);
+            writer.print("return read(source, ");
+            writer.print(READ_CONTEXT_VAR);
+            printUseReadCoreArguments(writer, varMapper, false, false);
+            writer.println(");");
+            Utils.printIndent(writer, INDENT, 1);
+            writer.println("}");
+            writer.println();
+            printReadMethodHeader(writer, Modifier.PRIVATE);
+            varMapper = printDefineReadArguments(writer);
+            writer.print(", ");
+            writer.print(readContextType);
             writer.print(" ");
+            writer.print(READ_CONTEXT_VAR);
+            printDefineReadCoreArguments(writer, varMapper, false);
+            writer.println(") {");
+            printReturnNullWhenInputNull(writer, "source");
+            printReturnCachedView(writer);
         }
+        Utils.printIndent(writer, INDENT, 2);
         genType.printType(writer, this, true, false);
-        writer.print(" read(");
+        writer.print(" out = new ");
+        writer.print(genType.getSimpleName());
+        if (!genType.getParameters().isEmpty()) {
+            writer.print("<>");
+        }
+        writer.println("();");
+        // register the view before converting its properties, so the cyclic references are resolved to it.
+        Utils.printIndent(writer, INDENT, 2);
+        writer.print(READ_CONTEXT_VAR);
+        writer.print(".put(");
+        genType.printType(writer, this, false, false);
+        writer.println(".class, source, out);");
+        printInGraphMode = true;
+        Map<String, String> varMap = prepareRead(writer, !isConfigureBeanPassedToRead());
+        printInGraphMode = false;
+        printAssignFields(writer, varMap, varMapper, "out");
+        Utils.printIndent(writer, INDENT, 2);
+        writer.println("return out;");
+        Utils.printIndent(writer, INDENT, 1);
+        writer.println("}");
+        writer.println();
+    }
+
+    private void printReturnCachedView(@NonNull PrintWriter writer) {
+        Utils.printIndent(writer, INDENT, 2);
+        genType.printType(writer, this, true, false);
+        writer.print(" cached = ");
+        writer.print(READ_CONTEXT_VAR);
+        writer.print(".get(");
+        genType.printType(writer, this, false, false);
+        writer.println(".class, source);");
+        Utils.printIndent(writer, INDENT, 2);
+        writer.println("if (cached != null) {");
+        Utils.printIndent(writer, INDENT, 3);
+        writer.println("return cached;");
+        Utils.printIndent(writer, INDENT, 2);
+        writer.println("}");
+    }
+
+    private void printReader(@NonNull PrintWriter writer) {
+        if (isGraphMode()) {
+            printGraphReader(writer);
+            printCollectionReaders(writer);
+            return;
+        }
+        boolean useReadCore = hasReadCore();
+        printReadMethodHeader(writer, Modifier.PUBLIC);
         VarMapper varMapper = printDefineReadArguments(writer);
         writer.println(") {");
         printReturnNullWhenInputNull(writer, "source");
         if (viewOf.getReadConstructor() != null) {
+            printReturnNewByReadConstructor(writer, varMapper, false);
+        } else if (useReadCore) {
             Utils.printIndent(writer, INDENT, 2);
-            writer.print("return new ");
-            genType.printType(writer, this, false, false);
-            if (!genType.getParameters().isEmpty()) {
-                writer.print("<>");
-            }
-            writer.print("(");
-            printUseReadArguments(writer, varMapper);
+            writer.print("return read(source");
+            printUseExtraReadArguments(writer, varMapper);
+            printUseReadCoreArguments(writer, varMapper, false, false);
             writer.println(");");
         } else {
-            Map<String, String> varMap = prepareRead(writer);
-            Utils.printIndent(writer, INDENT, 2);
-            genType.printType(writer, this, true, false);
-            writer.print(" out = new ");
-            writer.print(genType.getSimpleName());
-            if (!genType.getParameters().isEmpty()) {
-                writer.print("<>");
-            }
-            writer.println("();");
-            printAssignFields(writer, varMap, varMapper, "out");
-            Utils.printIndent(writer, INDENT, 2);
-            writer.println("return out;");
+            printReadBody(writer, varMapper, true);
         }
         Utils.printIndent(writer, INDENT, 1);
         writer.println("}");
         writer.println();
+        if (useReadCore) {
+            // The core of the read methods, the collection readers call it with the configure bean and the batch properties resolved only once.
+            printReadMethodHeader(writer, Modifier.PRIVATE);
+            varMapper = printDefineReadArguments(writer, true);
+            writer.println(") {");
+            printReturnNullWhenInputNull(writer, "source");
+            if (viewOf.getReadConstructor() != null) {
+                printReturnNewByReadConstructor(writer, varMapper, true);
+            } else {
+                printReadBody(writer, varMapper, !isConfigureBeanPassedToRead());
+            }
+            Utils.printIndent(writer, INDENT, 1);
+            writer.println("}");
+            writer.println();
+        }
+        printCollectionReaders(writer);
+    }
+
+    private void printReturnNewByReadConstructor(@NonNull PrintWriter writer, @NonNull VarMapper varMapper, boolean withReadCoreArguments) {
+        Utils.printIndent(writer, INDENT, 2);
+        writer.print("return new ");
+        genType.printType(writer, this, false, false);
+        if (!genType.getParameters().isEmpty()) {
+            writer.print("<>");
+        }
+        writer.print("(");
+        if (withReadCoreArguments) {
+            writer.print("source");
+            printUseExtraReadArguments(writer, varMapper);
+            printUseReadCoreArguments(writer, varMapper, true, false);
+        } else {
+            printUseReadArguments(writer, varMapper);
+        }
+        writer.println(");");
+    }
+
+    private void printReadBody(@NonNull PrintWriter writer, @NonNull VarMapper varMapper, boolean initConfigureBean) {
+        Map<String, String> varMap = prepareRead(writer, initConfigureBean);
+        Utils.printIndent(writer, INDENT, 2);
+        genType.printType(writer, this, true, false);
+        writer.print(" out = new ");
+        writer.print(genType.getSimpleName());
+        if (!genType.getParameters().isEmpty()) {
+            writer.print("<>");
+        }
+        writer.println("();");
+        printAssignFields(writer, varMap, varMapper, "out");
+        Utils.printIndent(writer, INDENT, 2);
+        writer.println("return out;");
+    }
+
+    private void printCollectionReaders(@NonNull PrintWriter writer) {
+        printCollectionReader(writer, "Array", "");
+        printCollectionReader(writer, "List", "ArrayList");
+        printCollectionReader(writer, "Set", "HashSet");
+        printCollectionReader(writer, "Stack", "Stack");
+        printCollectionReader(writer, "Map", "HashMap");
+        // The lazy and parallel readers work on the single element reader function, which has no room for the extra arguments.
         if (extraProperties.isEmpty() && extraParams.isEmpty()) {
-            printCollectionReader(writer, "Array", "");
-            printCollectionReader(writer, "List", "ArrayList");
-            printCollectionReader(writer, "Set", "HashSet");
-            printCollectionReader(writer, "Stack", "Stack");
-            printCollectionReader(writer, "Map", "HashMap");
+            printLazyReader(writer, getImportedName(TYPE_STREAM, SIMPLE_TYPE_STREAM), "readStream");
+            printLazyReader(writer, "Iterable", "readIterable");
+            printLazyReader(writer, getImportedName(TYPE_ITERATOR, SIMPLE_TYPE_ITERATOR), "readIterator");
+            printReaderFunction(writer);
+            if (viewOf.isParallelReader()) {
+                for (String collectionType : Arrays.asList("Array", "List", "Set", "Map")) {
+                    printParallelCollectionReader(writer, collectionType, false);
+                    printParallelCollectionReader(writer, collectionType, true);
+                }
+            }
         }
     }
 
@@ -1346,15 +2197,32 @@ public class ViewContext extends Context {
         if (viewOf.getReadConstructor() == null) {
             return;
         }
+        boolean useReadCore = hasReadCore();
         Utils.printIndent(writer, INDENT, 1);
         Utils.printModifier(writer, viewOf.getReadConstructor());
         genType.printType(writer, this, false, false);
         writer.print("(");
         VarMapper varMapper = printDefineReadArguments(writer);
         writer.println(") {");
+        if (useReadCore) {
+            Utils.printIndent(writer, INDENT, 2);
+            writer.print("this(source");
+            printUseExtraReadArguments(writer, varMapper);
+            printUseReadCoreArguments(writer, varMapper, false, true);
+            writer.println(");");
+            Utils.printIndent(writer, INDENT, 1);
+            writer.println("}");
+            writer.println();
+            Utils.printIndent(writer, INDENT, 1);
+            Utils.printModifier(writer, Modifier.PRIVATE);
+            genType.printType(writer, this, false, false);
+            writer.print("(");
+            varMapper = printDefineReadArguments(writer, true);
+            writer.println(") {");
+        }
         String npeMessage = "The input source argument of the read constructor of class " + genType.getQualifiedName() + " should not be null.";
         printThrowNPEWhenInputNull(writer, "source", npeMessage);
-        Map<String, String> varMap = prepareRead(writer);
+        Map<String, String> varMap = prepareRead(writer, !isConfigureBeanPassedToRead());
         printAssignFields(writer, varMap, varMapper, "this");
         Utils.printIndent(writer, INDENT, 1);
         writer.println("}");
@@ -1363,9 +2231,8 @@ public class ViewContext extends Context {
 
     private void printWriteBackField(@NonNull PrintWriter writer, @NonNull Property property) {
         if (property.getConverter() != null) {
-            writer.print("new ");
-            property.getConverter().printType(writer, this, false, false);
-            writer.print("().convertBack(");
+            printConverterInstance(writer, property);
+            writer.print(".convertBack(");
             writer.print("this.");
             writer.print(getMappedFieldName(property));
             writer.println(");");
@@ -1404,7 +2271,7 @@ public class ViewContext extends Context {
             writer.print(";");
         }
         for (Property property : getProperties()) {
-            if (property.isWriteable() || property.isLombokWritable(samePackage)) {
+            if (property.isWriteable() || property.isLombokWritable(samePackage, isFinalField(property))) {
                 if (!viewOf.getWriteExcludes().contains(property.getName())) {
                     writer.println();
                     Utils.printIndent(writer, INDENT, 2);
@@ -1434,4 +2301,39 @@ public class ViewContext extends Context {
         writer.println("}");
         writer.println();
     }
+
+    /**
+     * The parts of the view derived from the javac model, see {@link #snapshotModel()}.
+     */
+    private static class ModelSnapshot {
+        private String viewAnnotations;
+        private Type serializableType;
+        private final Map<PropertyAnnotationKey, String> propertyAnnotations = new HashMap<>();
+        private final Set<Property> finalFields = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<ParamInfo, Type> extraParamTypes = new IdentityHashMap<>();
+        private final List<String> generatedCodes = new ArrayList<>();
+    }
+
+    private static class PropertyAnnotationKey {
+        private final Property property;
+        private final AnnotationDest dest;
+
+        private PropertyAnnotationKey(@NonNull Property property, @NonNull AnnotationDest dest) {
+            this.property = property;
+            this.dest = dest;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PropertyAnnotationKey that = (PropertyAnnotationKey) o;
+            return property == that.property && dest == that.dest;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(property) + dest.hashCode();
+        }
+    }
 }
@@ -44,6 +44,9 @@ public class ViewOfData {
     private CacheType configureBeanCacheType;
     private Access writeBackMethod;
     private Access createAndWriteBackMethod;
+    private boolean parallelReader;
+    private int parallelReadThreshold;
+    private boolean graphMode;
     private Set<String> extraExcludes;
     private Set<String> writeExcludes;
     private Map<String, AnnotationUsage> useAnnotations;
@@ -91,6 +94,9 @@ public class ViewOfData {
         this.configureBeanCacheType = loadEnum(elements, "configureBeanCacheType", CacheType.LOCAL, CacheType.class, ViewConfigureBeanCacheType.class);
         this.writeBackMethod = loadEnum(elements, "writeBackMethod", Access.NONE, Access.class, ViewWriteBackMethod.class);
         this.createAndWriteBackMethod = loadEnum(elements, "createAndWriteBackMethod", Access.NONE, Access.class, ViewCreateAndWriteBackMethod.class);
+        this.parallelReader = loadBoolean(elements, "parallelReader", false, ViewParallelReader.class);
+        this.parallelReadThreshold = loadParallelReadThreshold(elements);
+        this.graphMode = loadBoolean(elements, "graphMode", false, ViewGraphMode.class);
         this.extraExcludes = new HashSet<>();
         List<AnnotationMirror> removeViewProperties = Utils.getAnnotationsOn(elements, configElement, RemoveViewProperty.class, RemoveViewProperties.class);
         for (AnnotationMirror removeViewProperty : removeViewProperties) {
@@ -161,6 +167,17 @@ public class ViewOfData {
         return objValue != null ? objValue : 0L;
     }
 
+    private int loadParallelReadThreshold(Elements elements) {
+        Integer objValue = Utils.getIntAnnotationValue(viewOf, "parallelReadThreshold");
+        if (objValue == null) {
+            List<AnnotationMirror> annotations = Utils.getAnnotationsOn(elements, configElement, ViewParallelReadThreshold.class, null, true, false);
+            if (!annotations.isEmpty()) {
+                objValue = Utils.getIntAnnotationValue(annotations.get(annotations.size() - 1), "value");
+            }
+        }
+        return objValue != null ? objValue : 1000;
+    }
+
     private String[] loadStringArray(Elements elements, String name, Class<? extends Annotation> annotationType, Class<? extends Annotation> annotationsType) {
         List<String> values = new ArrayList<>();
         List<AnnotationMirror> annotations = Utils.getAnnotationsOn(elements, configElement, annotationType, annotationsType, true, false);
@@ -351,6 +368,18 @@ public class ViewOfData {
         return createAndWriteBackMethod;
     }
 
+    public boolean isParallelReader() {
+        return parallelReader;
+    }
+
+    public int getParallelReadThreshold() {
+        return parallelReadThreshold;
+    }
+
+    public boolean isGraphMode() {
+        return graphMode;
+    }
+
     public Set<String> getExtraExcludes() {
         return extraExcludes;
     }
@@ -476,6 +505,9 @@ public class ViewOfData {
         printAnnotationValue(writer, "serializable", serializable, indent, indentNum + 1);
         printAnnotationValue(writer, "serialVersionUID", serialVersionUID, indent, indentNum + 1);
         printAnnotationValue(writer, "useDefaultBeanProvider", useDefaultBeanProvider, indent, indentNum + 1);
+        printAnnotationValue(writer, "parallelReader", parallelReader, indent, indentNum + 1);
+        printAnnotationValue(writer, "parallelReadThreshold", parallelReadThreshold, indent, indentNum + 1);
+        printAnnotationValue(writer, "graphMode", graphMode, indent, indentNum + 1);
         printEnumAnnotationValue(writer, "configureBeanCacheType", cacheTypeType, configureBeanCacheType, context, indent, indentNum + 1, true);
         writer.print(")");
     }
@@ -1,5 +1,6 @@
 package io.github.vipcxj.beanknife.core.spi;
 
+import io.github.vipcxj.beanknife.core.models.Property;
 import io.github.vipcxj.beanknife.core.models.ViewContext;
 
 import java.io.PrintWriter;
@@ -8,5 +9,27 @@ public interface ViewCodeGenerator {
 
     void ready(ViewContext context);
 
+    /**
+     * Print the extra members of the view.
+     * The writer is shared with the rest of the view, and may write into the source file directly,
+     * so print into it instead of rendering into another writer first.
+     * @param writer the writer of the view source
+     * @param context the view context
+     * @param indent the indent
+     * @param indentNum the indent num of the members
+     */
     void print(PrintWriter writer, ViewContext context, String indent, int indentNum);
+
+    /**
+     * Get the condition checked by the read methods before reading the property from the source.
+     * When the condition is false, the property is left null instead of being read.
+     * Not used for the properties of primitive types.
+     * @param context the view context
+     * @param property the property of the view, read from the property of the source
+     * @param source the expression of the source
+     * @return the condition expression, or null if the property is always read
+     */
+    default String getReadCondition(ViewContext context, Property property, String source) {
+        return null;
+    }
 }
@@ -0,0 +1,127 @@
+package io.github.vipcxj.beanknife.core.utils;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The compiled include or exclude pattern, which is a space or comma divided string and each part is a regex pattern.
+ * The parts without any regex meta character are matched by a hash set,
+ * the others are combined into one alternation compiled once, so a name is matched by a single matcher instead of one per part.
+ * The alternation is still tried branch by branch with backtracking by {@link java.util.regex},
+ * the gain is that no pattern is compiled and no matcher is created per part any more.
+ */
+public class PatternSet {
+
+    private static final Pattern SEPARATOR = Pattern.compile(",\\s*|\\s+");
+    private static final String META_CHARS = "\\^$.|?*+()[]{}";
+    private final Set<String> literals;
+    private final List<Pattern> patterns;
+    private final Map<String, String> invalidParts;
+
+    private PatternSet(@NonNull Set<String> literals, @NonNull List<Pattern> patterns, @NonNull Map<String, String> invalidParts) {
+        this.literals = literals;
+        this.patterns = patterns;
+        this.invalidParts = invalidParts;
+    }
+
+    @NonNull
+    public static PatternSet compile(@NonNull String pattern) {
+        Set<String> literals = new HashSet<>();
+        List<String> regexParts = new ArrayList<>();
+        List<Pattern> regexPatterns = new ArrayList<>();
+        Map<String, String> invalidParts = new LinkedHashMap<>();
+        for (String part : SEPARATOR.split(pattern)) {
+            if (isLiteral(part)) {
+                literals.add(part);
+                continue;
+            }
+            try {
+                regexPatterns.add(Pattern.compile(part));
+                regexParts.add(part);
+            } catch (PatternSyntaxException e) {
+                invalidParts.put(part, e.getMessage());
+            }
+        }
+        List<Pattern> patterns = regexPatterns;
+        // The group numbers are shifted in the combined pattern, so the parts with back references are matched one by one.
+        // So are the parts with an unterminated quote, which would swallow the rest of the combined pattern.
+        if (regexParts.size() > 1 && regexParts.stream().noneMatch(part -> hasBackReference(part) || hasUnterminatedQuote(part))) {
+            StringBuilder sb = new StringBuilder();
+            for (String part : regexParts) {
+                if (sb.length() > 0) {
+                    sb.append('|');
+                }
+                sb.append("(?:").append(part).append(')');
+            }
+            try {
+                patterns = Collections.singletonList(Pattern.compile(sb.toString()));
+            } catch (PatternSyntaxException e) {
+                // The parts may conflict with each other, for example the same named group, so match them one by one.
+                patterns = regexPatterns;
+            }
+        }
+        return new PatternSet(literals, patterns, invalidParts);
+    }
+
+    private static boolean isLiteral(@NonNull String part) {
+        for (int i = 0; i < part.length(); ++i) {
+            if (META_CHARS.indexOf(part.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasBackReference(@NonNull String part) {
+        for (int i = 0; i < part.length() - 1; ++i) {
+            if (part.charAt(i) == '\\') {
+                char next = part.charAt(i + 1);
+                if (Character.isDigit(next) || next == 'k') {
+                    return true;
+                }
+                ++i;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasUnterminatedQuote(@NonNull String part) {
+        for (int i = 0; i < part.length() - 1; ++i) {
+            if (part.charAt(i) == '\\') {
+                if (part.charAt(i + 1) == 'Q') {
+                    int end = part.indexOf("\\E", i + 2);
+                    if (end == -1) {
+                        return true;
+                    }
+                    i = end;
+                }
+                ++i;
+            }
+        }
+        return false;
+    }
+
+    public boolean matches(@NonNull String name) {
+        if (literals.contains(name)) {
+            return true;
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(name).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the parts which are not valid regex patterns.
+     * @return the map from the invalid part to the error message
+     */
+    @NonNull
+    public Map<String, String> getInvalidParts() {
+        return invalidParts;
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.vipcxj.beanknife.core.utils;
+
+import com.sun.source.util.Trees;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+
+public class ProcessingEnvUtils {
+
+    private static final String JAVAC_PROCESSING_ENVIRONMENT = "com.sun.tools.javac.processing.JavacProcessingEnvironment";
+    private static final int MAX_UNWRAP_DEPTH = 8;
+
+    /**
+     * Unwrap the processing environment wrapped by the build tools.
+     * Intellij IDEA wraps it by its own api, Gradle incremental processing wraps it by a delegating class,
+     * and other tools may wrap it by a proxy. Only the javac environment can be passed to {@link Trees#instance(ProcessingEnvironment)}.
+     * @param processingEnv the processing environment passed to the processor
+     * @return the javac processing environment, or the most inner environment found if it can not be unwrapped further
+     */
+    @NonNull
+    public static ProcessingEnvironment unwrap(@NonNull ProcessingEnvironment processingEnv) {
+        ProcessingEnvironment current = processingEnv;
+        for (int i = 0; i < MAX_UNWRAP_DEPTH; ++i) {
+            current = JetbrainUtils.jbUnwrap(ProcessingEnvironment.class, current);
+            if (JAVAC_PROCESSING_ENVIRONMENT.equals(current.getClass().getName())) {
+                return current;
+            }
+            ProcessingEnvironment delegate = findDelegate(current);
+            if (delegate == null || delegate == current) {
+                return current;
+            }
+            current = delegate;
+        }
+        return current;
+    }
+
+    /**
+     * Get the javac trees of the processing environment.
+     * @param processingEnv the processing environment passed to the processor
+     * @return the trees, or null if the environment is not a javac environment and can not be unwrapped to one.
+     * Then the types not generated yet can not be resolved from the source.
+     */
+    @CheckForNull
+    public static Trees getTrees(@NonNull ProcessingEnvironment processingEnv) {
+        try {
+            return Trees.instance(unwrap(processingEnv));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @CheckForNull
+    private static ProcessingEnvironment findDelegate(@NonNull ProcessingEnvironment wrapper) {
+        Object holder = Proxy.isProxyClass(wrapper.getClass()) ? Proxy.getInvocationHandler(wrapper) : wrapper;
+        for (Class<?> clazz = holder.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || !field.getType().isAssignableFrom(ProcessingEnvironment.class)) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    Object value = field.get(holder);
+                    if (value instanceof ProcessingEnvironment) {
+                        return (ProcessingEnvironment) value;
+                    }
+                } catch (RuntimeException | IllegalAccessException ignored) {
+                    // The field is not accessible, for example it belongs to a module not opened to us.
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -2,6 +2,7 @@ package io.github.vipcxj.beanknife.core.utils;
 
 import com.sun.source.tree.*;
 import com.sun.source.util.TreePath;
+import com.sun.source.util.Trees;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.github.vipcxj.beanknife.core.models.Context;
@@ -49,14 +50,23 @@ public class TreeUtils {
 
     @CheckForNull
     public static CompilationUnitTree getCompilationUnit(@NonNull Context context, @NonNull Element element) {
-        TreePath path = context.getTrees().getPath(element);
+        Trees trees = context.getTrees();
+        if (trees == null) {
+            return null;
+        }
+        TreePath path = trees.getPath(element);
         return path != null ? path.getCompilationUnit() : null;
     }
 
+    @CheckForNull
     public static TypeMirror tryGetTypeMirror(@NonNull Context context, @NonNull Element element, @NonNull Tree tree) {
-        TreePath path = context.getTrees().getPath(element);
+        Trees trees = context.getTrees();
+        if (trees == null) {
+            return null;
+        }
+        TreePath path = trees.getPath(element);
         CompilationUnitTree unit = path.getCompilationUnit();
-        TreePath treePath = context.getTrees().getPath(unit, tree);
-        return context.getTrees().getTypeMirror(treePath);
+        TreePath treePath = trees.getPath(unit, tree);
+        return trees.getTypeMirror(treePath);
     }
 }
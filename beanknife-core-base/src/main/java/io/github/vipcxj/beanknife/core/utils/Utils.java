@@ -4,8 +4,6 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.github.vipcxj.beanknife.core.models.*;
 import io.github.vipcxj.beanknife.runtime.annotations.Access;
-import io.github.vipcxj.beanknife.runtime.annotations.ViewOf;
-import io.github.vipcxj.beanknife.runtime.annotations.ViewOfs;
 import io.github.vipcxj.beanknife.runtime.annotations.ViewProperty;
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedMeta;
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
@@ -23,8 +21,6 @@ import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
-import javax.tools.JavaFileObject;
-import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.annotation.ElementType;
@@ -313,6 +309,15 @@ public class Utils {
         return (Boolean) annotationValue.getValue();
     }
 
+    @CheckForNull
+    public static Integer getIntAnnotationValue(@NonNull AnnotationMirror annotation, @NonNull String name) {
+        AnnotationValue annotationValue = getAnnotationValue(annotation, name);
+        if (annotationValue == null) {
+            return null;
+        }
+        return (Integer) annotationValue.getValue();
+    }
+
     @CheckForNull
     public static Long getLongAnnotationValue(@NonNull AnnotationMirror annotation, @NonNull String name) {
         AnnotationValue annotationValue = getAnnotationValue(annotation, name);
@@ -867,38 +872,82 @@ public class Utils {
            DeclaredType declaredType = (DeclaredType) superclass;
            dependencies.addAll(calcDependencies(Utils.toElement(declaredType)));
         }
+        for (TypeMirror anInterface : element.getInterfaces()) {
+            dependencies.addAll(calcDependencies(Utils.toElement((DeclaredType) anInterface)));
+        }
         return dependencies;
     }
 
-    private static Element[] calcDependencies(ViewContext context) {
+    /**
+     * Calculate the originating elements of the meta class of the target element.
+     * The meta class is generated from the target and all the view configurations targeting it.
+     * @param targetElement the target element
+     * @param configElement the config element which triggers the generation
+     * @param viewOfDataList all the view configurations targeting the target element
+     * @return the originating elements
+     */
+    public static Element[] calcMetaDependencies(@NonNull TypeElement targetElement, @NonNull TypeElement configElement, @NonNull List<ViewOfData> viewOfDataList) {
+        Set<Element> dependencies = new LinkedHashSet<>(calcDependencies(targetElement));
+        dependencies.add(configElement);
+        for (ViewOfData viewOfData : viewOfDataList) {
+            dependencies.add(viewOfData.getConfigElement());
+        }
+        return dependencies.toArray(new Element[0]);
+    }
+
+    /**
+     * Calculate the originating elements of the view class.
+     * @param context the view context
+     * @return the originating elements
+     */
+    public static Element[] calcViewDependencies(@NonNull ViewContext context) {
         ViewOfData viewOf = context.getViewOf();
-        List<TypeElement> targetDependencies = calcDependencies(viewOf.getTargetElement());
-        List<TypeElement> configDependencies;
-        if (!viewOf.getConfigElement().equals(viewOf.getTargetElement())) {
-            configDependencies = calcDependencies(viewOf.getConfigElement());
-        } else {
-            configDependencies = Collections.emptyList();
-        }
-        Element[] dependencies = new Element[targetDependencies.size() + configDependencies.size()];
-        int i = 0;
-        for (TypeElement targetDependency : targetDependencies) {
-            dependencies[i++] = targetDependency;
+        Set<Element> dependencies = new LinkedHashSet<>(calcDependencies(viewOf.getTargetElement()));
+        dependencies.addAll(calcDependencies(viewOf.getConfigElement()));
+        Elements elementUtils = context.getProcessingEnv().getElementUtils();
+        for (Property property : context.getProperties()) {
+            addEnclosingTypeDependency(dependencies, property.getElement());
+            Property base = property.getBase();
+            if (base != null) {
+                // The mapped or overridden property may be declared in any super type of the target.
+                addEnclosingTypeDependency(dependencies, base.getElement());
+            }
+            Type converter = property.getConverter();
+            if (converter != null) {
+                TypeElement converterElement = elementUtils.getTypeElement(converter.getQualifiedName());
+                if (converterElement != null) {
+                    dependencies.add(converterElement);
+                }
+            }
+            collectViewDependencies(context, property.getType(), dependencies);
         }
-        for (TypeElement configDependency : configDependencies) {
-            dependencies[i++] = configDependency;
+        return dependencies.toArray(new Element[0]);
+    }
+
+    private static void addEnclosingTypeDependency(Set<Element> dependencies, @CheckForNull Element element) {
+        if (element != null && element.getEnclosingElement() instanceof TypeElement) {
+            dependencies.add(element.getEnclosingElement());
         }
-        return dependencies;
     }
 
-    public static void writeViewFile(ViewContext context) throws IOException {
-        Modifier modifier = context.getViewOf().getAccess();
-        if (modifier == null) {
+    /**
+     * The generated view changes when the config of any view it references changes, so add these configs to the dependencies.
+     */
+    private static void collectViewDependencies(ViewContext context, Type type, Set<Element> dependencies) {
+        if (type.isArray()) {
+            Type componentType = type.getComponentType();
+            if (componentType != null) {
+                collectViewDependencies(context, componentType, dependencies);
+            }
             return;
         }
-        Element[] dependencies = calcDependencies(context);
-        JavaFileObject sourceFile = context.getProcessingEnv().getFiler().createSourceFile(context.getGenType().getQualifiedName(), dependencies);
-        try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
-            context.print(writer);
+        ViewOfData viewData = context.getViewData(type);
+        if (viewData != null) {
+            dependencies.add(viewData.getConfigElement());
+            dependencies.add(viewData.getTargetElement());
+        }
+        for (Type parameter : type.getParameters()) {
+            collectViewDependencies(context, parameter, dependencies);
         }
     }
 
@@ -1067,27 +1116,7 @@ public class Utils {
         return null;
     }
 
-    private static void collectViewOfs(List<ViewOfData> results, ProcessingEnvironment processingEnv, TypeElement candidate, TypeElement targetElement, AnnotationMirror viewOf) {
-        Map<? extends ExecutableElement, ? extends AnnotationValue> elementValuesWithDefaults = processingEnv.getElementUtils().getElementValuesWithDefaults(viewOf);
-        Map<String, ? extends AnnotationValue> attributes = CollectionUtils.mapKey(elementValuesWithDefaults, e -> e.getSimpleName().toString());
-        TypeElement target = (TypeElement) ((DeclaredType) attributes.get("value").getValue()).asElement();
-        if (target.getQualifiedName().toString().equals(Self.class.getCanonicalName())) {
-            target = candidate;
-        }
-        if (!target.equals(targetElement)) {
-            return;
-        }
-        TypeElement config = (TypeElement) ((DeclaredType) attributes.get("config").getValue()).asElement();
-        if (config.getQualifiedName().toString().equals(Self.class.getCanonicalName())) {
-            config = candidate;
-        }
-        ViewOfData viewOfData = ViewOfData.read(processingEnv, viewOf, candidate);
-        viewOfData.setConfigElement(config);
-        viewOfData.setTargetElement(target);
-        results.add(viewOfData);
-    }
-
-    private static void collectViewOfs(List<ViewOfData> results, ProcessingEnvironment processingEnv, TypeElement candidate, AnnotationMirror viewOf) {
+    public static void collectViewOfs(List<ViewOfData> results, ProcessingEnvironment processingEnv, TypeElement candidate, AnnotationMirror viewOf) {
         Map<? extends ExecutableElement, ? extends AnnotationValue> elementValuesWithDefaults = processingEnv.getElementUtils().getElementValuesWithDefaults(viewOf);
         TypeElement targetElement = toElement(getTypeAnnotationValue(viewOf, elementValuesWithDefaults, "value"));
         if (isThisTypeElement(targetElement, Self.class)) {
@@ -1104,73 +1133,7 @@ public class Utils {
     }
 
     public static List<ViewOfData> collectViewOfs(ProcessingEnvironment processingEnv, RoundEnvironment roundEnv) {
-        Set<? extends Element> proxySources = roundEnv.getElementsAnnotatedWith(GeneratedMeta.class);
-        Map<String, TypeElement> configClasses = new HashMap<>();
-        for (Element proxySource : proxySources) {
-            List<? extends AnnotationMirror> annotationMirrors = proxySource.getAnnotationMirrors();
-            for (AnnotationMirror annotationMirror : annotationMirrors) {
-                if (Utils.isThisAnnotation(annotationMirror, GeneratedMeta.class)) {
-                    Map<? extends ExecutableElement, ? extends AnnotationValue> elementValuesWithDefaults = processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
-                    DeclaredType[] proxies = Utils.getTypeArrayAnnotationValue(annotationMirror, elementValuesWithDefaults, "proxies");
-                    for (DeclaredType proxy : proxies) {
-                        TypeElement proxyElement = toElement(proxy);
-                        configClasses.put(proxyElement.getQualifiedName().toString(), proxyElement);
-                    }
-                }
-            }
-        }
-        List<ViewOfData> out = new ArrayList<>();
-        for (TypeElement configElement : configClasses.values()) {
-            List<? extends AnnotationMirror> annotationMirrors = configElement.getAnnotationMirrors();
-            for (AnnotationMirror annotationMirror : annotationMirrors) {
-                if (Utils.isThisAnnotation(annotationMirror, ViewOf.class)) {
-                    collectViewOfs(out, processingEnv, configElement, annotationMirror);
-                }
-            }
-            for (AnnotationMirror annotationMirror : annotationMirrors) {
-                if (Utils.isThisAnnotation(annotationMirror, ViewOfs.class)) {
-                    Map<? extends ExecutableElement, ? extends AnnotationValue> elementValuesWithDefaults = processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
-                    List<AnnotationMirror> viewOfs = Utils.getAnnotationElement(annotationMirror, elementValuesWithDefaults);
-                    for (AnnotationMirror viewOf : viewOfs) {
-                        collectViewOfs(out, processingEnv, configElement, viewOf);
-                    }
-                }
-            }
-        }
-        return out;
-    }
-
-    public static List<ViewOfData> collectViewOfs(ProcessingEnvironment processingEnv, RoundEnvironment roundEnv, TypeElement targetElement) {
-        Set<? extends Element> candidates = roundEnv.getElementsAnnotatedWith(ViewOf.class);
-        List<ViewOfData> out = new ArrayList<>();
-        for (Element candidate : candidates) {
-            if (Utils.shouldIgnoredElement(candidate)) {
-                continue;
-            }
-            List<? extends AnnotationMirror> annotationMirrors = candidate.getAnnotationMirrors();
-            for (AnnotationMirror annotationMirror : annotationMirrors) {
-                if (Utils.isThisAnnotation(annotationMirror, ViewOf.class)) {
-                    collectViewOfs(out, processingEnv, (TypeElement) candidate, targetElement, annotationMirror);
-                }
-            }
-        }
-        candidates = roundEnv.getElementsAnnotatedWith(ViewOfs.class);
-        for (Element candidate : candidates) {
-            if (Utils.shouldIgnoredElement(candidate)) {
-                continue;
-            }
-            List<? extends AnnotationMirror> annotationMirrors = candidate.getAnnotationMirrors();
-            for (AnnotationMirror annotationMirror : annotationMirrors) {
-                if (Utils.isThisAnnotation(annotationMirror, ViewOfs.class)) {
-                    Map<? extends ExecutableElement, ? extends AnnotationValue> elementValuesWithDefaults = processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
-                    List<AnnotationMirror> viewOfs = Utils.getAnnotationElement(annotationMirror, elementValuesWithDefaults);
-                    for (AnnotationMirror viewOf : viewOfs) {
-                        collectViewOfs(out, processingEnv, (TypeElement) candidate, targetElement, viewOf);
-                    }
-                }
-            }
-        }
-        return out;
+        return new RoundIndex(processingEnv, roundEnv).getProxyViewOfs();
     }
 
     public static Modifier accessToModifier(Access access) {
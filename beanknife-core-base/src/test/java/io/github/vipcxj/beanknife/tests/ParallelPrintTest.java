@@ -0,0 +1,61 @@
+package io.github.vipcxj.beanknife.tests;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import io.github.vipcxj.beanknife.core.GeneratedMetaProcessor;
+import io.github.vipcxj.beanknife.core.ViewMetaProcessor;
+import io.github.vipcxj.beanknife.core.ViewOfProcessor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * The views printed by several threads should be the same as the views printed by the javac thread.
+ */
+public class ParallelPrintTest {
+
+    private static final List<String> CASES = Arrays.asList(
+            "io.github.vipcxj.beanknife.cases.beans.FieldBeanViewConfig",
+            "io.github.vipcxj.beanknife.cases.beans.ConverterBeanConfig",
+            "io.github.vipcxj.beanknife.cases.beans.GraphNodeBeanViewConfig",
+            "io.github.vipcxj.beanknife.cases.beans.ViewPropertyBeanViewConfig",
+            "io.github.vipcxj.beanknife.cases.beans.ViewPropertyContainerBeanViewConfig",
+            "io.github.vipcxj.beanknife.cases.beans.StaticMethodPropertyBeanViewConfig",
+            "io.github.vipcxj.beanknife.cases.beans.DynamicMethodPropertyBeanViewConfig",
+            "io.github.vipcxj.beanknife.cases.beans.BatchPropertyBeanViewConfig"
+    );
+
+    private static Map<String, String> compile(String... options) throws IOException {
+        List<JavaFileObject> sourceFiles = CASES.stream()
+                .map(name -> name.replaceAll("\\.", "/") + ".java")
+                .map(JavaFileObjects::forResource)
+                .collect(Collectors.toList());
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new ViewOfProcessor(), new ViewMetaProcessor(), new GeneratedMetaProcessor())
+                .withOptions((Object[]) options)
+                .compile(sourceFiles);
+        CompilationSubject.assertThat(compilation).succeeded();
+        Map<String, String> sources = new TreeMap<>();
+        for (JavaFileObject sourceFile : compilation.generatedSourceFiles()) {
+            sources.put(sourceFile.toUri().toString(), sourceFile.getCharContent(false).toString());
+        }
+        return sources;
+    }
+
+    @Test
+    public void testParallelOutputSameAsSerial() throws IOException {
+        Map<String, String> serial = compile();
+        Map<String, String> parallel = compile("-Abeanknife.parallelism=4");
+        Assert.assertFalse(serial.isEmpty());
+        Assert.assertEquals(serial, parallel);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.vipcxj.beanknife.tests;
+
+import io.github.vipcxj.beanknife.core.utils.PatternSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PatternSetTest {
+
+    @Test
+    public void testLiteralAndRegexParts() {
+        PatternSet patternSet = PatternSet.compile("a, b.*  c,d+");
+        Assert.assertTrue(patternSet.matches("a"));
+        Assert.assertTrue(patternSet.matches("b"));
+        Assert.assertTrue(patternSet.matches("bcd"));
+        Assert.assertTrue(patternSet.matches("c"));
+        Assert.assertTrue(patternSet.matches("ddd"));
+        Assert.assertFalse(patternSet.matches("ab"));
+        Assert.assertFalse(patternSet.matches("cd"));
+        Assert.assertFalse(patternSet.matches("e"));
+        Assert.assertTrue(patternSet.getInvalidParts().isEmpty());
+    }
+
+    @Test
+    public void testOnlyLiteralParts() {
+        PatternSet patternSet = PatternSet.compile("a,b");
+        Assert.assertTrue(patternSet.matches("a"));
+        Assert.assertTrue(patternSet.matches("b"));
+        Assert.assertFalse(patternSet.matches("a,b"));
+    }
+
+    @Test
+    public void testQuotedParts() {
+        PatternSet patternSet = PatternSet.compile("\\Qa.b\\E, c+");
+        Assert.assertTrue(patternSet.matches("a.b"));
+        Assert.assertTrue(patternSet.matches("cc"));
+        Assert.assertFalse(patternSet.matches("axb"));
+    }
+
+    @Test
+    public void testUnterminatedQuotedPart() {
+        // The quote extends to the end of its own part, but must not swallow the other parts.
+        PatternSet patternSet = PatternSet.compile("\\Qa.b, c+");
+        Assert.assertTrue(patternSet.matches("a.b"));
+        Assert.assertTrue(patternSet.matches("cc"));
+        Assert.assertFalse(patternSet.matches("axb"));
+        Assert.assertFalse(patternSet.matches("a.b)|(?:c+"));
+        Assert.assertTrue(patternSet.getInvalidParts().isEmpty());
+    }
+
+    @Test
+    public void testInvalidParts() {
+        PatternSet patternSet = PatternSet.compile("a(, b+, [c");
+        Assert.assertEquals(2, patternSet.getInvalidParts().size());
+        Assert.assertTrue(patternSet.getInvalidParts().containsKey("a("));
+        Assert.assertTrue(patternSet.getInvalidParts().containsKey("[c"));
+        Assert.assertTrue(patternSet.matches("bb"));
+        Assert.assertFalse(patternSet.matches("a("));
+        Assert.assertFalse(patternSet.matches("a"));
+    }
+
+    @Test
+    public void testBackReferences() {
+        PatternSet patternSet = PatternSet.compile("(a)\\1, (b)\\1");
+        Assert.assertTrue(patternSet.matches("aa"));
+        Assert.assertTrue(patternSet.matches("bb"));
+        Assert.assertFalse(patternSet.matches("ab"));
+    }
+
+    @Test
+    public void testConflictedNamedGroups() {
+        PatternSet patternSet = PatternSet.compile("(?<x>a+), (?<x>b+)");
+        Assert.assertTrue(patternSet.matches("aa"));
+        Assert.assertTrue(patternSet.matches("bb"));
+        Assert.assertFalse(patternSet.matches("ab"));
+        Assert.assertTrue(patternSet.getInvalidParts().isEmpty());
+    }
+}
@@ -0,0 +1,211 @@
+package io.github.vipcxj.beanknife.tests;
+
+import io.github.vipcxj.beanknife.core.GeneratedMetaProcessor;
+import io.github.vipcxj.beanknife.core.ViewMetaProcessor;
+import io.github.vipcxj.beanknife.core.ViewOfProcessor;
+import io.github.vipcxj.beanknife.core.utils.ProcessingEnvUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Gradle incremental processing and some other build tools do not pass the javac environment to the processors,
+ * but a wrapper of it, which can not be passed to {@code Trees.instance} directly.
+ */
+public class ProxiedProcessingEnvTest {
+
+    private static final String CONFIG = "io.github.vipcxj.beanknife.cases.beans.FieldBeanViewConfig";
+    private static final String VIEW = "io.github.vipcxj.beanknife.cases.beans.FieldBeanView";
+
+    private static List<Processor> processors() {
+        return Arrays.asList(new ViewOfProcessor(), new ViewMetaProcessor(), new GeneratedMetaProcessor());
+    }
+
+    private static List<WrappedEnvProcessor> wrap(Function<ProcessingEnvironment, ProcessingEnvironment> wrapper) {
+        return processors().stream().map(processor -> new WrappedEnvProcessor(processor, wrapper)).collect(Collectors.toList());
+    }
+
+    private static ProcessingEnvironment proxy(InvocationHandler handler) {
+        return (ProcessingEnvironment) Proxy.newProxyInstance(
+                ProxiedProcessingEnvTest.class.getClassLoader(),
+                new Class<?>[] { ProcessingEnvironment.class },
+                handler
+        );
+    }
+
+    @Test
+    public void testProxiedEnvironment() {
+        List<WrappedEnvProcessor> processors = wrap(env -> proxy(new DelegateHandler(env)));
+        Utils.testViewCase(new ArrayList<>(processors), Collections.singletonList(CONFIG), Collections.singletonList(VIEW));
+        for (WrappedEnvProcessor processor : processors) {
+            Assert.assertTrue(processor.wrapped);
+            Assert.assertTrue(processor.treesFound);
+        }
+    }
+
+    @Test
+    public void testDelegatingEnvironment() {
+        List<WrappedEnvProcessor> processors = wrap(env -> proxy(new DelegateHandler(new DelegatingEnv(env))));
+        Utils.testViewCase(new ArrayList<>(processors), Collections.singletonList(CONFIG), Collections.singletonList(VIEW));
+        for (WrappedEnvProcessor processor : processors) {
+            Assert.assertTrue(processor.treesFound);
+        }
+    }
+
+    @Test
+    public void testHiddenEnvironment() {
+        List<WrappedEnvProcessor> processors = wrap(env -> proxy(new HiddenDelegateHandler(env)));
+        Utils.testViewCase(new ArrayList<>(processors), Collections.singletonList(CONFIG), Collections.singletonList(VIEW));
+        for (WrappedEnvProcessor processor : processors) {
+            Assert.assertTrue(processor.wrapped);
+            Assert.assertFalse(processor.treesFound);
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static class DelegateHandler implements InvocationHandler {
+
+        private final ProcessingEnvironment delegate;
+
+        private DelegateHandler(ProcessingEnvironment delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return ProxiedProcessingEnvTest.invoke(method, delegate, args);
+        }
+    }
+
+    /**
+     * The delegate can not be found by its fields, so the processors have to work without the trees.
+     */
+    private static class HiddenDelegateHandler implements InvocationHandler {
+
+        private final Map<String, ProcessingEnvironment> delegates;
+
+        private HiddenDelegateHandler(ProcessingEnvironment delegate) {
+            this.delegates = Collections.singletonMap("delegate", delegate);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return ProxiedProcessingEnvTest.invoke(method, delegates.get("delegate"), args);
+        }
+    }
+
+    /**
+     * Like the environment of Gradle incremental processing.
+     */
+    private static class DelegatingEnv implements ProcessingEnvironment {
+
+        private final ProcessingEnvironment delegate;
+
+        private DelegatingEnv(ProcessingEnvironment delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Map<String, String> getOptions() {
+            return delegate.getOptions();
+        }
+
+        @Override
+        public Messager getMessager() {
+            return delegate.getMessager();
+        }
+
+        @Override
+        public Filer getFiler() {
+            return delegate.getFiler();
+        }
+
+        @Override
+        public Elements getElementUtils() {
+            return delegate.getElementUtils();
+        }
+
+        @Override
+        public Types getTypeUtils() {
+            return delegate.getTypeUtils();
+        }
+
+        @Override
+        public SourceVersion getSourceVersion() {
+            return delegate.getSourceVersion();
+        }
+
+        @Override
+        public Locale getLocale() {
+            return delegate.getLocale();
+        }
+    }
+
+    private static class WrappedEnvProcessor implements Processor {
+
+        private final Processor delegate;
+        private final Function<ProcessingEnvironment, ProcessingEnvironment> wrapper;
+        private boolean wrapped;
+        private boolean treesFound;
+
+        private WrappedEnvProcessor(Processor delegate, Function<ProcessingEnvironment, ProcessingEnvironment> wrapper) {
+            this.delegate = delegate;
+            this.wrapper = wrapper;
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return delegate.getSupportedOptions();
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return delegate.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return delegate.getSupportedSourceVersion();
+        }
+
+        @Override
+        public void init(ProcessingEnvironment processingEnv) {
+            ProcessingEnvironment wrappedEnv = wrapper.apply(processingEnv);
+            this.wrapped = wrappedEnv != processingEnv;
+            this.treesFound = ProcessingEnvUtils.getTrees(wrappedEnv) != null;
+            delegate.init(wrappedEnv);
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return delegate.process(annotations, roundEnv);
+        }
+
+        @Override
+        public Iterable<? extends Completion> getCompletions(Element element, AnnotationMirror annotation, ExecutableElement member, String userText) {
+            return delegate.getCompletions(element, annotation, member, userText);
+        }
+    }
+}
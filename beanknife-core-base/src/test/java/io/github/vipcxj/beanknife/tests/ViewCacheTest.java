@@ -0,0 +1,106 @@
+package io.github.vipcxj.beanknife.tests;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import io.github.vipcxj.beanknife.core.GeneratedMetaProcessor;
+import io.github.vipcxj.beanknife.core.ViewMetaProcessor;
+import io.github.vipcxj.beanknife.core.ViewOfProcessor;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+
+/**
+ * The cache is disabled with the default options and the in-memory class output of compile-testing,
+ * so these tests enable it by the option beanknife.cache.dir.
+ */
+public class ViewCacheTest {
+
+    private static final String VIEW = "test.CacheBeanView";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static JavaFileObject bean(String members) {
+        return JavaFileObjects.forSourceLines(
+                "test.CacheBean",
+                "package test;",
+                "",
+                "public class CacheBean {",
+                "    private int a;",
+                "    public int getA() { return a; }",
+                members,
+                "}"
+        );
+    }
+
+    private static JavaFileObject config() {
+        return JavaFileObjects.forSourceLines(
+                "test.CacheBeanViewConfig",
+                "package test;",
+                "",
+                "import io.github.vipcxj.beanknife.runtime.annotations.OverrideViewProperty;",
+                "import io.github.vipcxj.beanknife.runtime.annotations.ViewOf;",
+                "",
+                "@ViewOf(value = CacheBean.class, includePattern = \".*\")",
+                "public class CacheBeanViewConfig {",
+                "    @OverrideViewProperty(\"b\")",
+                "    private String b;",
+                "}"
+        );
+    }
+
+    private static Compilation compile(JavaFileObject bean, String... options) {
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new ViewOfProcessor(), new ViewMetaProcessor(), new GeneratedMetaProcessor())
+                .withOptions((Object[]) options)
+                .compile(bean, config());
+        CompilationSubject.assertThat(compilation).succeeded();
+        return compilation;
+    }
+
+    private String cacheOption() throws IOException {
+        return "-Abeanknife.cache.dir=" + temporaryFolder.newFolder("cache").getAbsolutePath();
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Compilation compilation = compile(bean(""));
+        Assert.assertTrue(compilation.notes().stream().noneMatch(note -> note.getMessage(null).contains("view cache")));
+    }
+
+    @Test
+    public void testCacheHit() throws IOException {
+        String cacheOption = cacheOption();
+        Compilation first = compile(bean(""), cacheOption);
+        CompilationSubject.assertThat(first).hadNoteContaining("BeanKnife view cache: 0 hit(s), 1 miss(es).");
+        String source = first.generatedSourceFile(VIEW).orElseThrow(AssertionError::new).getCharContent(false).toString();
+        Compilation second = compile(bean(""), cacheOption);
+        CompilationSubject.assertThat(second).hadNoteContaining("BeanKnife view cache: 1 hit(s), 0 miss(es).");
+        CompilationSubject.assertThat(second).generatedSourceFile(VIEW).hasSourceEquivalentTo(JavaFileObjects.forSourceString(VIEW, source));
+        // The warning is reported while collecting the view, the hit reports it again.
+        CompilationSubject.assertThat(second).hadWarningContaining("The property b does not exists");
+    }
+
+    @Test
+    public void testCacheInvalidatedBySource() throws IOException {
+        String cacheOption = cacheOption();
+        compile(bean(""), cacheOption);
+        Compilation second = compile(bean("    private long c;\n    public long getC() { return c; }"), cacheOption);
+        CompilationSubject.assertThat(second).hadNoteContaining("BeanKnife view cache: 0 hit(s), 1 miss(es).");
+        CompilationSubject.assertThat(second).generatedSourceFile(VIEW).contentsAsUtf8String().contains("getC()");
+    }
+
+    @Test
+    public void testCacheInvalidatedByOptions() throws IOException {
+        String cacheOption = cacheOption();
+        compile(bean(""), cacheOption);
+        Compilation second = compile(bean(""), cacheOption, "-Abeanknife.parallelism=2");
+        CompilationSubject.assertThat(second).hadNoteContaining("BeanKnife view cache: 0 hit(s), 1 miss(es).");
+    }
+}
@@ -122,4 +122,55 @@ public class ViewOfProcessorTest {
                 )
         );
     }
+
+    @Test
+    public void testConverterBean() {
+        testViewCase(
+                "io.github.vipcxj.beanknife.cases.beans.ConverterBeanConfig",
+                Arrays.asList(
+                        "io.github.vipcxj.beanknife.cases.beans.ConverterBeanMeta",
+                        "io.github.vipcxj.beanknife.cases.beans.ConverterBeanView"
+                )
+        );
+    }
+
+    @Test
+    public void testParallelReader() {
+        testViewCase(
+                "io.github.vipcxj.beanknife.cases.beans.ParallelReaderBeanViewConfig",
+                "io.github.vipcxj.beanknife.cases.beans.ParallelReaderBeanView"
+        );
+    }
+
+    @Test
+    public void testBatchProperty() {
+        testViewCase(
+                "io.github.vipcxj.beanknife.cases.beans.BatchPropertyBeanViewConfig",
+                "io.github.vipcxj.beanknife.cases.beans.BatchPropertyBeanView"
+        );
+    }
+
+    @Test
+    public void testGraphMode() {
+        testViewCase(
+                "io.github.vipcxj.beanknife.cases.beans.GraphNodeBeanViewConfig",
+                "io.github.vipcxj.beanknife.cases.beans.GraphNodeBeanView"
+        );
+    }
+
+    @Test
+    public void testCachedDynamicProperty() {
+        testViewCase(
+                "io.github.vipcxj.beanknife.cases.beans.CachedDynamicPropertyBeanViewConfig",
+                "io.github.vipcxj.beanknife.cases.beans.CachedDynamicPropertyBeanView"
+        );
+    }
+
+    @Test
+    public void testStaticConfigureBeanCache() {
+        testViewCase(
+                "io.github.vipcxj.beanknife.cases.beans.StaticConfigureBeanViewConfig",
+                "io.github.vipcxj.beanknife.cases.beans.StaticConfigureBeanView"
+        );
+    }
 }
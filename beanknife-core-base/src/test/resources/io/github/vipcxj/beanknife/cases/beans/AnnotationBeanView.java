@@ -12,14 +12,18 @@ import io.github.vipcxj.beanknife.cases.annotations.ValueAnnotation1;
 import io.github.vipcxj.beanknife.cases.annotations.ValueAnnotation2;
 import io.github.vipcxj.beanknife.cases.models.AEnum;
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = AnnotationBean.class, configClass = AnnotationBeanViewConfigure.class)
 @InheritableTypeAnnotation(
@@ -154,7 +158,7 @@ public class AnnotationBeanView {
         if (sources == null) {
             return null;
         }
-        List<AnnotationBeanView> results = new ArrayList<>();
+        List<AnnotationBeanView> results = new ArrayList<>(sources.size());
         for (AnnotationBean source : sources) {
             results.add(read(source));
         }
@@ -165,7 +169,7 @@ public class AnnotationBeanView {
         if (sources == null) {
             return null;
         }
-        Set<AnnotationBeanView> results = new HashSet<>();
+        Set<AnnotationBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (AnnotationBean source : sources) {
             results.add(read(source));
         }
@@ -177,6 +181,7 @@ public class AnnotationBeanView {
             return null;
         }
         Stack<AnnotationBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (AnnotationBean source : sources) {
             results.add(read(source));
         }
@@ -187,13 +192,38 @@ public class AnnotationBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, AnnotationBeanView> results = new HashMap<>();
+        Map<K, AnnotationBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, AnnotationBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<AnnotationBeanView> readStream(Stream<AnnotationBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(AnnotationBeanView::read);
+    }
+
+    public static Iterable<AnnotationBeanView> readIterable(Iterable<AnnotationBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, AnnotationBeanView::read);
+    }
+
+    public static Iterator<AnnotationBeanView> readIterator(Iterator<AnnotationBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, AnnotationBeanView::read);
+    }
+
+    public static Function<AnnotationBean, AnnotationBeanView> reader() {
+        return AnnotationBeanView::read;
+    }
+
     public Class<?> getType() {
         return this.type;
     }
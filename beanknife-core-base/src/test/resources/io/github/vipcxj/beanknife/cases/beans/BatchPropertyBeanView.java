@@ -0,0 +1,250 @@
+package io.github.vipcxj.beanknife.cases.beans;
+
+import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
+import io.github.vipcxj.beanknife.runtime.utils.ParallelReaders;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@GeneratedView(targetClass = FieldBean.class, configClass = BatchPropertyBeanViewConfig.class)
+public class BatchPropertyBeanView {
+
+    private long b;
+
+    private Date c;
+
+    private Number[] d;
+
+    private String e;
+
+    public BatchPropertyBeanView() { }
+
+    public BatchPropertyBeanView(
+        long b,
+        Date c,
+        Number[] d,
+        String e
+    ) {
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+    }
+
+    public BatchPropertyBeanView(BatchPropertyBeanView source) {
+        this.b = source.b;
+        this.c = source.c;
+        this.d = source.d;
+        this.e = source.e;
+    }
+
+    public BatchPropertyBeanView(FieldBean source) {
+        this(source, null);
+    }
+
+    private BatchPropertyBeanView(FieldBean source, Map<FieldBean, String> eBatch) {
+        if (source == null) {
+            throw new NullPointerException("The input source argument of the read constructor of class io.github.vipcxj.beanknife.cases.beans.BatchPropertyBeanView should not be null.");
+        }
+        this.b = source.b;
+        this.c = source.c;
+        this.d = source.d;
+        this.e = (eBatch != null ? eBatch : BatchPropertyBeanViewConfig.e(Collections.singletonList(source))).get(source);
+    }
+
+    public static BatchPropertyBeanView read(FieldBean source) {
+        if (source == null) {
+            return null;
+        }
+        return new BatchPropertyBeanView(source);
+    }
+
+    private static BatchPropertyBeanView read(FieldBean source, Map<FieldBean, String> eBatch) {
+        if (source == null) {
+            return null;
+        }
+        return new BatchPropertyBeanView(source, eBatch);
+    }
+
+    public static BatchPropertyBeanView[] read(FieldBean[] sources) {
+        if (sources == null) {
+            return null;
+        }
+        List<FieldBean> batchSources = new ArrayList<>(sources.length);
+        for (FieldBean source : sources) {
+            if (source != null) {
+                batchSources.add(source);
+            }
+        }
+        Map<FieldBean, String> eBatch = batchSources.isEmpty() ? Collections.emptyMap() : BatchPropertyBeanViewConfig.e(batchSources);
+        BatchPropertyBeanView[] results = new BatchPropertyBeanView[sources.length];
+        for (int i = 0; i < sources.length; ++i) {
+            results[i] = read(sources[i], eBatch);
+        }
+        return results;
+    }
+
+    public static List<BatchPropertyBeanView> read(List<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        List<FieldBean> batchSources = new ArrayList<>(sources.size());
+        for (FieldBean source : sources) {
+            if (source != null) {
+                batchSources.add(source);
+            }
+        }
+        Map<FieldBean, String> eBatch = batchSources.isEmpty() ? Collections.emptyMap() : BatchPropertyBeanViewConfig.e(batchSources);
+        List<BatchPropertyBeanView> results = new ArrayList<>(sources.size());
+        for (FieldBean source : sources) {
+            results.add(read(source, eBatch));
+        }
+        return results;
+    }
+
+    public static Set<BatchPropertyBeanView> read(Set<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        List<FieldBean> batchSources = new ArrayList<>(sources.size());
+        for (FieldBean source : sources) {
+            if (source != null) {
+                batchSources.add(source);
+            }
+        }
+        Map<FieldBean, String> eBatch = batchSources.isEmpty() ? Collections.emptyMap() : BatchPropertyBeanViewConfig.e(batchSources);
+        Set<BatchPropertyBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
+        for (FieldBean source : sources) {
+            results.add(read(source, eBatch));
+        }
+        return results;
+    }
+
+    public static Stack<BatchPropertyBeanView> read(Stack<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        List<FieldBean> batchSources = new ArrayList<>(sources.size());
+        for (FieldBean source : sources) {
+            if (source != null) {
+                batchSources.add(source);
+            }
+        }
+        Map<FieldBean, String> eBatch = batchSources.isEmpty() ? Collections.emptyMap() : BatchPropertyBeanViewConfig.e(batchSources);
+        Stack<BatchPropertyBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
+        for (FieldBean source : sources) {
+            results.add(read(source, eBatch));
+        }
+        return results;
+    }
+
+    public static <K> Map<K, BatchPropertyBeanView> read(Map<K, FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        List<FieldBean> batchSources = new ArrayList<>(sources.size());
+        for (FieldBean source : sources.values()) {
+            if (source != null) {
+                batchSources.add(source);
+            }
+        }
+        Map<FieldBean, String> eBatch = batchSources.isEmpty() ? Collections.emptyMap() : BatchPropertyBeanViewConfig.e(batchSources);
+        Map<K, BatchPropertyBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
+        for (Map.Entry<K, FieldBean> source : sources.entrySet()) {
+            results.put(source.getKey(), read(source.getValue(), eBatch));
+        }
+        return results;
+    }
+
+    public static Stream<BatchPropertyBeanView> readStream(Stream<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.batchStream(sources, LazyReaders.DEFAULT_BATCH_SIZE, BatchPropertyBeanView::read);
+    }
+
+    public static Iterable<BatchPropertyBeanView> readIterable(Iterable<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.batchIterable(sources, LazyReaders.DEFAULT_BATCH_SIZE, BatchPropertyBeanView::read);
+    }
+
+    public static Iterator<BatchPropertyBeanView> readIterator(Iterator<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.batchIterator(sources, LazyReaders.DEFAULT_BATCH_SIZE, BatchPropertyBeanView::read);
+    }
+
+    public static Function<FieldBean, BatchPropertyBeanView> reader() {
+        return BatchPropertyBeanView::read;
+    }
+
+    public static BatchPropertyBeanView[] readParallel(FieldBean[] sources) {
+        if (sources == null) {
+            return null;
+        }
+        return ParallelReaders.readArrayInBatches(sources, new BatchPropertyBeanView[sources.length], BatchPropertyBeanView::read, 500);
+    }
+
+    public static BatchPropertyBeanView[] readParallel(FieldBean[] sources, Executor executor) {
+        if (sources == null) {
+            return null;
+        }
+        return ParallelReaders.readArrayInBatches(sources, new BatchPropertyBeanView[sources.length], BatchPropertyBeanView::read, 500, executor);
+    }
+
+    public static List<BatchPropertyBeanView> readParallel(List<FieldBean> sources) {
+        return ParallelReaders.readListInBatches(sources, BatchPropertyBeanView::read, 500);
+    }
+
+    public static List<BatchPropertyBeanView> readParallel(List<FieldBean> sources, Executor executor) {
+        return ParallelReaders.readListInBatches(sources, BatchPropertyBeanView::read, 500, executor);
+    }
+
+    public static Set<BatchPropertyBeanView> readParallel(Set<FieldBean> sources) {
+        return ParallelReaders.readSetInBatches(sources, BatchPropertyBeanView::read, 500);
+    }
+
+    public static Set<BatchPropertyBeanView> readParallel(Set<FieldBean> sources, Executor executor) {
+        return ParallelReaders.readSetInBatches(sources, BatchPropertyBeanView::read, 500, executor);
+    }
+
+    public static <K> Map<K, BatchPropertyBeanView> readParallel(Map<K, FieldBean> sources) {
+        return ParallelReaders.readMapInBatches(sources, BatchPropertyBeanView::read, 500);
+    }
+
+    public static <K> Map<K, BatchPropertyBeanView> readParallel(Map<K, FieldBean> sources, Executor executor) {
+        return ParallelReaders.readMapInBatches(sources, BatchPropertyBeanView::read, 500, executor);
+    }
+
+    public long getB() {
+        return this.b;
+    }
+
+    public Date getC() {
+        return this.c;
+    }
+
+    public Number[] getD() {
+        return this.d;
+    }
+
+    public String getE() {
+        return this.e;
+    }
+
+}
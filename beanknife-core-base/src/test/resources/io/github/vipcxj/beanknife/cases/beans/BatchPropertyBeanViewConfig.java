@@ -0,0 +1,21 @@
+package io.github.vipcxj.beanknife.cases.beans;
+
+import io.github.vipcxj.beanknife.runtime.annotations.BatchViewProperty;
+import io.github.vipcxj.beanknife.runtime.annotations.ViewOf;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ViewOf(value = FieldBean.class, genName = "BatchPropertyBeanView", includePattern = ".*", parallelReader = true, parallelReadThreshold = 500)
+public class BatchPropertyBeanViewConfig {
+
+    @BatchViewProperty("e")
+    public static Map<FieldBean, String> e(List<FieldBean> sources) {
+        Map<FieldBean, String> results = new HashMap<>();
+        for (FieldBean source : sources) {
+            results.put(source, String.valueOf(source.b));
+        }
+        return results;
+    }
+}
@@ -89,7 +89,7 @@ public class BeanAView {
         if (sources == null) {
             return null;
         }
-        List<BeanAView> results = new ArrayList<>();
+        List<BeanAView> results = new ArrayList<>(sources.size());
         for (BeanA source : sources) {
             results.add(read(source));
         }
@@ -100,7 +100,7 @@ public class BeanAView {
         if (sources == null) {
             return null;
         }
-        Set<BeanAView> results = new HashSet<>();
+        Set<BeanAView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (BeanA source : sources) {
             results.add(read(source));
         }
@@ -112,6 +112,7 @@ public class BeanAView {
             return null;
         }
         Stack<BeanAView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (BeanA source : sources) {
             results.add(read(source));
         }
@@ -122,7 +123,7 @@ public class BeanAView {
         if (sources == null) {
             return null;
         }
-        Map<K, BeanAView> results = new HashMap<>();
+        Map<K, BeanAView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, BeanA> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
@@ -1,14 +1,18 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = BeanA.class, configClass = InheritedConfigBeanAViewConfig.class)
 public class BeanAViewWithInheritedConfig {
@@ -86,7 +90,7 @@ public class BeanAViewWithInheritedConfig {
         if (sources == null) {
             return null;
         }
-        List<BeanAViewWithInheritedConfig> results = new ArrayList<>();
+        List<BeanAViewWithInheritedConfig> results = new ArrayList<>(sources.size());
         for (BeanA source : sources) {
             results.add(read(source));
         }
@@ -97,7 +101,7 @@ public class BeanAViewWithInheritedConfig {
         if (sources == null) {
             return null;
         }
-        Set<BeanAViewWithInheritedConfig> results = new HashSet<>();
+        Set<BeanAViewWithInheritedConfig> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (BeanA source : sources) {
             results.add(read(source));
         }
@@ -109,6 +113,7 @@ public class BeanAViewWithInheritedConfig {
             return null;
         }
         Stack<BeanAViewWithInheritedConfig> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (BeanA source : sources) {
             results.add(read(source));
         }
@@ -119,13 +124,38 @@ public class BeanAViewWithInheritedConfig {
         if (sources == null) {
             return null;
         }
-        Map<K, BeanAViewWithInheritedConfig> results = new HashMap<>();
+        Map<K, BeanAViewWithInheritedConfig> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, BeanA> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<BeanAViewWithInheritedConfig> readStream(Stream<BeanA> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(BeanAViewWithInheritedConfig::read);
+    }
+
+    public static Iterable<BeanAViewWithInheritedConfig> readIterable(Iterable<BeanA> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, BeanAViewWithInheritedConfig::read);
+    }
+
+    public static Iterator<BeanAViewWithInheritedConfig> readIterator(Iterator<BeanA> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, BeanAViewWithInheritedConfig::read);
+    }
+
+    public static Function<BeanA, BeanAViewWithInheritedConfig> reader() {
+        return BeanAViewWithInheritedConfig::read;
+    }
+
     public int getA() {
         return this.a;
     }
@@ -55,7 +55,7 @@ public class BeanBView {
         if (sources == null) {
             return null;
         }
-        List<BeanBView> results = new ArrayList<>();
+        List<BeanBView> results = new ArrayList<>(sources.size());
         for (BeanB source : sources) {
             results.add(read(source));
         }
@@ -66,7 +66,7 @@ public class BeanBView {
         if (sources == null) {
             return null;
         }
-        Set<BeanBView> results = new HashSet<>();
+        Set<BeanBView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (BeanB source : sources) {
             results.add(read(source));
         }
@@ -78,6 +78,7 @@ public class BeanBView {
             return null;
         }
         Stack<BeanBView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (BeanB source : sources) {
             results.add(read(source));
         }
@@ -88,7 +89,7 @@ public class BeanBView {
         if (sources == null) {
             return null;
         }
-        Map<K, BeanBView> results = new HashMap<>();
+        Map<K, BeanBView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, BeanB> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
@@ -1,14 +1,18 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = BeanB.class, configClass = InheritedConfigBeanBViewConfig.class)
 public class BeanBViewWithInheritedConfig {
@@ -74,7 +78,7 @@ public class BeanBViewWithInheritedConfig {
         if (sources == null) {
             return null;
         }
-        List<BeanBViewWithInheritedConfig> results = new ArrayList<>();
+        List<BeanBViewWithInheritedConfig> results = new ArrayList<>(sources.size());
         for (BeanB source : sources) {
             results.add(read(source));
         }
@@ -85,7 +89,7 @@ public class BeanBViewWithInheritedConfig {
         if (sources == null) {
             return null;
         }
-        Set<BeanBViewWithInheritedConfig> results = new HashSet<>();
+        Set<BeanBViewWithInheritedConfig> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (BeanB source : sources) {
             results.add(read(source));
         }
@@ -97,6 +101,7 @@ public class BeanBViewWithInheritedConfig {
             return null;
         }
         Stack<BeanBViewWithInheritedConfig> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (BeanB source : sources) {
             results.add(read(source));
         }
@@ -107,13 +112,38 @@ public class BeanBViewWithInheritedConfig {
         if (sources == null) {
             return null;
         }
-        Map<K, BeanBViewWithInheritedConfig> results = new HashMap<>();
+        Map<K, BeanBViewWithInheritedConfig> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, BeanB> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<BeanBViewWithInheritedConfig> readStream(Stream<BeanB> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(BeanBViewWithInheritedConfig::read);
+    }
+
+    public static Iterable<BeanBViewWithInheritedConfig> readIterable(Iterable<BeanB> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, BeanBViewWithInheritedConfig::read);
+    }
+
+    public static Iterator<BeanBViewWithInheritedConfig> readIterator(Iterator<BeanB> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, BeanBViewWithInheritedConfig::read);
+    }
+
+    public static Function<BeanB, BeanBViewWithInheritedConfig> reader() {
+        return BeanBViewWithInheritedConfig::read;
+    }
+
     public String getA() {
         return this.a;
     }
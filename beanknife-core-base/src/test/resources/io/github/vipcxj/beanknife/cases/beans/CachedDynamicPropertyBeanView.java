@@ -0,0 +1,183 @@
+package io.github.vipcxj.beanknife.cases.beans;
+
+import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@GeneratedView(targetClass = SimpleBean.class, configClass = CachedDynamicPropertyBeanViewConfig.class)
+public class CachedDynamicPropertyBeanView {
+
+    private String a;
+
+    private Integer b;
+
+    private transient String cCache;
+
+    private transient volatile boolean cCached;
+
+    private transient String dCache;
+
+    private transient boolean dCached;
+
+    public CachedDynamicPropertyBeanView() { }
+
+    public CachedDynamicPropertyBeanView(
+        String a,
+        Integer b
+    ) {
+        this.a = a;
+        this.b = b;
+    }
+
+    public CachedDynamicPropertyBeanView(CachedDynamicPropertyBeanView source) {
+        this.a = source.a;
+        this.b = source.b;
+    }
+
+    public CachedDynamicPropertyBeanView(SimpleBean source) {
+        if (source == null) {
+            throw new NullPointerException("The input source argument of the read constructor of class io.github.vipcxj.beanknife.cases.beans.CachedDynamicPropertyBeanView should not be null.");
+        }
+        this.a = source.getA();
+        this.b = source.getB();
+    }
+
+    public static CachedDynamicPropertyBeanView read(SimpleBean source) {
+        if (source == null) {
+            return null;
+        }
+        return new CachedDynamicPropertyBeanView(source);
+    }
+
+    public static CachedDynamicPropertyBeanView[] read(SimpleBean[] sources) {
+        if (sources == null) {
+            return null;
+        }
+        CachedDynamicPropertyBeanView[] results = new CachedDynamicPropertyBeanView[sources.length];
+        for (int i = 0; i < sources.length; ++i) {
+            results[i] = read(sources[i]);
+        }
+        return results;
+    }
+
+    public static List<CachedDynamicPropertyBeanView> read(List<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        List<CachedDynamicPropertyBeanView> results = new ArrayList<>(sources.size());
+        for (SimpleBean source : sources) {
+            results.add(read(source));
+        }
+        return results;
+    }
+
+    public static Set<CachedDynamicPropertyBeanView> read(Set<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        Set<CachedDynamicPropertyBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
+        for (SimpleBean source : sources) {
+            results.add(read(source));
+        }
+        return results;
+    }
+
+    public static Stack<CachedDynamicPropertyBeanView> read(Stack<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        Stack<CachedDynamicPropertyBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
+        for (SimpleBean source : sources) {
+            results.add(read(source));
+        }
+        return results;
+    }
+
+    public static <K> Map<K, CachedDynamicPropertyBeanView> read(Map<K, SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        Map<K, CachedDynamicPropertyBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
+        for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
+            results.put(source.getKey(), read(source.getValue()));
+        }
+        return results;
+    }
+
+    public static Stream<CachedDynamicPropertyBeanView> readStream(Stream<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(CachedDynamicPropertyBeanView::read);
+    }
+
+    public static Iterable<CachedDynamicPropertyBeanView> readIterable(Iterable<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, CachedDynamicPropertyBeanView::read);
+    }
+
+    public static Iterator<CachedDynamicPropertyBeanView> readIterator(Iterator<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, CachedDynamicPropertyBeanView::read);
+    }
+
+    public static Function<SimpleBean, CachedDynamicPropertyBeanView> reader() {
+        return CachedDynamicPropertyBeanView::read;
+    }
+
+    public String getA() {
+        return this.a;
+    }
+
+    public Integer getB() {
+        return this.b;
+    }
+
+    public String getC() {
+        if (!this.cCached) {
+            synchronized (this) {
+                if (!this.cCached) {
+                    this.cCache = CachedDynamicPropertyBeanViewConfig.getC(this.a);
+                    this.cCached = true;
+                }
+            }
+        }
+        return this.cCache;
+    }
+
+    public String getD() {
+        if (!this.dCached) {
+            this.dCache = CachedDynamicPropertyBeanViewConfig.getD(this.b, this.getC());
+            this.dCached = true;
+        }
+        return this.dCache;
+    }
+
+    public void setA(String a) {
+        synchronized (this) {
+            this.a = a;
+            this.cCached = false;
+            this.dCached = false;
+        }
+    }
+
+    public void setB(Integer b) {
+        this.b = b;
+        this.dCached = false;
+    }
+
+}
@@ -0,0 +1,20 @@
+package io.github.vipcxj.beanknife.cases.beans;
+
+import io.github.vipcxj.beanknife.runtime.annotations.*;
+import io.github.vipcxj.beanknife.runtime.utils.DynamicCacheType;
+
+@ViewOf(value = SimpleBean.class, genName = "CachedDynamicPropertyBeanView", includes = {SimpleBeanMeta.a, SimpleBeanMeta.b}, setters = Access.PUBLIC)
+public class CachedDynamicPropertyBeanViewConfig {
+
+    @NewViewProperty("c")
+    @Dynamic(cache = DynamicCacheType.THREAD_SAFE)
+    public static String getC(@InjectProperty String a) {
+        return a + a;
+    }
+
+    @NewViewProperty("d")
+    @Dynamic(cache = DynamicCacheType.SINGLE_THREAD)
+    public static String getD(@InjectProperty Integer b, @InjectProperty String c) {
+        return b + c;
+    }
+}
@@ -1,13 +1,17 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = CommentBean.class, configClass = CommentBean.class)
 public class CommentBeanView {
@@ -67,7 +71,7 @@ public class CommentBeanView {
         if (sources == null) {
             return null;
         }
-        List<CommentBeanView> results = new ArrayList<>();
+        List<CommentBeanView> results = new ArrayList<>(sources.size());
         for (CommentBean source : sources) {
             results.add(read(source));
         }
@@ -78,7 +82,7 @@ public class CommentBeanView {
         if (sources == null) {
             return null;
         }
-        Set<CommentBeanView> results = new HashSet<>();
+        Set<CommentBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (CommentBean source : sources) {
             results.add(read(source));
         }
@@ -90,6 +94,7 @@ public class CommentBeanView {
             return null;
         }
         Stack<CommentBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (CommentBean source : sources) {
             results.add(read(source));
         }
@@ -100,13 +105,38 @@ public class CommentBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, CommentBeanView> results = new HashMap<>();
+        Map<K, CommentBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, CommentBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<CommentBeanView> readStream(Stream<CommentBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(CommentBeanView::read);
+    }
+
+    public static Iterable<CommentBeanView> readIterable(Iterable<CommentBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, CommentBeanView::read);
+    }
+
+    public static Iterator<CommentBeanView> readIterator(Iterator<CommentBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, CommentBeanView::read);
+    }
+
+    public static Function<CommentBean, CommentBeanView> reader() {
+        return CommentBeanView::read;
+    }
+
     /**
      *  this is a.
      *  this is the second line.
@@ -3,6 +3,7 @@ package io.github.vipcxj.beanknife.cases.beans;
 public class ConverterBean {
     private Long a;
     private Integer b;
+    private Integer c;
 
     public Long getA() {
         return a;
@@ -11,4 +12,8 @@ public class ConverterBean {
     public Integer getB() {
         return b;
     }
+
+    public Integer getC() {
+        return c;
+    }
 }
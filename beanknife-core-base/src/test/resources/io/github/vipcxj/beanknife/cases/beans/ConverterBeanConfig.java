@@ -2,11 +2,13 @@ package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.NullNumberAsZero;
 import io.github.vipcxj.beanknife.runtime.annotations.OverrideViewProperty;
+import io.github.vipcxj.beanknife.runtime.annotations.UsePropertyConverter;
 import io.github.vipcxj.beanknife.runtime.annotations.ViewMeta;
 import io.github.vipcxj.beanknife.runtime.annotations.ViewOf;
+import io.github.vipcxj.beanknife.runtime.converters.NullIntegerAsZeroConverter;
 
 @ViewMeta(of = ConverterBean.class)
-@ViewOf(value = ConverterBean.class, includes = {ConverterBeanMeta.a, ConverterBeanMeta.b})
+@ViewOf(value = ConverterBean.class, includes = {ConverterBeanMeta.a, ConverterBeanMeta.b, ConverterBeanMeta.c})
 public class ConverterBeanConfig {
 
     @OverrideViewProperty(ConverterBeanMeta.a)
@@ -16,4 +18,8 @@ public class ConverterBeanConfig {
     @OverrideViewProperty(ConverterBeanMeta.b)
     @NullNumberAsZero
     private Number b;
+
+    @OverrideViewProperty(ConverterBeanMeta.c)
+    @UsePropertyConverter(value = NullIntegerAsZeroConverter.class, shared = false)
+    private int c;
 }
@@ -12,6 +12,7 @@ import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedMeta;
 public class ConverterBeanMeta {
     public static final String a = "a";
     public static final String b = "b";
+    public static final String c = "c";
 
     public static class Views {
         public static final String io_github_vipcxj_beanknife_cases_beans_ConverterBeanView = "io.github.vipcxj.beanknife.cases.beans.ConverterBeanView";
@@ -3,42 +3,56 @@ package io.github.vipcxj.beanknife.cases.beans;
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
 import io.github.vipcxj.beanknife.runtime.converters.NullIntegerAsZeroConverter;
 import io.github.vipcxj.beanknife.runtime.converters.NullLongAsZeroConverter;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = ConverterBean.class, configClass = ConverterBeanConfig.class)
 public class ConverterBeanView {
 
+    private static final NullLongAsZeroConverter sharedNullLongAsZeroConverter = new NullLongAsZeroConverter();
+
+    private static final NullIntegerAsZeroConverter sharedNullIntegerAsZeroConverter = new NullIntegerAsZeroConverter();
+
     private long a;
 
     private Number b;
 
+    private int c;
+
     public ConverterBeanView() { }
 
     public ConverterBeanView(
         long a,
-        Number b
+        Number b,
+        int c
     ) {
         this.a = a;
         this.b = b;
+        this.c = c;
     }
 
     public ConverterBeanView(ConverterBeanView source) {
         this.a = source.a;
         this.b = source.b;
+        this.c = source.c;
     }
 
     public ConverterBeanView(ConverterBean source) {
         if (source == null) {
             throw new NullPointerException("The input source argument of the read constructor of class io.github.vipcxj.beanknife.cases.beans.ConverterBeanView should not be null.");
         }
-        this.a = new NullLongAsZeroConverter().convert(source.getA());
-        this.b = new NullIntegerAsZeroConverter().convert(source.getB());
+        this.a = sharedNullLongAsZeroConverter.convert(source.getA());
+        this.b = sharedNullIntegerAsZeroConverter.convert(source.getB());
+        this.c = new NullIntegerAsZeroConverter().convert(source.getC());
     }
 
     public static ConverterBeanView read(ConverterBean source) {
@@ -63,7 +77,7 @@ public class ConverterBeanView {
         if (sources == null) {
             return null;
         }
-        List<ConverterBeanView> results = new ArrayList<>();
+        List<ConverterBeanView> results = new ArrayList<>(sources.size());
         for (ConverterBean source : sources) {
             results.add(read(source));
         }
@@ -74,7 +88,7 @@ public class ConverterBeanView {
         if (sources == null) {
             return null;
         }
-        Set<ConverterBeanView> results = new HashSet<>();
+        Set<ConverterBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (ConverterBean source : sources) {
             results.add(read(source));
         }
@@ -86,6 +100,7 @@ public class ConverterBeanView {
             return null;
         }
         Stack<ConverterBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (ConverterBean source : sources) {
             results.add(read(source));
         }
@@ -96,13 +111,38 @@ public class ConverterBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, ConverterBeanView> results = new HashMap<>();
+        Map<K, ConverterBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, ConverterBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<ConverterBeanView> readStream(Stream<ConverterBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(ConverterBeanView::read);
+    }
+
+    public static Iterable<ConverterBeanView> readIterable(Iterable<ConverterBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, ConverterBeanView::read);
+    }
+
+    public static Iterator<ConverterBeanView> readIterator(Iterator<ConverterBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, ConverterBeanView::read);
+    }
+
+    public static Function<ConverterBean, ConverterBeanView> reader() {
+        return ConverterBeanView::read;
+    }
+
     public long getA() {
         return this.a;
     }
@@ -111,4 +151,8 @@ public class ConverterBeanView {
         return this.b;
     }
 
+    public int getC() {
+        return this.c;
+    }
+
 }
@@ -3,13 +3,17 @@ package io.github.vipcxj.beanknife.cases.beans;
 import io.github.vipcxj.beanknife.runtime.BeanProviders;
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
 import io.github.vipcxj.beanknife.runtime.utils.BeanUsage;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = SimpleBean.class, configClass = DynamicMethodPropertyBeanViewConfig.class)
 public class DynamicMethodPropertyBeanView {
@@ -59,7 +63,7 @@ public class DynamicMethodPropertyBeanView {
         if (sources == null) {
             return null;
         }
-        List<DynamicMethodPropertyBeanView> results = new ArrayList<>();
+        List<DynamicMethodPropertyBeanView> results = new ArrayList<>(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -70,7 +74,7 @@ public class DynamicMethodPropertyBeanView {
         if (sources == null) {
             return null;
         }
-        Set<DynamicMethodPropertyBeanView> results = new HashSet<>();
+        Set<DynamicMethodPropertyBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -82,6 +86,7 @@ public class DynamicMethodPropertyBeanView {
             return null;
         }
         Stack<DynamicMethodPropertyBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -92,13 +97,38 @@ public class DynamicMethodPropertyBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, DynamicMethodPropertyBeanView> results = new HashMap<>();
+        Map<K, DynamicMethodPropertyBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<DynamicMethodPropertyBeanView> readStream(Stream<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(DynamicMethodPropertyBeanView::read);
+    }
+
+    public static Iterable<DynamicMethodPropertyBeanView> readIterable(Iterable<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, DynamicMethodPropertyBeanView::read);
+    }
+
+    public static Iterator<DynamicMethodPropertyBeanView> readIterator(Iterator<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, DynamicMethodPropertyBeanView::read);
+    }
+
+    public static Function<SimpleBean, DynamicMethodPropertyBeanView> reader() {
+        return DynamicMethodPropertyBeanView::read;
+    }
+
     public String getA() {
         return this.a;
     }
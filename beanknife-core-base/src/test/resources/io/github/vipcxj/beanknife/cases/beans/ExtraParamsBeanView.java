@@ -70,6 +70,62 @@ public class ExtraParamsBeanView {
         return new ExtraParamsBeanView(source, x, z);
     }
 
+    public static ExtraParamsBeanView[] read(SimpleBean[] sources, Class<?> x, ExtraParamsBeanView z) {
+        if (sources == null) {
+            return null;
+        }
+        ExtraParamsBeanView[] results = new ExtraParamsBeanView[sources.length];
+        for (int i = 0; i < sources.length; ++i) {
+            results[i] = read(sources[i], x, z);
+        }
+        return results;
+    }
+
+    public static List<ExtraParamsBeanView> read(List<SimpleBean> sources, Class<?> x, ExtraParamsBeanView z) {
+        if (sources == null) {
+            return null;
+        }
+        List<ExtraParamsBeanView> results = new ArrayList<>(sources.size());
+        for (SimpleBean source : sources) {
+            results.add(read(source, x, z));
+        }
+        return results;
+    }
+
+    public static Set<ExtraParamsBeanView> read(Set<SimpleBean> sources, Class<?> x, ExtraParamsBeanView z) {
+        if (sources == null) {
+            return null;
+        }
+        Set<ExtraParamsBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
+        for (SimpleBean source : sources) {
+            results.add(read(source, x, z));
+        }
+        return results;
+    }
+
+    public static Stack<ExtraParamsBeanView> read(Stack<SimpleBean> sources, Class<?> x, ExtraParamsBeanView z) {
+        if (sources == null) {
+            return null;
+        }
+        Stack<ExtraParamsBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
+        for (SimpleBean source : sources) {
+            results.add(read(source, x, z));
+        }
+        return results;
+    }
+
+    public static <K> Map<K, ExtraParamsBeanView> read(Map<K, SimpleBean> sources, Class<?> x, ExtraParamsBeanView z) {
+        if (sources == null) {
+            return null;
+        }
+        Map<K, ExtraParamsBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
+        for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
+            results.put(source.getKey(), read(source.getValue(), x, z));
+        }
+        return results;
+    }
+
     public String getA() {
         return this.a;
     }
@@ -59,6 +59,62 @@ public class ExtraProperties1BeanView {
         return new ExtraProperties1BeanView(source, x);
     }
 
+    public static ExtraProperties1BeanView[] read(SimpleBean[] sources, List<Date> x) {
+        if (sources == null) {
+            return null;
+        }
+        ExtraProperties1BeanView[] results = new ExtraProperties1BeanView[sources.length];
+        for (int i = 0; i < sources.length; ++i) {
+            results[i] = read(sources[i], x);
+        }
+        return results;
+    }
+
+    public static List<ExtraProperties1BeanView> read(List<SimpleBean> sources, List<Date> x) {
+        if (sources == null) {
+            return null;
+        }
+        List<ExtraProperties1BeanView> results = new ArrayList<>(sources.size());
+        for (SimpleBean source : sources) {
+            results.add(read(source, x));
+        }
+        return results;
+    }
+
+    public static Set<ExtraProperties1BeanView> read(Set<SimpleBean> sources, List<Date> x) {
+        if (sources == null) {
+            return null;
+        }
+        Set<ExtraProperties1BeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
+        for (SimpleBean source : sources) {
+            results.add(read(source, x));
+        }
+        return results;
+    }
+
+    public static Stack<ExtraProperties1BeanView> read(Stack<SimpleBean> sources, List<Date> x) {
+        if (sources == null) {
+            return null;
+        }
+        Stack<ExtraProperties1BeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
+        for (SimpleBean source : sources) {
+            results.add(read(source, x));
+        }
+        return results;
+    }
+
+    public static <K> Map<K, ExtraProperties1BeanView> read(Map<K, SimpleBean> sources, List<Date> x) {
+        if (sources == null) {
+            return null;
+        }
+        Map<K, ExtraProperties1BeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
+        for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
+            results.put(source.getKey(), read(source.getValue(), x));
+        }
+        return results;
+    }
+
     public String getA() {
         return this.a;
     }
@@ -1,14 +1,18 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = FieldBean.class, configClass = FieldBeanViewConfig.class)
 public class FieldBeanView {
@@ -68,7 +72,7 @@ public class FieldBeanView {
         if (sources == null) {
             return null;
         }
-        List<FieldBeanView> results = new ArrayList<>();
+        List<FieldBeanView> results = new ArrayList<>(sources.size());
         for (FieldBean source : sources) {
             results.add(read(source));
         }
@@ -79,7 +83,7 @@ public class FieldBeanView {
         if (sources == null) {
             return null;
         }
-        Set<FieldBeanView> results = new HashSet<>();
+        Set<FieldBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (FieldBean source : sources) {
             results.add(read(source));
         }
@@ -91,6 +95,7 @@ public class FieldBeanView {
             return null;
         }
         Stack<FieldBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (FieldBean source : sources) {
             results.add(read(source));
         }
@@ -101,13 +106,38 @@ public class FieldBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, FieldBeanView> results = new HashMap<>();
+        Map<K, FieldBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, FieldBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<FieldBeanView> readStream(Stream<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(FieldBeanView::read);
+    }
+
+    public static Iterable<FieldBeanView> readIterable(Iterable<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, FieldBeanView::read);
+    }
+
+    public static Iterator<FieldBeanView> readIterator(Iterator<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, FieldBeanView::read);
+    }
+
+    public static Function<FieldBean, FieldBeanView> reader() {
+        return FieldBeanView::read;
+    }
+
     public long getB() {
         return this.b;
     }
@@ -1,13 +1,17 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = GenericBean.class, configClass = GenericBean.class)
 public class GenericBeanView<T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>> {
@@ -79,7 +83,7 @@ public class GenericBeanView<T1 extends CharSequence & Set<? extends Character>,
         if (sources == null) {
             return null;
         }
-        List<GenericBeanView<T1, T2>> results = new ArrayList<>();
+        List<GenericBeanView<T1, T2>> results = new ArrayList<>(sources.size());
         for (GenericBean<T1, T2> source : sources) {
             results.add(read(source));
         }
@@ -90,7 +94,7 @@ public class GenericBeanView<T1 extends CharSequence & Set<? extends Character>,
         if (sources == null) {
             return null;
         }
-        Set<GenericBeanView<T1, T2>> results = new HashSet<>();
+        Set<GenericBeanView<T1, T2>> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (GenericBean<T1, T2> source : sources) {
             results.add(read(source));
         }
@@ -102,6 +106,7 @@ public class GenericBeanView<T1 extends CharSequence & Set<? extends Character>,
             return null;
         }
         Stack<GenericBeanView<T1, T2>> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (GenericBean<T1, T2> source : sources) {
             results.add(read(source));
         }
@@ -112,13 +117,38 @@ public class GenericBeanView<T1 extends CharSequence & Set<? extends Character>,
         if (sources == null) {
             return null;
         }
-        Map<K, GenericBeanView<T1, T2>> results = new HashMap<>();
+        Map<K, GenericBeanView<T1, T2>> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, GenericBean<T1, T2>> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>> Stream<GenericBeanView<T1, T2>> readStream(Stream<GenericBean<T1, T2>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(GenericBeanView::read);
+    }
+
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>> Iterable<GenericBeanView<T1, T2>> readIterable(Iterable<GenericBean<T1, T2>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, GenericBeanView::read);
+    }
+
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>> Iterator<GenericBeanView<T1, T2>> readIterator(Iterator<GenericBean<T1, T2>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, GenericBeanView::read);
+    }
+
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>> Function<GenericBean<T1, T2>, GenericBeanView<T1, T2>> reader() {
+        return GenericBeanView::read;
+    }
+
     public T1 getA() {
         return this.a;
     }
@@ -0,0 +1,21 @@
+package io.github.vipcxj.beanknife.cases.beans;
+
+import java.util.List;
+
+public class GraphNodeBean {
+    private String name;
+    private GraphNodeBean parent;
+    private List<GraphNodeBean> children;
+
+    public String getName() {
+        return name;
+    }
+
+    public GraphNodeBean getParent() {
+        return parent;
+    }
+
+    public List<GraphNodeBean> getChildren() {
+        return children;
+    }
+}
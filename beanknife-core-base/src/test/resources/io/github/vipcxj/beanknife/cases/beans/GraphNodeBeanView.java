@@ -0,0 +1,186 @@
+package io.github.vipcxj.beanknife.cases.beans;
+
+import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
+import io.github.vipcxj.beanknife.runtime.utils.ViewReadContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@GeneratedView(targetClass = GraphNodeBean.class, configClass = GraphNodeBeanViewConfig.class)
+public class GraphNodeBeanView {
+
+    private String name;
+
+    private GraphNodeBeanView parent;
+
+    private List<GraphNodeBeanView> children;
+
+    public GraphNodeBeanView() { }
+
+    public GraphNodeBeanView(
+        String name,
+        GraphNodeBeanView parent,
+        List<GraphNodeBeanView> children
+    ) {
+        this.name = name;
+        this.parent = parent;
+        this.children = children;
+    }
+
+    public GraphNodeBeanView(GraphNodeBeanView source) {
+        this.name = source.name;
+        this.parent = source.parent;
+        this.children = source.children;
+    }
+
+    public GraphNodeBeanView(GraphNodeBean source) {
+        if (source == null) {
+            throw new NullPointerException("The input source argument of the read constructor of class io.github.vipcxj.beanknife.cases.beans.GraphNodeBeanView should not be null.");
+        }
+        GraphNodeBeanView p0 = GraphNodeBeanView.read(source.getParent());
+        List<GraphNodeBean> p1Source = source.getChildren();
+        List<GraphNodeBeanView> p1 = new ArrayList<>(p1Source.size());
+        for (GraphNodeBean el0 : p1Source) {
+            GraphNodeBeanView result0 = GraphNodeBeanView.read(el0);
+            p1.add(result0);
+        }
+        this.name = source.getName();
+        this.parent = p0;
+        this.children = p1;
+    }
+
+    public static GraphNodeBeanView read(GraphNodeBean source) {
+        return read(source, new ViewReadContext());
+    }
+
+    public static GraphNodeBeanView read(GraphNodeBean source, ViewReadContext context) {
+        if (source == null) {
+            return null;
+        }
+        GraphNodeBeanView cached = context.get(GraphNodeBeanView.class, source);
+        if (cached != null) {
+            return cached;
+        }
+        GraphNodeBeanView out = new GraphNodeBeanView();
+        context.put(GraphNodeBeanView.class, source, out);
+        GraphNodeBeanView p0 = GraphNodeBeanView.read(source.getParent(), context);
+        List<GraphNodeBean> p1Source = source.getChildren();
+        List<GraphNodeBeanView> p1 = new ArrayList<>(p1Source.size());
+        for (GraphNodeBean el0 : p1Source) {
+            GraphNodeBeanView result0 = GraphNodeBeanView.read(el0, context);
+            p1.add(result0);
+        }
+        out.name = source.getName();
+        out.parent = p0;
+        out.children = p1;
+        return out;
+    }
+
+    public static GraphNodeBeanView[] read(GraphNodeBean[] sources) {
+        if (sources == null) {
+            return null;
+        }
+        ViewReadContext context = new ViewReadContext();
+        GraphNodeBeanView[] results = new GraphNodeBeanView[sources.length];
+        for (int i = 0; i < sources.length; ++i) {
+            results[i] = read(sources[i], context);
+        }
+        return results;
+    }
+
+    public static List<GraphNodeBeanView> read(List<GraphNodeBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        ViewReadContext context = new ViewReadContext();
+        List<GraphNodeBeanView> results = new ArrayList<>(sources.size());
+        for (GraphNodeBean source : sources) {
+            results.add(read(source, context));
+        }
+        return results;
+    }
+
+    public static Set<GraphNodeBeanView> read(Set<GraphNodeBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        ViewReadContext context = new ViewReadContext();
+        Set<GraphNodeBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
+        for (GraphNodeBean source : sources) {
+            results.add(read(source, context));
+        }
+        return results;
+    }
+
+    public static Stack<GraphNodeBeanView> read(Stack<GraphNodeBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        ViewReadContext context = new ViewReadContext();
+        Stack<GraphNodeBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
+        for (GraphNodeBean source : sources) {
+            results.add(read(source, context));
+        }
+        return results;
+    }
+
+    public static <K> Map<K, GraphNodeBeanView> read(Map<K, GraphNodeBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        ViewReadContext context = new ViewReadContext();
+        Map<K, GraphNodeBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
+        for (Map.Entry<K, GraphNodeBean> source : sources.entrySet()) {
+            results.put(source.getKey(), read(source.getValue(), context));
+        }
+        return results;
+    }
+
+    public static Stream<GraphNodeBeanView> readStream(Stream<GraphNodeBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(GraphNodeBeanView::read);
+    }
+
+    public static Iterable<GraphNodeBeanView> readIterable(Iterable<GraphNodeBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return () -> readIterator(sources.iterator());
+    }
+
+    public static Iterator<GraphNodeBeanView> readIterator(Iterator<GraphNodeBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        ViewReadContext context = new ViewReadContext();
+        return LazyReaders.iterator(sources, source -> read(source, context));
+    }
+
+    public static Function<GraphNodeBean, GraphNodeBeanView> reader() {
+        return GraphNodeBeanView::read;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public GraphNodeBeanView getParent() {
+        return this.parent;
+    }
+
+    public List<GraphNodeBeanView> getChildren() {
+        return this.children;
+    }
+
+}
@@ -0,0 +1,15 @@
+package io.github.vipcxj.beanknife.cases.beans;
+
+import io.github.vipcxj.beanknife.runtime.annotations.OverrideViewProperty;
+import io.github.vipcxj.beanknife.runtime.annotations.ViewOf;
+
+import java.util.List;
+
+@ViewOf(value = GraphNodeBean.class, includePattern = ".*", graphMode = true)
+public class GraphNodeBeanViewConfig {
+
+    @OverrideViewProperty("parent")
+    private GraphNodeBeanView parent;
+    @OverrideViewProperty("children")
+    private List<GraphNodeBeanView> children;
+}
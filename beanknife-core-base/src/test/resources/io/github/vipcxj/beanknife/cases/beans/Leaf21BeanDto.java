@@ -52,7 +52,7 @@ public class Leaf21BeanDto implements Serializable {
         if (sources == null) {
             return null;
         }
-        List<Leaf21BeanDto> results = new ArrayList<>();
+        List<Leaf21BeanDto> results = new ArrayList<>(sources.size());
         for (Leaf21Bean source : sources) {
             results.add(read(source));
         }
@@ -63,7 +63,7 @@ public class Leaf21BeanDto implements Serializable {
         if (sources == null) {
             return null;
         }
-        Set<Leaf21BeanDto> results = new HashSet<>();
+        Set<Leaf21BeanDto> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (Leaf21Bean source : sources) {
             results.add(read(source));
         }
@@ -75,6 +75,7 @@ public class Leaf21BeanDto implements Serializable {
             return null;
         }
         Stack<Leaf21BeanDto> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (Leaf21Bean source : sources) {
             results.add(read(source));
         }
@@ -85,7 +86,7 @@ public class Leaf21BeanDto implements Serializable {
         if (sources == null) {
             return null;
         }
-        Map<K, Leaf21BeanDto> results = new HashMap<>();
+        Map<K, Leaf21BeanDto> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, Leaf21Bean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
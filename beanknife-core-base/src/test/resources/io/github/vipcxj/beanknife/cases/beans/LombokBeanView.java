@@ -70,7 +70,7 @@ public class LombokBeanView {
         if (sources == null) {
             return null;
         }
-        List<LombokBeanView> results = new ArrayList<>();
+        List<LombokBeanView> results = new ArrayList<>(sources.size());
         for (LombokBean source : sources) {
             results.add(read(source));
         }
@@ -81,7 +81,7 @@ public class LombokBeanView {
         if (sources == null) {
             return null;
         }
-        Set<LombokBeanView> results = new HashSet<>();
+        Set<LombokBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (LombokBean source : sources) {
             results.add(read(source));
         }
@@ -93,6 +93,7 @@ public class LombokBeanView {
             return null;
         }
         Stack<LombokBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (LombokBean source : sources) {
             results.add(read(source));
         }
@@ -103,7 +104,7 @@ public class LombokBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, LombokBeanView> results = new HashMap<>();
+        Map<K, LombokBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, LombokBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
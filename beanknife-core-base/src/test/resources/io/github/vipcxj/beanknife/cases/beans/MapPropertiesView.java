@@ -2,18 +2,24 @@ package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
 import io.github.vipcxj.beanknife.runtime.converters.NullIntegerAsZeroConverter;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = SimpleBean.class, configClass = MapPropertiesViewConfigure.class)
 public class MapPropertiesView {
 
+    private static final NullIntegerAsZeroConverter sharedNullIntegerAsZeroConverter = new NullIntegerAsZeroConverter();
+
     private String aMap;
 
     private int bMapWithConverter;
@@ -43,7 +49,7 @@ public class MapPropertiesView {
             throw new NullPointerException("The input source argument of the read constructor of class io.github.vipcxj.beanknife.cases.beans.MapPropertiesView should not be null.");
         }
         this.aMap = source.getA();
-        this.bMapWithConverter = new NullIntegerAsZeroConverter().convert(source.getB());
+        this.bMapWithConverter = sharedNullIntegerAsZeroConverter.convert(source.getB());
         this.cMapUseMethod = MapPropertiesViewConfigure.cMapUseMethod(source);
     }
 
@@ -69,7 +75,7 @@ public class MapPropertiesView {
         if (sources == null) {
             return null;
         }
-        List<MapPropertiesView> results = new ArrayList<>();
+        List<MapPropertiesView> results = new ArrayList<>(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -80,7 +86,7 @@ public class MapPropertiesView {
         if (sources == null) {
             return null;
         }
-        Set<MapPropertiesView> results = new HashSet<>();
+        Set<MapPropertiesView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -92,6 +98,7 @@ public class MapPropertiesView {
             return null;
         }
         Stack<MapPropertiesView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -102,13 +109,38 @@ public class MapPropertiesView {
         if (sources == null) {
             return null;
         }
-        Map<K, MapPropertiesView> results = new HashMap<>();
+        Map<K, MapPropertiesView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<MapPropertiesView> readStream(Stream<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(MapPropertiesView::read);
+    }
+
+    public static Iterable<MapPropertiesView> readIterable(Iterable<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, MapPropertiesView::read);
+    }
+
+    public static Iterator<MapPropertiesView> readIterator(Iterator<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, MapPropertiesView::read);
+    }
+
+    public static Function<SimpleBean, MapPropertiesView> reader() {
+        return MapPropertiesView::read;
+    }
+
     public String getA() {
         return this.aMap;
     }
@@ -68,7 +68,7 @@ public class MetaAndViewOfBothOnBeanView {
         if (sources == null) {
             return null;
         }
-        List<MetaAndViewOfBothOnBeanView> results = new ArrayList<>();
+        List<MetaAndViewOfBothOnBeanView> results = new ArrayList<>(sources.size());
         for (MetaAndViewOfBothOnBean source : sources) {
             results.add(read(source));
         }
@@ -79,7 +79,7 @@ public class MetaAndViewOfBothOnBeanView {
         if (sources == null) {
             return null;
         }
-        Set<MetaAndViewOfBothOnBeanView> results = new HashSet<>();
+        Set<MetaAndViewOfBothOnBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (MetaAndViewOfBothOnBean source : sources) {
             results.add(read(source));
         }
@@ -91,6 +91,7 @@ public class MetaAndViewOfBothOnBeanView {
             return null;
         }
         Stack<MetaAndViewOfBothOnBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (MetaAndViewOfBothOnBean source : sources) {
             results.add(read(source));
         }
@@ -101,7 +102,7 @@ public class MetaAndViewOfBothOnBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, MetaAndViewOfBothOnBeanView> results = new HashMap<>();
+        Map<K, MetaAndViewOfBothOnBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, MetaAndViewOfBothOnBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
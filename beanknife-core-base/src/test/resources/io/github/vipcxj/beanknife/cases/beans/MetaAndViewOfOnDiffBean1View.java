@@ -55,7 +55,7 @@ public class MetaAndViewOfOnDiffBean1View {
         if (sources == null) {
             return null;
         }
-        List<MetaAndViewOfOnDiffBean1View> results = new ArrayList<>();
+        List<MetaAndViewOfOnDiffBean1View> results = new ArrayList<>(sources.size());
         for (MetaAndViewOfOnDiffBean1 source : sources) {
             results.add(read(source));
         }
@@ -66,7 +66,7 @@ public class MetaAndViewOfOnDiffBean1View {
         if (sources == null) {
             return null;
         }
-        Set<MetaAndViewOfOnDiffBean1View> results = new HashSet<>();
+        Set<MetaAndViewOfOnDiffBean1View> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (MetaAndViewOfOnDiffBean1 source : sources) {
             results.add(read(source));
         }
@@ -78,6 +78,7 @@ public class MetaAndViewOfOnDiffBean1View {
             return null;
         }
         Stack<MetaAndViewOfOnDiffBean1View> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (MetaAndViewOfOnDiffBean1 source : sources) {
             results.add(read(source));
         }
@@ -88,7 +89,7 @@ public class MetaAndViewOfOnDiffBean1View {
         if (sources == null) {
             return null;
         }
-        Map<K, MetaAndViewOfOnDiffBean1View> results = new HashMap<>();
+        Map<K, MetaAndViewOfOnDiffBean1View> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, MetaAndViewOfOnDiffBean1> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
@@ -55,7 +55,7 @@ public class MetaAndViewOfOnDiffBean2View {
         if (sources == null) {
             return null;
         }
-        List<MetaAndViewOfOnDiffBean2View> results = new ArrayList<>();
+        List<MetaAndViewOfOnDiffBean2View> results = new ArrayList<>(sources.size());
         for (MetaAndViewOfOnDiffBean2 source : sources) {
             results.add(read(source));
         }
@@ -66,7 +66,7 @@ public class MetaAndViewOfOnDiffBean2View {
         if (sources == null) {
             return null;
         }
-        Set<MetaAndViewOfOnDiffBean2View> results = new HashSet<>();
+        Set<MetaAndViewOfOnDiffBean2View> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (MetaAndViewOfOnDiffBean2 source : sources) {
             results.add(read(source));
         }
@@ -78,6 +78,7 @@ public class MetaAndViewOfOnDiffBean2View {
             return null;
         }
         Stack<MetaAndViewOfOnDiffBean2View> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (MetaAndViewOfOnDiffBean2 source : sources) {
             results.add(read(source));
         }
@@ -88,7 +89,7 @@ public class MetaAndViewOfOnDiffBean2View {
         if (sources == null) {
             return null;
         }
-        Map<K, MetaAndViewOfOnDiffBean2View> results = new HashMap<>();
+        Map<K, MetaAndViewOfOnDiffBean2View> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, MetaAndViewOfOnDiffBean2> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
@@ -61,7 +61,7 @@ public class MetaAndViewOfOnDiffBean3View {
         if (sources == null) {
             return null;
         }
-        List<MetaAndViewOfOnDiffBean3View> results = new ArrayList<>();
+        List<MetaAndViewOfOnDiffBean3View> results = new ArrayList<>(sources.size());
         for (MetaAndViewOfOnDiffBean3 source : sources) {
             results.add(read(source));
         }
@@ -72,7 +72,7 @@ public class MetaAndViewOfOnDiffBean3View {
         if (sources == null) {
             return null;
         }
-        Set<MetaAndViewOfOnDiffBean3View> results = new HashSet<>();
+        Set<MetaAndViewOfOnDiffBean3View> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (MetaAndViewOfOnDiffBean3 source : sources) {
             results.add(read(source));
         }
@@ -84,6 +84,7 @@ public class MetaAndViewOfOnDiffBean3View {
             return null;
         }
         Stack<MetaAndViewOfOnDiffBean3View> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (MetaAndViewOfOnDiffBean3 source : sources) {
             results.add(read(source));
         }
@@ -94,7 +95,7 @@ public class MetaAndViewOfOnDiffBean3View {
         if (sources == null) {
             return null;
         }
-        Map<K, MetaAndViewOfOnDiffBean3View> results = new HashMap<>();
+        Map<K, MetaAndViewOfOnDiffBean3View> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, MetaAndViewOfOnDiffBean3> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
@@ -61,7 +61,7 @@ public class MetaAndViewOfOnDiffBean4$NestedBeanView {
         if (sources == null) {
             return null;
         }
-        List<MetaAndViewOfOnDiffBean4$NestedBeanView> results = new ArrayList<>();
+        List<MetaAndViewOfOnDiffBean4$NestedBeanView> results = new ArrayList<>(sources.size());
         for (MetaAndViewOfOnDiffBean4.NestedBean source : sources) {
             results.add(read(source));
         }
@@ -72,7 +72,7 @@ public class MetaAndViewOfOnDiffBean4$NestedBeanView {
         if (sources == null) {
             return null;
         }
-        Set<MetaAndViewOfOnDiffBean4$NestedBeanView> results = new HashSet<>();
+        Set<MetaAndViewOfOnDiffBean4$NestedBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (MetaAndViewOfOnDiffBean4.NestedBean source : sources) {
             results.add(read(source));
         }
@@ -84,6 +84,7 @@ public class MetaAndViewOfOnDiffBean4$NestedBeanView {
             return null;
         }
         Stack<MetaAndViewOfOnDiffBean4$NestedBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (MetaAndViewOfOnDiffBean4.NestedBean source : sources) {
             results.add(read(source));
         }
@@ -94,7 +95,7 @@ public class MetaAndViewOfOnDiffBean4$NestedBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, MetaAndViewOfOnDiffBean4$NestedBeanView> results = new HashMap<>();
+        Map<K, MetaAndViewOfOnDiffBean4$NestedBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, MetaAndViewOfOnDiffBean4.NestedBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
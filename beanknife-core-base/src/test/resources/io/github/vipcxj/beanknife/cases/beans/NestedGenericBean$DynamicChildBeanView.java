@@ -1,13 +1,17 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = NestedGenericBean.DynamicChildBean.class, configClass = NestedGenericBean.DynamicChildBean.class)
 public class NestedGenericBean$DynamicChildBeanView<T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>, T3> {
@@ -67,7 +71,7 @@ public class NestedGenericBean$DynamicChildBeanView<T1 extends CharSequence & Se
         if (sources == null) {
             return null;
         }
-        List<NestedGenericBean$DynamicChildBeanView<T1, T2, T3>> results = new ArrayList<>();
+        List<NestedGenericBean$DynamicChildBeanView<T1, T2, T3>> results = new ArrayList<>(sources.size());
         for (NestedGenericBean<T1, T2>.DynamicChildBean<T3> source : sources) {
             results.add(read(source));
         }
@@ -78,7 +82,7 @@ public class NestedGenericBean$DynamicChildBeanView<T1 extends CharSequence & Se
         if (sources == null) {
             return null;
         }
-        Set<NestedGenericBean$DynamicChildBeanView<T1, T2, T3>> results = new HashSet<>();
+        Set<NestedGenericBean$DynamicChildBeanView<T1, T2, T3>> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (NestedGenericBean<T1, T2>.DynamicChildBean<T3> source : sources) {
             results.add(read(source));
         }
@@ -90,6 +94,7 @@ public class NestedGenericBean$DynamicChildBeanView<T1 extends CharSequence & Se
             return null;
         }
         Stack<NestedGenericBean$DynamicChildBeanView<T1, T2, T3>> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (NestedGenericBean<T1, T2>.DynamicChildBean<T3> source : sources) {
             results.add(read(source));
         }
@@ -100,13 +105,38 @@ public class NestedGenericBean$DynamicChildBeanView<T1 extends CharSequence & Se
         if (sources == null) {
             return null;
         }
-        Map<K, NestedGenericBean$DynamicChildBeanView<T1, T2, T3>> results = new HashMap<>();
+        Map<K, NestedGenericBean$DynamicChildBeanView<T1, T2, T3>> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, NestedGenericBean<T1, T2>.DynamicChildBean<T3>> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>, T3> Stream<NestedGenericBean$DynamicChildBeanView<T1, T2, T3>> readStream(Stream<NestedGenericBean<T1, T2>.DynamicChildBean<T3>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(NestedGenericBean$DynamicChildBeanView::read);
+    }
+
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>, T3> Iterable<NestedGenericBean$DynamicChildBeanView<T1, T2, T3>> readIterable(Iterable<NestedGenericBean<T1, T2>.DynamicChildBean<T3>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, NestedGenericBean$DynamicChildBeanView::read);
+    }
+
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>, T3> Iterator<NestedGenericBean$DynamicChildBeanView<T1, T2, T3>> readIterator(Iterator<NestedGenericBean<T1, T2>.DynamicChildBean<T3>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, NestedGenericBean$DynamicChildBeanView::read);
+    }
+
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>, T3> Function<NestedGenericBean<T1, T2>.DynamicChildBean<T3>, NestedGenericBean$DynamicChildBeanView<T1, T2, T3>> reader() {
+        return NestedGenericBean$DynamicChildBeanView::read;
+    }
+
     public T1 getA() {
         return this.a;
     }
@@ -1,13 +1,17 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = NestedGenericBean.StaticChildBean.class, configClass = NestedGenericBean.StaticChildBean.class)
 public class NestedGenericBean$StaticChildBeanView<T1 extends String> {
@@ -55,7 +59,7 @@ public class NestedGenericBean$StaticChildBeanView<T1 extends String> {
         if (sources == null) {
             return null;
         }
-        List<NestedGenericBean$StaticChildBeanView<T1>> results = new ArrayList<>();
+        List<NestedGenericBean$StaticChildBeanView<T1>> results = new ArrayList<>(sources.size());
         for (NestedGenericBean.StaticChildBean<T1> source : sources) {
             results.add(read(source));
         }
@@ -66,7 +70,7 @@ public class NestedGenericBean$StaticChildBeanView<T1 extends String> {
         if (sources == null) {
             return null;
         }
-        Set<NestedGenericBean$StaticChildBeanView<T1>> results = new HashSet<>();
+        Set<NestedGenericBean$StaticChildBeanView<T1>> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (NestedGenericBean.StaticChildBean<T1> source : sources) {
             results.add(read(source));
         }
@@ -78,6 +82,7 @@ public class NestedGenericBean$StaticChildBeanView<T1 extends String> {
             return null;
         }
         Stack<NestedGenericBean$StaticChildBeanView<T1>> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (NestedGenericBean.StaticChildBean<T1> source : sources) {
             results.add(read(source));
         }
@@ -88,13 +93,38 @@ public class NestedGenericBean$StaticChildBeanView<T1 extends String> {
         if (sources == null) {
             return null;
         }
-        Map<K, NestedGenericBean$StaticChildBeanView<T1>> results = new HashMap<>();
+        Map<K, NestedGenericBean$StaticChildBeanView<T1>> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, NestedGenericBean.StaticChildBean<T1>> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static <T1 extends String> Stream<NestedGenericBean$StaticChildBeanView<T1>> readStream(Stream<NestedGenericBean.StaticChildBean<T1>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(NestedGenericBean$StaticChildBeanView::read);
+    }
+
+    public static <T1 extends String> Iterable<NestedGenericBean$StaticChildBeanView<T1>> readIterable(Iterable<NestedGenericBean.StaticChildBean<T1>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, NestedGenericBean$StaticChildBeanView::read);
+    }
+
+    public static <T1 extends String> Iterator<NestedGenericBean$StaticChildBeanView<T1>> readIterator(Iterator<NestedGenericBean.StaticChildBean<T1>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, NestedGenericBean$StaticChildBeanView::read);
+    }
+
+    public static <T1 extends String> Function<NestedGenericBean.StaticChildBean<T1>, NestedGenericBean$StaticChildBeanView<T1>> reader() {
+        return NestedGenericBean$StaticChildBeanView::read;
+    }
+
     public T1 getA() {
         return this.a;
     }
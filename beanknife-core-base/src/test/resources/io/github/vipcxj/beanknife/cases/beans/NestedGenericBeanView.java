@@ -1,13 +1,17 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = NestedGenericBean.class, configClass = NestedGenericBean.class)
 public class NestedGenericBeanView<T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>> {
@@ -61,7 +65,7 @@ public class NestedGenericBeanView<T1 extends CharSequence & Set<? extends Chara
         if (sources == null) {
             return null;
         }
-        List<NestedGenericBeanView<T1, T2>> results = new ArrayList<>();
+        List<NestedGenericBeanView<T1, T2>> results = new ArrayList<>(sources.size());
         for (NestedGenericBean<T1, T2> source : sources) {
             results.add(read(source));
         }
@@ -72,7 +76,7 @@ public class NestedGenericBeanView<T1 extends CharSequence & Set<? extends Chara
         if (sources == null) {
             return null;
         }
-        Set<NestedGenericBeanView<T1, T2>> results = new HashSet<>();
+        Set<NestedGenericBeanView<T1, T2>> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (NestedGenericBean<T1, T2> source : sources) {
             results.add(read(source));
         }
@@ -84,6 +88,7 @@ public class NestedGenericBeanView<T1 extends CharSequence & Set<? extends Chara
             return null;
         }
         Stack<NestedGenericBeanView<T1, T2>> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (NestedGenericBean<T1, T2> source : sources) {
             results.add(read(source));
         }
@@ -94,13 +99,38 @@ public class NestedGenericBeanView<T1 extends CharSequence & Set<? extends Chara
         if (sources == null) {
             return null;
         }
-        Map<K, NestedGenericBeanView<T1, T2>> results = new HashMap<>();
+        Map<K, NestedGenericBeanView<T1, T2>> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, NestedGenericBean<T1, T2>> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>> Stream<NestedGenericBeanView<T1, T2>> readStream(Stream<NestedGenericBean<T1, T2>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(NestedGenericBeanView::read);
+    }
+
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>> Iterable<NestedGenericBeanView<T1, T2>> readIterable(Iterable<NestedGenericBean<T1, T2>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, NestedGenericBeanView::read);
+    }
+
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>> Iterator<NestedGenericBeanView<T1, T2>> readIterator(Iterator<NestedGenericBean<T1, T2>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, NestedGenericBeanView::read);
+    }
+
+    public static <T1 extends CharSequence & Set<? extends Character>, T2 extends List<? extends Set<? super String>>> Function<NestedGenericBean<T1, T2>, NestedGenericBeanView<T1, T2>> reader() {
+        return NestedGenericBeanView::read;
+    }
+
     public T1 getA() {
         return this.a;
     }
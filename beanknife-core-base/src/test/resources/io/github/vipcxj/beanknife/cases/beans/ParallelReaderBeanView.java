@@ -0,0 +1,193 @@
+package io.github.vipcxj.beanknife.cases.beans;
+
+import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
+import io.github.vipcxj.beanknife.runtime.utils.ParallelReaders;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@GeneratedView(targetClass = FieldBean.class, configClass = ParallelReaderBeanViewConfig.class)
+public class ParallelReaderBeanView {
+
+    private long b;
+
+    private Date c;
+
+    private Number[] d;
+
+    public ParallelReaderBeanView() { }
+
+    public ParallelReaderBeanView(
+        long b,
+        Date c,
+        Number[] d
+    ) {
+        this.b = b;
+        this.c = c;
+        this.d = d;
+    }
+
+    public ParallelReaderBeanView(ParallelReaderBeanView source) {
+        this.b = source.b;
+        this.c = source.c;
+        this.d = source.d;
+    }
+
+    public ParallelReaderBeanView(FieldBean source) {
+        if (source == null) {
+            throw new NullPointerException("The input source argument of the read constructor of class io.github.vipcxj.beanknife.cases.beans.ParallelReaderBeanView should not be null.");
+        }
+        this.b = source.b;
+        this.c = source.c;
+        this.d = source.d;
+    }
+
+    public static ParallelReaderBeanView read(FieldBean source) {
+        if (source == null) {
+            return null;
+        }
+        return new ParallelReaderBeanView(source);
+    }
+
+    public static ParallelReaderBeanView[] read(FieldBean[] sources) {
+        if (sources == null) {
+            return null;
+        }
+        ParallelReaderBeanView[] results = new ParallelReaderBeanView[sources.length];
+        for (int i = 0; i < sources.length; ++i) {
+            results[i] = read(sources[i]);
+        }
+        return results;
+    }
+
+    public static List<ParallelReaderBeanView> read(List<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        List<ParallelReaderBeanView> results = new ArrayList<>(sources.size());
+        for (FieldBean source : sources) {
+            results.add(read(source));
+        }
+        return results;
+    }
+
+    public static Set<ParallelReaderBeanView> read(Set<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        Set<ParallelReaderBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
+        for (FieldBean source : sources) {
+            results.add(read(source));
+        }
+        return results;
+    }
+
+    public static Stack<ParallelReaderBeanView> read(Stack<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        Stack<ParallelReaderBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
+        for (FieldBean source : sources) {
+            results.add(read(source));
+        }
+        return results;
+    }
+
+    public static <K> Map<K, ParallelReaderBeanView> read(Map<K, FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        Map<K, ParallelReaderBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
+        for (Map.Entry<K, FieldBean> source : sources.entrySet()) {
+            results.put(source.getKey(), read(source.getValue()));
+        }
+        return results;
+    }
+
+    public static Stream<ParallelReaderBeanView> readStream(Stream<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(ParallelReaderBeanView::read);
+    }
+
+    public static Iterable<ParallelReaderBeanView> readIterable(Iterable<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, ParallelReaderBeanView::read);
+    }
+
+    public static Iterator<ParallelReaderBeanView> readIterator(Iterator<FieldBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, ParallelReaderBeanView::read);
+    }
+
+    public static Function<FieldBean, ParallelReaderBeanView> reader() {
+        return ParallelReaderBeanView::read;
+    }
+
+    public static ParallelReaderBeanView[] readParallel(FieldBean[] sources) {
+        if (sources == null) {
+            return null;
+        }
+        return ParallelReaders.readArray(sources, new ParallelReaderBeanView[sources.length], ParallelReaderBeanView::read, 500);
+    }
+
+    public static ParallelReaderBeanView[] readParallel(FieldBean[] sources, Executor executor) {
+        if (sources == null) {
+            return null;
+        }
+        return ParallelReaders.readArray(sources, new ParallelReaderBeanView[sources.length], ParallelReaderBeanView::read, 500, executor);
+    }
+
+    public static List<ParallelReaderBeanView> readParallel(List<FieldBean> sources) {
+        return ParallelReaders.readList(sources, ParallelReaderBeanView::read, 500);
+    }
+
+    public static List<ParallelReaderBeanView> readParallel(List<FieldBean> sources, Executor executor) {
+        return ParallelReaders.readList(sources, ParallelReaderBeanView::read, 500, executor);
+    }
+
+    public static Set<ParallelReaderBeanView> readParallel(Set<FieldBean> sources) {
+        return ParallelReaders.readSet(sources, ParallelReaderBeanView::read, 500);
+    }
+
+    public static Set<ParallelReaderBeanView> readParallel(Set<FieldBean> sources, Executor executor) {
+        return ParallelReaders.readSet(sources, ParallelReaderBeanView::read, 500, executor);
+    }
+
+    public static <K> Map<K, ParallelReaderBeanView> readParallel(Map<K, FieldBean> sources) {
+        return ParallelReaders.readMap(sources, ParallelReaderBeanView::read, 500);
+    }
+
+    public static <K> Map<K, ParallelReaderBeanView> readParallel(Map<K, FieldBean> sources, Executor executor) {
+        return ParallelReaders.readMap(sources, ParallelReaderBeanView::read, 500, executor);
+    }
+
+    public long getB() {
+        return this.b;
+    }
+
+    public Date getC() {
+        return this.c;
+    }
+
+    public Number[] getD() {
+        return this.d;
+    }
+
+}
@@ -0,0 +1,7 @@
+package io.github.vipcxj.beanknife.cases.beans;
+
+import io.github.vipcxj.beanknife.runtime.annotations.ViewOf;
+
+@ViewOf(value = FieldBean.class, genName = "ParallelReaderBeanView", includePattern = ".*", parallelReader = true, parallelReadThreshold = 500)
+public class ParallelReaderBeanViewConfig {
+}
@@ -1,14 +1,18 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = SerializableBean.class, configClass = SerializableBean.class)
 public class SerializableBeanView implements Serializable {
@@ -63,7 +67,7 @@ public class SerializableBeanView implements Serializable {
         if (sources == null) {
             return null;
         }
-        List<SerializableBeanView> results = new ArrayList<>();
+        List<SerializableBeanView> results = new ArrayList<>(sources.size());
         for (SerializableBean source : sources) {
             results.add(read(source));
         }
@@ -74,7 +78,7 @@ public class SerializableBeanView implements Serializable {
         if (sources == null) {
             return null;
         }
-        Set<SerializableBeanView> results = new HashSet<>();
+        Set<SerializableBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (SerializableBean source : sources) {
             results.add(read(source));
         }
@@ -86,6 +90,7 @@ public class SerializableBeanView implements Serializable {
             return null;
         }
         Stack<SerializableBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (SerializableBean source : sources) {
             results.add(read(source));
         }
@@ -96,13 +101,38 @@ public class SerializableBeanView implements Serializable {
         if (sources == null) {
             return null;
         }
-        Map<K, SerializableBeanView> results = new HashMap<>();
+        Map<K, SerializableBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, SerializableBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<SerializableBeanView> readStream(Stream<SerializableBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(SerializableBeanView::read);
+    }
+
+    public static Iterable<SerializableBeanView> readIterable(Iterable<SerializableBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, SerializableBeanView::read);
+    }
+
+    public static Iterator<SerializableBeanView> readIterator(Iterator<SerializableBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, SerializableBeanView::read);
+    }
+
+    public static Function<SerializableBean, SerializableBeanView> reader() {
+        return SerializableBeanView::read;
+    }
+
     public String getA() {
         return this.a;
     }
@@ -67,7 +67,7 @@ public class SimpleBeanView {
         if (sources == null) {
             return null;
         }
-        List<SimpleBeanView> results = new ArrayList<>();
+        List<SimpleBeanView> results = new ArrayList<>(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -78,7 +78,7 @@ public class SimpleBeanView {
         if (sources == null) {
             return null;
         }
-        Set<SimpleBeanView> results = new HashSet<>();
+        Set<SimpleBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -90,6 +90,7 @@ public class SimpleBeanView {
             return null;
         }
         Stack<SimpleBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -100,7 +101,7 @@ public class SimpleBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, SimpleBeanView> results = new HashMap<>();
+        Map<K, SimpleBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
@@ -67,7 +67,7 @@ public class SimpleBeanWithDefaultGetters {
         if (sources == null) {
             return null;
         }
-        List<SimpleBeanWithDefaultGetters> results = new ArrayList<>();
+        List<SimpleBeanWithDefaultGetters> results = new ArrayList<>(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -78,7 +78,7 @@ public class SimpleBeanWithDefaultGetters {
         if (sources == null) {
             return null;
         }
-        Set<SimpleBeanWithDefaultGetters> results = new HashSet<>();
+        Set<SimpleBeanWithDefaultGetters> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -90,6 +90,7 @@ public class SimpleBeanWithDefaultGetters {
             return null;
         }
         Stack<SimpleBeanWithDefaultGetters> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -100,7 +101,7 @@ public class SimpleBeanWithDefaultGetters {
         if (sources == null) {
             return null;
         }
-        Map<K, SimpleBeanWithDefaultGetters> results = new HashMap<>();
+        Map<K, SimpleBeanWithDefaultGetters> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
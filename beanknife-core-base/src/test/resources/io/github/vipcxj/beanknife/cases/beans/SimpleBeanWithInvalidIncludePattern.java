@@ -45,7 +45,7 @@ public class SimpleBeanWithInvalidIncludePattern {
         if (sources == null) {
             return null;
         }
-        List<SimpleBeanWithInvalidIncludePattern> results = new ArrayList<>();
+        List<SimpleBeanWithInvalidIncludePattern> results = new ArrayList<>(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -56,7 +56,7 @@ public class SimpleBeanWithInvalidIncludePattern {
         if (sources == null) {
             return null;
         }
-        Set<SimpleBeanWithInvalidIncludePattern> results = new HashSet<>();
+        Set<SimpleBeanWithInvalidIncludePattern> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -68,6 +68,7 @@ public class SimpleBeanWithInvalidIncludePattern {
             return null;
         }
         Stack<SimpleBeanWithInvalidIncludePattern> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -78,7 +79,7 @@ public class SimpleBeanWithInvalidIncludePattern {
         if (sources == null) {
             return null;
         }
-        Map<K, SimpleBeanWithInvalidIncludePattern> results = new HashMap<>();
+        Map<K, SimpleBeanWithInvalidIncludePattern> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
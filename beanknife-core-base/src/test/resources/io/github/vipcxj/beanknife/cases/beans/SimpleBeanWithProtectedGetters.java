@@ -67,7 +67,7 @@ public class SimpleBeanWithProtectedGetters {
         if (sources == null) {
             return null;
         }
-        List<SimpleBeanWithProtectedGetters> results = new ArrayList<>();
+        List<SimpleBeanWithProtectedGetters> results = new ArrayList<>(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -78,7 +78,7 @@ public class SimpleBeanWithProtectedGetters {
         if (sources == null) {
             return null;
         }
-        Set<SimpleBeanWithProtectedGetters> results = new HashSet<>();
+        Set<SimpleBeanWithProtectedGetters> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -90,6 +90,7 @@ public class SimpleBeanWithProtectedGetters {
             return null;
         }
         Stack<SimpleBeanWithProtectedGetters> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -100,7 +101,7 @@ public class SimpleBeanWithProtectedGetters {
         if (sources == null) {
             return null;
         }
-        Map<K, SimpleBeanWithProtectedGetters> results = new HashMap<>();
+        Map<K, SimpleBeanWithProtectedGetters> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
@@ -67,7 +67,7 @@ public class SimpleBeanWithUnknownGetters {
         if (sources == null) {
             return null;
         }
-        List<SimpleBeanWithUnknownGetters> results = new ArrayList<>();
+        List<SimpleBeanWithUnknownGetters> results = new ArrayList<>(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -78,7 +78,7 @@ public class SimpleBeanWithUnknownGetters {
         if (sources == null) {
             return null;
         }
-        Set<SimpleBeanWithUnknownGetters> results = new HashSet<>();
+        Set<SimpleBeanWithUnknownGetters> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -90,6 +90,7 @@ public class SimpleBeanWithUnknownGetters {
             return null;
         }
         Stack<SimpleBeanWithUnknownGetters> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -100,7 +101,7 @@ public class SimpleBeanWithUnknownGetters {
         if (sources == null) {
             return null;
         }
-        Map<K, SimpleBeanWithUnknownGetters> results = new HashMap<>();
+        Map<K, SimpleBeanWithUnknownGetters> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
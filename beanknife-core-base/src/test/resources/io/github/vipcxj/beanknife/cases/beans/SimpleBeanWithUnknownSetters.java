@@ -67,7 +67,7 @@ public class SimpleBeanWithUnknownSetters {
         if (sources == null) {
             return null;
         }
-        List<SimpleBeanWithUnknownSetters> results = new ArrayList<>();
+        List<SimpleBeanWithUnknownSetters> results = new ArrayList<>(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -78,7 +78,7 @@ public class SimpleBeanWithUnknownSetters {
         if (sources == null) {
             return null;
         }
-        Set<SimpleBeanWithUnknownSetters> results = new HashSet<>();
+        Set<SimpleBeanWithUnknownSetters> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -90,6 +90,7 @@ public class SimpleBeanWithUnknownSetters {
             return null;
         }
         Stack<SimpleBeanWithUnknownSetters> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (SimpleBean source : sources) {
             results.add(read(source));
         }
@@ -100,7 +101,7 @@ public class SimpleBeanWithUnknownSetters {
         if (sources == null) {
             return null;
         }
-        Map<K, SimpleBeanWithUnknownSetters> results = new HashMap<>();
+        Map<K, SimpleBeanWithUnknownSetters> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
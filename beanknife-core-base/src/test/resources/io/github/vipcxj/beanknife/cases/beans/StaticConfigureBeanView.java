@@ -0,0 +1,163 @@
+package io.github.vipcxj.beanknife.cases.beans;
+
+import io.github.vipcxj.beanknife.runtime.BeanProviders;
+import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.BeanUsage;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@GeneratedView(targetClass = SimpleBean.class, configClass = StaticConfigureBeanViewConfig.class)
+public class StaticConfigureBeanView {
+
+    private static class ConfigureBeanHolder {
+        private static final StaticConfigureBeanViewConfig INSTANCE = BeanProviders.INSTANCE.get(StaticConfigureBeanViewConfig.class, BeanUsage.CONFIGURE, StaticConfigureBeanView.class, true, false);
+    }
+
+    private String a;
+
+    private Integer b;
+
+    private Integer c;
+
+    public StaticConfigureBeanView() { }
+
+    public StaticConfigureBeanView(
+        String a,
+        Integer b,
+        Integer c
+    ) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+    }
+
+    public StaticConfigureBeanView(StaticConfigureBeanView source) {
+        this.a = source.a;
+        this.b = source.b;
+        this.c = source.c;
+    }
+
+    public StaticConfigureBeanView(SimpleBean source) {
+        if (source == null) {
+            throw new NullPointerException("The input source argument of the read constructor of class io.github.vipcxj.beanknife.cases.beans.StaticConfigureBeanView should not be null.");
+        }
+        StaticConfigureBeanViewConfig configureBean = ConfigureBeanHolder.INSTANCE;
+        this.a = source.getA();
+        this.b = source.getB();
+        this.c = configureBean.getC(source);
+    }
+
+    public static StaticConfigureBeanView read(SimpleBean source) {
+        if (source == null) {
+            return null;
+        }
+        return new StaticConfigureBeanView(source);
+    }
+
+    public static StaticConfigureBeanView[] read(SimpleBean[] sources) {
+        if (sources == null) {
+            return null;
+        }
+        StaticConfigureBeanView[] results = new StaticConfigureBeanView[sources.length];
+        for (int i = 0; i < sources.length; ++i) {
+            results[i] = read(sources[i]);
+        }
+        return results;
+    }
+
+    public static List<StaticConfigureBeanView> read(List<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        List<StaticConfigureBeanView> results = new ArrayList<>(sources.size());
+        for (SimpleBean source : sources) {
+            results.add(read(source));
+        }
+        return results;
+    }
+
+    public static Set<StaticConfigureBeanView> read(Set<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        Set<StaticConfigureBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
+        for (SimpleBean source : sources) {
+            results.add(read(source));
+        }
+        return results;
+    }
+
+    public static Stack<StaticConfigureBeanView> read(Stack<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        Stack<StaticConfigureBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
+        for (SimpleBean source : sources) {
+            results.add(read(source));
+        }
+        return results;
+    }
+
+    public static <K> Map<K, StaticConfigureBeanView> read(Map<K, SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        Map<K, StaticConfigureBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
+        for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
+            results.put(source.getKey(), read(source.getValue()));
+        }
+        return results;
+    }
+
+    public static Stream<StaticConfigureBeanView> readStream(Stream<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(StaticConfigureBeanView::read);
+    }
+
+    public static Iterable<StaticConfigureBeanView> readIterable(Iterable<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, StaticConfigureBeanView::read);
+    }
+
+    public static Iterator<StaticConfigureBeanView> readIterator(Iterator<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, StaticConfigureBeanView::read);
+    }
+
+    public static Function<SimpleBean, StaticConfigureBeanView> reader() {
+        return StaticConfigureBeanView::read;
+    }
+
+    public String getA() {
+        return this.a;
+    }
+
+    public Integer getB() {
+        return this.b;
+    }
+
+    public Integer getC() {
+        return this.c;
+    }
+
+    public String getD() {
+        return ConfigureBeanHolder.INSTANCE.getD(this.a, this.b);
+    }
+
+}
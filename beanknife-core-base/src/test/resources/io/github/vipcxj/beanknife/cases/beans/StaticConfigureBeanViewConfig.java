@@ -0,0 +1,19 @@
+package io.github.vipcxj.beanknife.cases.beans;
+
+import io.github.vipcxj.beanknife.runtime.annotations.*;
+import io.github.vipcxj.beanknife.runtime.utils.CacheType;
+
+@ViewOf(value = SimpleBean.class, genName = "StaticConfigureBeanView", includes = {SimpleBeanMeta.a, SimpleBeanMeta.b}, useDefaultBeanProvider = true, configureBeanCacheType = CacheType.STATIC)
+public class StaticConfigureBeanViewConfig {
+
+    @NewViewProperty("c")
+    public Integer getC(SimpleBean bean) {
+        return bean.getB();
+    }
+
+    @NewViewProperty("d")
+    @Dynamic
+    public String getD(@InjectProperty String a, @InjectProperty Integer b) {
+        return a + b;
+    }
+}
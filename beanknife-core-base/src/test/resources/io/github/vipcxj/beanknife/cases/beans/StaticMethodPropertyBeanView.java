@@ -3,13 +3,17 @@ package io.github.vipcxj.beanknife.cases.beans;
 import io.github.vipcxj.beanknife.runtime.BeanProviders;
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
 import io.github.vipcxj.beanknife.runtime.utils.BeanUsage;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = SimpleBean.class, configClass = StaticMethodPropertyBeanViewConfig.class)
 public class StaticMethodPropertyBeanView {
@@ -54,10 +58,13 @@ public class StaticMethodPropertyBeanView {
     }
 
     public StaticMethodPropertyBeanView(SimpleBean source) {
+        this(source, source != null ? BeanProviders.INSTANCE.get(StaticMethodPropertyBeanViewConfig.class, BeanUsage.CONFIGURE, source, false, false) : null);
+    }
+
+    private StaticMethodPropertyBeanView(SimpleBean source, StaticMethodPropertyBeanViewConfig configureBean) {
         if (source == null) {
             throw new NullPointerException("The input source argument of the read constructor of class io.github.vipcxj.beanknife.cases.beans.StaticMethodPropertyBeanView should not be null.");
         }
-        StaticMethodPropertyBeanViewConfig configureBean = BeanProviders.INSTANCE.get(StaticMethodPropertyBeanViewConfig.class, BeanUsage.CONFIGURE, source, false, false);
         this.a = source.getA();
         this.b = StaticMethodPropertyBeanViewConfig.getB();
         this.one = StaticMethodPropertyBeanViewConfig.getOne();
@@ -73,13 +80,24 @@ public class StaticMethodPropertyBeanView {
         return new StaticMethodPropertyBeanView(source);
     }
 
+    private static StaticMethodPropertyBeanView read(SimpleBean source, StaticMethodPropertyBeanViewConfig configureBean) {
+        if (source == null) {
+            return null;
+        }
+        return new StaticMethodPropertyBeanView(source, configureBean);
+    }
+
     public static StaticMethodPropertyBeanView[] read(SimpleBean[] sources) {
         if (sources == null) {
             return null;
         }
+        StaticMethodPropertyBeanViewConfig configureBean = null;
         StaticMethodPropertyBeanView[] results = new StaticMethodPropertyBeanView[sources.length];
         for (int i = 0; i < sources.length; ++i) {
-            results[i] = read(sources[i]);
+            if (configureBean == null && sources[i] != null) {
+                configureBean = BeanProviders.INSTANCE.get(StaticMethodPropertyBeanViewConfig.class, BeanUsage.CONFIGURE, sources[i], false, false);
+            }
+            results[i] = read(sources[i], configureBean);
         }
         return results;
     }
@@ -88,9 +106,13 @@ public class StaticMethodPropertyBeanView {
         if (sources == null) {
             return null;
         }
-        List<StaticMethodPropertyBeanView> results = new ArrayList<>();
+        StaticMethodPropertyBeanViewConfig configureBean = null;
+        List<StaticMethodPropertyBeanView> results = new ArrayList<>(sources.size());
         for (SimpleBean source : sources) {
-            results.add(read(source));
+            if (configureBean == null && source != null) {
+                configureBean = BeanProviders.INSTANCE.get(StaticMethodPropertyBeanViewConfig.class, BeanUsage.CONFIGURE, source, false, false);
+            }
+            results.add(read(source, configureBean));
         }
         return results;
     }
@@ -99,9 +121,13 @@ public class StaticMethodPropertyBeanView {
         if (sources == null) {
             return null;
         }
-        Set<StaticMethodPropertyBeanView> results = new HashSet<>();
+        StaticMethodPropertyBeanViewConfig configureBean = null;
+        Set<StaticMethodPropertyBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (SimpleBean source : sources) {
-            results.add(read(source));
+            if (configureBean == null && source != null) {
+                configureBean = BeanProviders.INSTANCE.get(StaticMethodPropertyBeanViewConfig.class, BeanUsage.CONFIGURE, source, false, false);
+            }
+            results.add(read(source, configureBean));
         }
         return results;
     }
@@ -110,9 +136,14 @@ public class StaticMethodPropertyBeanView {
         if (sources == null) {
             return null;
         }
+        StaticMethodPropertyBeanViewConfig configureBean = null;
         Stack<StaticMethodPropertyBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (SimpleBean source : sources) {
-            results.add(read(source));
+            if (configureBean == null && source != null) {
+                configureBean = BeanProviders.INSTANCE.get(StaticMethodPropertyBeanViewConfig.class, BeanUsage.CONFIGURE, source, false, false);
+            }
+            results.add(read(source, configureBean));
         }
         return results;
     }
@@ -121,13 +152,42 @@ public class StaticMethodPropertyBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, StaticMethodPropertyBeanView> results = new HashMap<>();
+        StaticMethodPropertyBeanViewConfig configureBean = null;
+        Map<K, StaticMethodPropertyBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, SimpleBean> source : sources.entrySet()) {
-            results.put(source.getKey(), read(source.getValue()));
+            if (configureBean == null && source.getValue() != null) {
+                configureBean = BeanProviders.INSTANCE.get(StaticMethodPropertyBeanViewConfig.class, BeanUsage.CONFIGURE, source.getValue(), false, false);
+            }
+            results.put(source.getKey(), read(source.getValue(), configureBean));
         }
         return results;
     }
 
+    public static Stream<StaticMethodPropertyBeanView> readStream(Stream<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(StaticMethodPropertyBeanView::read);
+    }
+
+    public static Iterable<StaticMethodPropertyBeanView> readIterable(Iterable<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, StaticMethodPropertyBeanView::read);
+    }
+
+    public static Iterator<StaticMethodPropertyBeanView> readIterator(Iterator<SimpleBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, StaticMethodPropertyBeanView::read);
+    }
+
+    public static Function<SimpleBean, StaticMethodPropertyBeanView> reader() {
+        return StaticMethodPropertyBeanView::read;
+    }
+
     public String getA() {
         return this.a;
     }
@@ -61,7 +61,7 @@ public class ViewOfDirectOnBeanView {
         if (sources == null) {
             return null;
         }
-        List<ViewOfDirectOnBeanView> results = new ArrayList<>();
+        List<ViewOfDirectOnBeanView> results = new ArrayList<>(sources.size());
         for (ViewOfDirectOnBean source : sources) {
             results.add(read(source));
         }
@@ -72,7 +72,7 @@ public class ViewOfDirectOnBeanView {
         if (sources == null) {
             return null;
         }
-        Set<ViewOfDirectOnBeanView> results = new HashSet<>();
+        Set<ViewOfDirectOnBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (ViewOfDirectOnBean source : sources) {
             results.add(read(source));
         }
@@ -84,6 +84,7 @@ public class ViewOfDirectOnBeanView {
             return null;
         }
         Stack<ViewOfDirectOnBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (ViewOfDirectOnBean source : sources) {
             results.add(read(source));
         }
@@ -94,7 +95,7 @@ public class ViewOfDirectOnBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, ViewOfDirectOnBeanView> results = new HashMap<>();
+        Map<K, ViewOfDirectOnBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, ViewOfDirectOnBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
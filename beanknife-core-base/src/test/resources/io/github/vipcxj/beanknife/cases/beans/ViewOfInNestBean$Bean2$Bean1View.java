@@ -45,7 +45,7 @@ public class ViewOfInNestBean$Bean2$Bean1View {
         if (sources == null) {
             return null;
         }
-        List<ViewOfInNestBean$Bean2$Bean1View> results = new ArrayList<>();
+        List<ViewOfInNestBean$Bean2$Bean1View> results = new ArrayList<>(sources.size());
         for (ViewOfInNestBean.Bean2.Bean1 source : sources) {
             results.add(read(source));
         }
@@ -56,7 +56,7 @@ public class ViewOfInNestBean$Bean2$Bean1View {
         if (sources == null) {
             return null;
         }
-        Set<ViewOfInNestBean$Bean2$Bean1View> results = new HashSet<>();
+        Set<ViewOfInNestBean$Bean2$Bean1View> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (ViewOfInNestBean.Bean2.Bean1 source : sources) {
             results.add(read(source));
         }
@@ -68,6 +68,7 @@ public class ViewOfInNestBean$Bean2$Bean1View {
             return null;
         }
         Stack<ViewOfInNestBean$Bean2$Bean1View> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (ViewOfInNestBean.Bean2.Bean1 source : sources) {
             results.add(read(source));
         }
@@ -78,7 +79,7 @@ public class ViewOfInNestBean$Bean2$Bean1View {
         if (sources == null) {
             return null;
         }
-        Map<K, ViewOfInNestBean$Bean2$Bean1View> results = new HashMap<>();
+        Map<K, ViewOfInNestBean$Bean2$Bean1View> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, ViewOfInNestBean.Bean2.Bean1> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
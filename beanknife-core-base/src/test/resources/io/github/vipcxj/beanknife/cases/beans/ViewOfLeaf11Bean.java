@@ -1,15 +1,19 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = Leaf11Bean.class, configClass = Leaf11BeanViewConfigure.class)
 public class ViewOfLeaf11Bean implements Serializable {
@@ -71,7 +75,7 @@ public class ViewOfLeaf11Bean implements Serializable {
         if (sources == null) {
             return null;
         }
-        List<ViewOfLeaf11Bean> results = new ArrayList<>();
+        List<ViewOfLeaf11Bean> results = new ArrayList<>(sources.size());
         for (Leaf11Bean source : sources) {
             results.add(read(source));
         }
@@ -82,7 +86,7 @@ public class ViewOfLeaf11Bean implements Serializable {
         if (sources == null) {
             return null;
         }
-        Set<ViewOfLeaf11Bean> results = new HashSet<>();
+        Set<ViewOfLeaf11Bean> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (Leaf11Bean source : sources) {
             results.add(read(source));
         }
@@ -94,6 +98,7 @@ public class ViewOfLeaf11Bean implements Serializable {
             return null;
         }
         Stack<ViewOfLeaf11Bean> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (Leaf11Bean source : sources) {
             results.add(read(source));
         }
@@ -104,13 +109,38 @@ public class ViewOfLeaf11Bean implements Serializable {
         if (sources == null) {
             return null;
         }
-        Map<K, ViewOfLeaf11Bean> results = new HashMap<>();
+        Map<K, ViewOfLeaf11Bean> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, Leaf11Bean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<ViewOfLeaf11Bean> readStream(Stream<Leaf11Bean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(ViewOfLeaf11Bean::read);
+    }
+
+    public static Iterable<ViewOfLeaf11Bean> readIterable(Iterable<Leaf11Bean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, ViewOfLeaf11Bean::read);
+    }
+
+    public static Iterator<ViewOfLeaf11Bean> readIterator(Iterator<Leaf11Bean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, ViewOfLeaf11Bean::read);
+    }
+
+    public static Function<Leaf11Bean, ViewOfLeaf11Bean> reader() {
+        return ViewOfLeaf11Bean::read;
+    }
+
     public Class<? extends Annotation> getB() {
         return this.b;
     }
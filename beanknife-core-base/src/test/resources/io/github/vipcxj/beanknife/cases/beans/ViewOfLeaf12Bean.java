@@ -71,7 +71,7 @@ public class ViewOfLeaf12Bean implements Serializable {
         if (sources == null) {
             return null;
         }
-        List<ViewOfLeaf12Bean> results = new ArrayList<>();
+        List<ViewOfLeaf12Bean> results = new ArrayList<>(sources.size());
         for (Leaf12Bean source : sources) {
             results.add(read(source));
         }
@@ -82,7 +82,7 @@ public class ViewOfLeaf12Bean implements Serializable {
         if (sources == null) {
             return null;
         }
-        Set<ViewOfLeaf12Bean> results = new HashSet<>();
+        Set<ViewOfLeaf12Bean> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (Leaf12Bean source : sources) {
             results.add(read(source));
         }
@@ -94,6 +94,7 @@ public class ViewOfLeaf12Bean implements Serializable {
             return null;
         }
         Stack<ViewOfLeaf12Bean> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (Leaf12Bean source : sources) {
             results.add(read(source));
         }
@@ -104,7 +105,7 @@ public class ViewOfLeaf12Bean implements Serializable {
         if (sources == null) {
             return null;
         }
-        Map<K, ViewOfLeaf12Bean> results = new HashMap<>();
+        Map<K, ViewOfLeaf12Bean> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, Leaf12Bean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
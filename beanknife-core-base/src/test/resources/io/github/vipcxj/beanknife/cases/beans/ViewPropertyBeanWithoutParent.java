@@ -1,13 +1,17 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = ViewPropertyBean.class, configClass = ViewPropertyBeanViewConfig.class)
 public class ViewPropertyBeanWithoutParent {
@@ -61,7 +65,7 @@ public class ViewPropertyBeanWithoutParent {
         if (sources == null) {
             return null;
         }
-        List<ViewPropertyBeanWithoutParent> results = new ArrayList<>();
+        List<ViewPropertyBeanWithoutParent> results = new ArrayList<>(sources.size());
         for (ViewPropertyBean source : sources) {
             results.add(read(source));
         }
@@ -72,7 +76,7 @@ public class ViewPropertyBeanWithoutParent {
         if (sources == null) {
             return null;
         }
-        Set<ViewPropertyBeanWithoutParent> results = new HashSet<>();
+        Set<ViewPropertyBeanWithoutParent> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (ViewPropertyBean source : sources) {
             results.add(read(source));
         }
@@ -84,6 +88,7 @@ public class ViewPropertyBeanWithoutParent {
             return null;
         }
         Stack<ViewPropertyBeanWithoutParent> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (ViewPropertyBean source : sources) {
             results.add(read(source));
         }
@@ -94,13 +99,38 @@ public class ViewPropertyBeanWithoutParent {
         if (sources == null) {
             return null;
         }
-        Map<K, ViewPropertyBeanWithoutParent> results = new HashMap<>();
+        Map<K, ViewPropertyBeanWithoutParent> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, ViewPropertyBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<ViewPropertyBeanWithoutParent> readStream(Stream<ViewPropertyBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(ViewPropertyBeanWithoutParent::read);
+    }
+
+    public static Iterable<ViewPropertyBeanWithoutParent> readIterable(Iterable<ViewPropertyBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, ViewPropertyBeanWithoutParent::read);
+    }
+
+    public static Iterator<ViewPropertyBeanWithoutParent> readIterator(Iterator<ViewPropertyBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, ViewPropertyBeanWithoutParent::read);
+    }
+
+    public static Function<ViewPropertyBean, ViewPropertyBeanWithoutParent> reader() {
+        return ViewPropertyBeanWithoutParent::read;
+    }
+
     public int getA() {
         return this.a;
     }
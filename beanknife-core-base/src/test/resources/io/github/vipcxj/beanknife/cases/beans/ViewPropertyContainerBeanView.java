@@ -1,13 +1,17 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = ViewPropertyContainerBean.class, configClass = ViewPropertyContainerBeanViewConfig.class)
 public class ViewPropertyContainerBeanView {
@@ -81,53 +85,64 @@ public class ViewPropertyContainerBeanView {
             throw new NullPointerException("The input source argument of the read constructor of class io.github.vipcxj.beanknife.cases.beans.ViewPropertyContainerBeanView should not be null.");
         }
         ViewPropertyBeanWithoutParent p0 = ViewPropertyBeanWithoutParent.read(source.getView());
-        ViewPropertyBeanWithoutParent[] p1 = new ViewPropertyBeanWithoutParent[source.getViewArray().length];
-        for (int i0 = 0; i0 < source.getViewArray().length; ++i0) {
-            ViewPropertyBean el0 = source.getViewArray()[i0];
+        ViewPropertyBean[] p1Source = source.getViewArray();
+        ViewPropertyBeanWithoutParent[] p1 = new ViewPropertyBeanWithoutParent[p1Source.length];
+        for (int i0 = 0; i0 < p1Source.length; ++i0) {
+            ViewPropertyBean el0 = p1Source[i0];
             ViewPropertyBeanWithoutParent result0 = ViewPropertyBeanWithoutParent.read(el0);
             p1[i0] = result0;
         }
-        List<ViewPropertyBeanWithoutParent> p2 = new ArrayList<>();
-        for (ViewPropertyBean el0 : source.getViewList()) {
+        List<ViewPropertyBean> p2Source = source.getViewList();
+        List<ViewPropertyBeanWithoutParent> p2 = new ArrayList<>(p2Source.size());
+        for (ViewPropertyBean el0 : p2Source) {
             ViewPropertyBeanWithoutParent result0 = ViewPropertyBeanWithoutParent.read(el0);
             p2.add(result0);
         }
-        Set<ViewPropertyBeanWithoutParent> p3 = new HashSet<>();
-        for (ViewPropertyBean el0 : source.getViewSet()) {
+        Set<ViewPropertyBean> p3Source = source.getViewSet();
+        Set<ViewPropertyBeanWithoutParent> p3 = new HashSet<>((int) (p3Source.size() / 0.75f) + 1);
+        for (ViewPropertyBean el0 : p3Source) {
             ViewPropertyBeanWithoutParent result0 = ViewPropertyBeanWithoutParent.read(el0);
             p3.add(result0);
         }
-        Map<String, ViewPropertyBeanWithoutParent> p4 = new HashMap<>();
-        for (Map.Entry<String, ViewPropertyBean> el0 : source.getViewMap().entrySet()) {
+        Map<String, ViewPropertyBean> p4Source = source.getViewMap();
+        Map<String, ViewPropertyBeanWithoutParent> p4 = new HashMap<>((int) (p4Source.size() / 0.75f) + 1);
+        for (Map.Entry<String, ViewPropertyBean> el0 : p4Source.entrySet()) {
             ViewPropertyBeanWithoutParent result0 = ViewPropertyBeanWithoutParent.read(el0.getValue());
             p4.put(el0.getKey(), result0);
         }
-        List<Map<String, ViewPropertyBeanWithoutParent>> p5 = new ArrayList<>();
-        for (Map<String, ViewPropertyBean> el0 : source.getViewMapList()) {
-            Map<String, ViewPropertyBeanWithoutParent> result0 = new HashMap<>();
+        List<Map<String, ViewPropertyBean>> p5Source = source.getViewMapList();
+        List<Map<String, ViewPropertyBeanWithoutParent>> p5 = new ArrayList<>(p5Source.size());
+        for (Map<String, ViewPropertyBean> el0 : p5Source) {
+            Map<String, ViewPropertyBeanWithoutParent> result0 = new HashMap<>((int) (el0.size() / 0.75f) + 1);
             for (Map.Entry<String, ViewPropertyBean> el1 : el0.entrySet()) {
                 ViewPropertyBeanWithoutParent result1 = ViewPropertyBeanWithoutParent.read(el1.getValue());
                 result0.put(el1.getKey(), result1);
             }
             p5.add(result0);
         }
-        Map<String, List<ViewPropertyBeanWithoutParent>> p6 = new HashMap<>();
-        for (Map.Entry<String, List<ViewPropertyBean>> el0 : source.getViewListMap().entrySet()) {
-            List<ViewPropertyBeanWithoutParent> result0 = new ArrayList<>();
-            for (ViewPropertyBean el1 : el0.getValue()) {
+        Map<String, List<ViewPropertyBean>> p6Source = source.getViewListMap();
+        Map<String, List<ViewPropertyBeanWithoutParent>> p6 = new HashMap<>((int) (p6Source.size() / 0.75f) + 1);
+        for (Map.Entry<String, List<ViewPropertyBean>> el0 : p6Source.entrySet()) {
+            List<ViewPropertyBean> result0Source = el0.getValue();
+            List<ViewPropertyBeanWithoutParent> result0 = new ArrayList<>(result0Source.size());
+            for (ViewPropertyBean el1 : result0Source) {
                 ViewPropertyBeanWithoutParent result1 = ViewPropertyBeanWithoutParent.read(el1);
                 result0.add(result1);
             }
             p6.put(el0.getKey(), result0);
         }
-        Map<String, List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>>> p7 = new HashMap<>();
-        for (Map.Entry<String, List<Map<Integer, Stack<ViewPropertyBean>>>> el0 : source.getViewStackMapListMap().entrySet()) {
-            List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>> result0 = new ArrayList<>();
-            for (Map<Integer, Stack<ViewPropertyBean>> el1 : el0.getValue()) {
-                Map<Integer, Stack<ViewPropertyBeanWithoutParent>> result1 = new HashMap<>();
+        Map<String, List<Map<Integer, Stack<ViewPropertyBean>>>> p7Source = source.getViewStackMapListMap();
+        Map<String, List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>>> p7 = new HashMap<>((int) (p7Source.size() / 0.75f) + 1);
+        for (Map.Entry<String, List<Map<Integer, Stack<ViewPropertyBean>>>> el0 : p7Source.entrySet()) {
+            List<Map<Integer, Stack<ViewPropertyBean>>> result0Source = el0.getValue();
+            List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>> result0 = new ArrayList<>(result0Source.size());
+            for (Map<Integer, Stack<ViewPropertyBean>> el1 : result0Source) {
+                Map<Integer, Stack<ViewPropertyBeanWithoutParent>> result1 = new HashMap<>((int) (el1.size() / 0.75f) + 1);
                 for (Map.Entry<Integer, Stack<ViewPropertyBean>> el2 : el1.entrySet()) {
+                    Stack<ViewPropertyBean> result2Source = el2.getValue();
                     Stack<ViewPropertyBeanWithoutParent> result2 = new Stack<>();
-                    for (ViewPropertyBean el3 : el2.getValue()) {
+                    result2.ensureCapacity(result2Source.size());
+                    for (ViewPropertyBean el3 : result2Source) {
                         ViewPropertyBeanWithoutParent result3 = ViewPropertyBeanWithoutParent.read(el3);
                         result2.add(result3);
                     }
@@ -137,23 +152,27 @@ public class ViewPropertyContainerBeanView {
             }
             p7.put(el0.getKey(), result0);
         }
-        Map<String, List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>>>[][][] p8 = new Map[source.getViewStackMapListMapArrayArrayArray().length][][];
-        for (int i0 = 0; i0 < source.getViewStackMapListMapArrayArrayArray().length; ++i0) {
-            Map<String, List<Map<Integer, Stack<ViewPropertyBean>>>>[][] el0 = source.getViewStackMapListMapArrayArrayArray()[i0];
+        Map<String, List<Map<Integer, Stack<ViewPropertyBean>>>>[][][] p8Source = source.getViewStackMapListMapArrayArrayArray();
+        Map<String, List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>>>[][][] p8 = new Map[p8Source.length][][];
+        for (int i0 = 0; i0 < p8Source.length; ++i0) {
+            Map<String, List<Map<Integer, Stack<ViewPropertyBean>>>>[][] el0 = p8Source[i0];
             Map<String, List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>>>[][] result0 = new Map[el0.length][];
             for (int i1 = 0; i1 < el0.length; ++i1) {
                 Map<String, List<Map<Integer, Stack<ViewPropertyBean>>>>[] el1 = el0[i1];
                 Map<String, List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>>>[] result1 = new Map[el1.length];
                 for (int i2 = 0; i2 < el1.length; ++i2) {
                     Map<String, List<Map<Integer, Stack<ViewPropertyBean>>>> el2 = el1[i2];
-                    Map<String, List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>>> result2 = new HashMap<>();
+                    Map<String, List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>>> result2 = new HashMap<>((int) (el2.size() / 0.75f) + 1);
                     for (Map.Entry<String, List<Map<Integer, Stack<ViewPropertyBean>>>> el3 : el2.entrySet()) {
-                        List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>> result3 = new ArrayList<>();
-                        for (Map<Integer, Stack<ViewPropertyBean>> el4 : el3.getValue()) {
-                            Map<Integer, Stack<ViewPropertyBeanWithoutParent>> result4 = new HashMap<>();
+                        List<Map<Integer, Stack<ViewPropertyBean>>> result3Source = el3.getValue();
+                        List<Map<Integer, Stack<ViewPropertyBeanWithoutParent>>> result3 = new ArrayList<>(result3Source.size());
+                        for (Map<Integer, Stack<ViewPropertyBean>> el4 : result3Source) {
+                            Map<Integer, Stack<ViewPropertyBeanWithoutParent>> result4 = new HashMap<>((int) (el4.size() / 0.75f) + 1);
                             for (Map.Entry<Integer, Stack<ViewPropertyBean>> el5 : el4.entrySet()) {
+                                Stack<ViewPropertyBean> result5Source = el5.getValue();
                                 Stack<ViewPropertyBeanWithoutParent> result5 = new Stack<>();
-                                for (ViewPropertyBean el6 : el5.getValue()) {
+                                result5.ensureCapacity(result5Source.size());
+                                for (ViewPropertyBean el6 : result5Source) {
                                     ViewPropertyBeanWithoutParent result6 = ViewPropertyBeanWithoutParent.read(el6);
                                     result5.add(result6);
                                 }
@@ -204,7 +223,7 @@ public class ViewPropertyContainerBeanView {
         if (sources == null) {
             return null;
         }
-        List<ViewPropertyContainerBeanView> results = new ArrayList<>();
+        List<ViewPropertyContainerBeanView> results = new ArrayList<>(sources.size());
         for (ViewPropertyContainerBean source : sources) {
             results.add(read(source));
         }
@@ -215,7 +234,7 @@ public class ViewPropertyContainerBeanView {
         if (sources == null) {
             return null;
         }
-        Set<ViewPropertyContainerBeanView> results = new HashSet<>();
+        Set<ViewPropertyContainerBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (ViewPropertyContainerBean source : sources) {
             results.add(read(source));
         }
@@ -227,6 +246,7 @@ public class ViewPropertyContainerBeanView {
             return null;
         }
         Stack<ViewPropertyContainerBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (ViewPropertyContainerBean source : sources) {
             results.add(read(source));
         }
@@ -237,13 +257,38 @@ public class ViewPropertyContainerBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, ViewPropertyContainerBeanView> results = new HashMap<>();
+        Map<K, ViewPropertyContainerBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, ViewPropertyContainerBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<ViewPropertyContainerBeanView> readStream(Stream<ViewPropertyContainerBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(ViewPropertyContainerBeanView::read);
+    }
+
+    public static Iterable<ViewPropertyContainerBeanView> readIterable(Iterable<ViewPropertyContainerBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, ViewPropertyContainerBeanView::read);
+    }
+
+    public static Iterator<ViewPropertyContainerBeanView> readIterator(Iterator<ViewPropertyContainerBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, ViewPropertyContainerBeanView::read);
+    }
+
+    public static Function<ViewPropertyContainerBean, ViewPropertyContainerBeanView> reader() {
+        return ViewPropertyContainerBeanView::read;
+    }
+
     public long getA() {
         return this.a;
     }
@@ -1,13 +1,17 @@
 package io.github.vipcxj.beanknife.cases.beans;
 
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = ViewPropertyWithExtraBean.class, configClass = ViewPropertyWithExtraContainerBeanViewConfig.class)
 public class ViewPropertyWithExtraBeanView {
@@ -45,7 +49,7 @@ public class ViewPropertyWithExtraBeanView {
         if (sources == null) {
             return null;
         }
-        List<ViewPropertyWithExtraBeanView> results = new ArrayList<>();
+        List<ViewPropertyWithExtraBeanView> results = new ArrayList<>(sources.size());
         for (ViewPropertyWithExtraBean source : sources) {
             results.add(read(source));
         }
@@ -56,7 +60,7 @@ public class ViewPropertyWithExtraBeanView {
         if (sources == null) {
             return null;
         }
-        Set<ViewPropertyWithExtraBeanView> results = new HashSet<>();
+        Set<ViewPropertyWithExtraBeanView> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (ViewPropertyWithExtraBean source : sources) {
             results.add(read(source));
         }
@@ -68,6 +72,7 @@ public class ViewPropertyWithExtraBeanView {
             return null;
         }
         Stack<ViewPropertyWithExtraBeanView> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (ViewPropertyWithExtraBean source : sources) {
             results.add(read(source));
         }
@@ -78,13 +83,38 @@ public class ViewPropertyWithExtraBeanView {
         if (sources == null) {
             return null;
         }
-        Map<K, ViewPropertyWithExtraBeanView> results = new HashMap<>();
+        Map<K, ViewPropertyWithExtraBeanView> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, ViewPropertyWithExtraBean> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static Stream<ViewPropertyWithExtraBeanView> readStream(Stream<ViewPropertyWithExtraBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(ViewPropertyWithExtraBeanView::read);
+    }
+
+    public static Iterable<ViewPropertyWithExtraBeanView> readIterable(Iterable<ViewPropertyWithExtraBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, ViewPropertyWithExtraBeanView::read);
+    }
+
+    public static Iterator<ViewPropertyWithExtraBeanView> readIterator(Iterator<ViewPropertyWithExtraBean> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, ViewPropertyWithExtraBeanView::read);
+    }
+
+    public static Function<ViewPropertyWithExtraBean, ViewPropertyWithExtraBeanView> reader() {
+        return ViewPropertyWithExtraBeanView::read;
+    }
+
     public static String error0() {
         return "Unable to convert from io.github.vipcxj.beanknife.cases.beans.SimpleBean to its view type io.github.vipcxj.beanknife.cases.beans.ExtraParamsBeanView. Because it has extra properties or extra params.";    }
 
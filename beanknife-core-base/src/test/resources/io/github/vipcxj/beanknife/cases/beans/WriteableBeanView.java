@@ -3,13 +3,17 @@ package io.github.vipcxj.beanknife.cases.beans;
 import io.github.vipcxj.beanknife.runtime.BeanProviders;
 import io.github.vipcxj.beanknife.runtime.annotations.internal.GeneratedView;
 import io.github.vipcxj.beanknife.runtime.utils.BeanUsage;
+import io.github.vipcxj.beanknife.runtime.utils.LazyReaders;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @GeneratedView(targetClass = WriteableBean.class, configClass = WriteableBeanViewConfigure.class)
 public class WriteableBeanView<T> {
@@ -87,7 +91,7 @@ public class WriteableBeanView<T> {
         if (sources == null) {
             return null;
         }
-        List<WriteableBeanView<T>> results = new ArrayList<>();
+        List<WriteableBeanView<T>> results = new ArrayList<>(sources.size());
         for (WriteableBean<T> source : sources) {
             results.add(read(source));
         }
@@ -98,7 +102,7 @@ public class WriteableBeanView<T> {
         if (sources == null) {
             return null;
         }
-        Set<WriteableBeanView<T>> results = new HashSet<>();
+        Set<WriteableBeanView<T>> results = new HashSet<>((int) (sources.size() / 0.75f) + 1);
         for (WriteableBean<T> source : sources) {
             results.add(read(source));
         }
@@ -110,6 +114,7 @@ public class WriteableBeanView<T> {
             return null;
         }
         Stack<WriteableBeanView<T>> results = new Stack<>();
+        results.ensureCapacity(sources.size());
         for (WriteableBean<T> source : sources) {
             results.add(read(source));
         }
@@ -120,13 +125,38 @@ public class WriteableBeanView<T> {
         if (sources == null) {
             return null;
         }
-        Map<K, WriteableBeanView<T>> results = new HashMap<>();
+        Map<K, WriteableBeanView<T>> results = new HashMap<>((int) (sources.size() / 0.75f) + 1);
         for (Map.Entry<K, WriteableBean<T>> source : sources.entrySet()) {
             results.put(source.getKey(), read(source.getValue()));
         }
         return results;
     }
 
+    public static <T> Stream<WriteableBeanView<T>> readStream(Stream<WriteableBean<T>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return sources.map(WriteableBeanView::read);
+    }
+
+    public static <T> Iterable<WriteableBeanView<T>> readIterable(Iterable<WriteableBean<T>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterable(sources, WriteableBeanView::read);
+    }
+
+    public static <T> Iterator<WriteableBeanView<T>> readIterator(Iterator<WriteableBean<T>> sources) {
+        if (sources == null) {
+            return null;
+        }
+        return LazyReaders.iterator(sources, WriteableBeanView::read);
+    }
+
+    public static <T> Function<WriteableBean<T>, WriteableBeanView<T>> reader() {
+        return WriteableBeanView::read;
+    }
+
     public void writeBack(WriteableBean<T> target) {
         target.setA(this.a);
         target.setB(this.b);
@@ -0,0 +1,16 @@
+package io.github.vipcxj.beanknfie.jpa.examples.dto;
+
+import io.github.vipcxj.beanknfie.jpa.examples.dto.location.AddressInfo;
+import io.github.vipcxj.beanknfie.jpa.examples.models.Company;
+import io.github.vipcxj.beanknfie.jpa.examples.models.CompanyMeta;
+import io.github.vipcxj.beanknife.jpa.runtime.annotations.AddJpaSupport;
+import io.github.vipcxj.beanknife.runtime.annotations.OverrideViewProperty;
+import io.github.vipcxj.beanknife.runtime.annotations.ViewOf;
+
+@ViewOf(value = Company.class, genName = "CompanyLocation", includes = {CompanyMeta.code, CompanyMeta.name, CompanyMeta.address})
+@AddJpaSupport
+public class CompanyLocationConfiguration {
+
+    @OverrideViewProperty(CompanyMeta.address)
+    private AddressInfo address;
+}
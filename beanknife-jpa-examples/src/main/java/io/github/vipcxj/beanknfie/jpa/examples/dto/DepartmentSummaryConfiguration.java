@@ -0,0 +1,24 @@
+package io.github.vipcxj.beanknfie.jpa.examples.dto;
+
+import io.github.vipcxj.beanknfie.jpa.examples.models.CompanyInfo;
+import io.github.vipcxj.beanknfie.jpa.examples.models.Department;
+import io.github.vipcxj.beanknfie.jpa.examples.models.DepartmentMeta;
+import io.github.vipcxj.beanknfie.jpa.examples.models.EmployeeInfo;
+import io.github.vipcxj.beanknife.jpa.runtime.annotations.AddJpaSupport;
+import io.github.vipcxj.beanknife.runtime.annotations.OverrideViewProperty;
+import io.github.vipcxj.beanknife.runtime.annotations.ViewOf;
+import io.github.vipcxj.beanknife.runtime.annotations.ViewPropertiesIncludePattern;
+
+import java.util.List;
+
+@ViewOf(value = Department.class, genName = "DepartmentSummary")
+@ViewPropertiesIncludePattern(".*")
+@AddJpaSupport(skipUnloaded = true)
+public class DepartmentSummaryConfiguration {
+
+    @OverrideViewProperty(DepartmentMeta.company)
+    private CompanyInfo company;
+
+    @OverrideViewProperty(DepartmentMeta.employees)
+    private List<EmployeeInfo> employees;
+}
@@ -0,0 +1,14 @@
+package io.github.vipcxj.beanknfie.jpa.examples.dto.location;
+
+import io.github.vipcxj.beanknfie.jpa.examples.dto.BaseDtoConfiguration;
+import io.github.vipcxj.beanknfie.jpa.examples.models.Address;
+import io.github.vipcxj.beanknife.runtime.annotations.Access;
+import io.github.vipcxj.beanknife.runtime.annotations.ViewOf;
+
+/**
+ * The fields constructor is not visible outside this package,
+ * so the views using this view construct it by reflection.
+ */
+@ViewOf(value = Address.class, genPackage = "io.github.vipcxj.beanknfie.jpa.examples.dto.location", fieldsConstructor = Access.PROTECTED)
+public class AddressInfoConfiguration extends BaseDtoConfiguration {
+}
@@ -1,6 +1,9 @@
 package io.github.vipcxj.beanknfie.jpa.examples;
 
 import io.github.vipcxj.beanknfie.jpa.examples.models.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +12,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.support.AnnotationConfigContextLoader;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.AttributeNode;
+import javax.persistence.EntityGraph;
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -16,9 +21,15 @@ import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Selection;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = JpaConfig.class, loader = AnnotationConfigContextLoader.class)
@@ -38,11 +49,7 @@ public class Tester {
         return Date.from(instant.plusSeconds(random()));
     }
 
-    @Test
-    @Transactional
-    public void test() {
-        Random random = new Random();
-        CriteriaBuilder cb = em.getCriteriaBuilder();
+    private void prepareData() {
         Company company = new Company("001", "google", 10000.0, new Address("Shanhai", "SanQuan Road", "888"), new ArrayList<>(), new ArrayList<>());
         em.persist(company);
         Department department = new Department("001001", company, new ArrayList<>());
@@ -78,6 +85,13 @@ public class Tester {
         department.getEmployees().add(employee);
         company.getEmployees().add(employee);
         em.persist(employee);
+    }
+
+    @Test
+    @Transactional
+    public void test() {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        prepareData();
 
         CriteriaQuery<EmployeeDetail> query = cb.createQuery(EmployeeDetail.class);
         Root<Employee> employees = query.from(Employee.class);
@@ -106,4 +120,75 @@ public class Tester {
 
 
     }
+
+    @Test
+    @Transactional
+    public void testReflectConstructor() {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        prepareData();
+
+        // The fields constructor of AddressInfo is protected, so CompanyLocation constructs it through a method handle.
+        CriteriaQuery<CompanyLocation> query = cb.createQuery(CompanyLocation.class);
+        Root<Company> companies = query.from(Company.class);
+        List<CompanyLocation> resultList = em.createQuery(query.select(CompanyLocation.toJpaSelection(cb, companies))).getResultList();
+        Assertions.assertEquals(1, resultList.size());
+        CompanyLocation location = resultList.get(0);
+        Assertions.assertEquals("001", location.getCode());
+        Assertions.assertEquals("google", location.getName());
+        Assertions.assertEquals("Shanhai", location.getAddress().getCity());
+        Assertions.assertEquals("SanQuan Road", location.getAddress().getRoad());
+        Assertions.assertEquals("888", location.getAddress().getNumber());
+    }
+
+    @Test
+    @Transactional
+    public void testSkipUnloaded() {
+        prepareData();
+        em.flush();
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // The companies are loaded eagerly with the departments, but the employees are not.
+        List<Department> departments = em.createQuery("select d from Department d", Department.class).getResultList();
+        statistics.clear();
+        List<DepartmentSummary> summaries = DepartmentSummary.read(departments);
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        for (DepartmentSummary summary : summaries) {
+            Assertions.assertNotNull(summary.getCompany());
+            Assertions.assertNull(summary.getEmployees());
+        }
+        // Without skipUnloaded, the employees of each department are loaded one by one.
+        DepartmentInfo.read(departments);
+        Assertions.assertEquals(departments.size(), statistics.getPrepareStatementCount());
+
+        em.clear();
+        departments = em.createQuery("select distinct d from Department d left join fetch d.employees", Department.class).getResultList();
+        statistics.clear();
+        summaries = DepartmentSummary.read(departments);
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        for (DepartmentSummary summary : summaries) {
+            Assertions.assertEquals(3, summary.getEmployees().size());
+        }
+    }
+
+    @Test
+    @Transactional
+    public void testEntityGraph() {
+        prepareData();
+        em.flush();
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        EntityGraph<Employee> graph = EmployeeDetail.entityGraph(em);
+        Set<String> attributes = graph.getAttributeNodes().stream().map(AttributeNode::getAttributeName).collect(Collectors.toSet());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("number", "name", "sex", "nation", "birthDay", "enrollmentDay", "department", "company")), attributes);
+        Map<String, Object> hints = Collections.singletonMap("javax.persistence.fetchgraph", graph);
+        Employee employee = em.find(Employee.class, "001001001", hints);
+        // The graph fetches everything the view reads, so reading it does not load anything more.
+        statistics.clear();
+        EmployeeDetail detail = EmployeeDetail.read(employee);
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(3, detail.getDepartment().getEmployees().size());
+        Assertions.assertEquals("google", detail.getCompany().getName());
+    }
 }
@@ -0,0 +1,96 @@
+package io.github.vipcxj.beanknife.jpa.runtime;
+
+import io.github.vipcxj.beanknife.jpa.runtime.spi.LoadStateProvider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Used by the generated read methods to check whether the association of the entity is loaded before reading it.
+ * The check is delegated to the {@link LoadStateProvider} with the highest priority supporting the entity type.
+ */
+public enum LoadStates {
+
+    INSTANCE;
+
+    private final ServiceLoader<LoadStateProvider> loader;
+    private volatile Resolutions resolutions;
+
+    LoadStates() {
+        loader = ServiceLoader.load(LoadStateProvider.class);
+        resolutions = new Resolutions(loadProviders());
+    }
+
+    /**
+     * Load all the providers and sort them by priority. The provider with higher priority comes first.
+     */
+    private List<LoadStateProvider> loadProviders() {
+        List<LoadStateProvider> providers = new ArrayList<>();
+        for (LoadStateProvider provider : loader) {
+            providers.add(provider);
+        }
+        providers.sort(Comparator.comparingInt(LoadStateProvider::getPriority).reversed());
+        return providers;
+    }
+
+    /**
+     * Test whether the attribute of the entity is loaded.
+     * When no provider supports the entity type, the attribute is considered loaded, so it is read as usual.
+     * @param entity the entity
+     * @param attributeName the attribute name
+     * @return whether the attribute is loaded
+     */
+    public boolean isLoaded(Object entity, String attributeName) {
+        if (entity == null) {
+            return true;
+        }
+        LoadStateProvider provider = resolutions.get(entity.getClass()).provider;
+        return provider == null || provider.isLoaded(entity, attributeName);
+    }
+
+    /**
+     * Reload and resort the providers.
+     */
+    public synchronized void invalidateAll() {
+        loader.reload();
+        resolutions = new Resolutions(loadProviders());
+    }
+
+    private static boolean support(LoadStateProvider provider, Class<?> type) {
+        try {
+            return provider.support(type);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static class Resolutions extends ClassValue<Resolution> {
+
+        private final List<LoadStateProvider> providers;
+
+        private Resolutions(List<LoadStateProvider> providers) {
+            this.providers = providers;
+        }
+
+        @Override
+        protected Resolution computeValue(Class<?> type) {
+            for (LoadStateProvider provider : providers) {
+                if (support(provider, type)) {
+                    return new Resolution(provider);
+                }
+            }
+            return new Resolution(null);
+        }
+    }
+
+    private static class Resolution {
+
+        private final LoadStateProvider provider;
+
+        private Resolution(LoadStateProvider provider) {
+            this.provider = provider;
+        }
+    }
+}
@@ -3,9 +3,17 @@ package io.github.vipcxj.beanknife.jpa.runtime.annotations;
 import java.lang.annotation.*;
 
 @Target({ElementType.TYPE})
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Inherited
 public @interface AddJpaSupport {
     Class<?>[] value() default {};
     Class<?>[] extraTargets() default {};
+
+    /**
+     * Whether the read methods check the associations of the entity are loaded before reading them.
+     * The unloaded associations are left null instead of being initialized lazily one by one.
+     * The check is done by {@link io.github.vipcxj.beanknife.jpa.runtime.LoadStates}.
+     * @return whether to skip the unloaded associations
+     */
+    boolean skipUnloaded() default false;
 }
@@ -0,0 +1,36 @@
+package io.github.vipcxj.beanknife.jpa.runtime.providers;
+
+import io.github.vipcxj.beanknife.jpa.runtime.spi.LoadStateProvider;
+
+import javax.persistence.Persistence;
+import javax.persistence.PersistenceUtil;
+
+/**
+ * The fallback provider delegating to {@link PersistenceUtil#isLoaded(Object, String)},
+ * which asks all the persistence providers on the class path.
+ */
+public class PersistenceLoadStateProvider implements LoadStateProvider {
+
+    private volatile PersistenceUtil persistenceUtil;
+
+    @Override
+    public int getPriority() {
+        return Integer.MIN_VALUE + 1;
+    }
+
+    @Override
+    public boolean support(Class<?> type) {
+        return true;
+    }
+
+    @Override
+    public boolean isLoaded(Object entity, String attributeName) {
+        PersistenceUtil util = persistenceUtil;
+        if (util == null) {
+            // Resolving the persistence providers is not cheap, so do it only once.
+            util = Persistence.getPersistenceUtil();
+            persistenceUtil = util;
+        }
+        return util.isLoaded(entity, attributeName);
+    }
+}
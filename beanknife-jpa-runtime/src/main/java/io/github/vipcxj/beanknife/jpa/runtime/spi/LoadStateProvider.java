@@ -0,0 +1,33 @@
+package io.github.vipcxj.beanknife.jpa.runtime.spi;
+
+/**
+ * Used to tell the library whether the attribute of the entity is loaded,
+ * so the generated read methods are able to skip the unloaded associations instead of initializing them lazily.
+ */
+public interface LoadStateProvider {
+
+    int DEFAULT_PRIORITY = 0;
+
+    /**
+     * The priority. The higher is selected than lower.
+     * @return the priority
+     */
+    default int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    /**
+     * Test whether the entity type is supported by this provider. If not sure or hard to check, just return true.
+     * @param type the entity type, may be the proxy type of the entity
+     * @return whether the entity type is supported by this provider.
+     */
+    boolean support(Class<?> type);
+
+    /**
+     * Test whether the attribute of the entity is loaded. It should never load the attribute.
+     * @param entity the entity
+     * @param attributeName the attribute name
+     * @return whether the attribute is loaded
+     */
+    boolean isLoaded(Object entity, String attributeName);
+}
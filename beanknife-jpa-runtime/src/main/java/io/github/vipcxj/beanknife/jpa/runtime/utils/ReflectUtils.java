@@ -1,25 +1,92 @@
 package io.github.vipcxj.beanknife.jpa.runtime.utils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Reflection helpers used by the generated jpa views.
+ * The members are looked up only once per class and member name,
+ * then converted to method handles and cached, so the row by row invocation do not pay the lookup cost again.
+ */
 public class ReflectUtils {
 
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final ClassValue<Accessors> ACCESSORS = new ClassValue<Accessors>() {
+        @Override
+        protected Accessors computeValue(Class<?> type) {
+            return new Accessors();
+        }
+    };
+
     public static <T> Constructor<T> getConstructor(Class<T> type, Class<?>... argTypes) {
-        try {
-            return type.getConstructor(argTypes);
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException(e);
+        Map<List<Class<?>>, Constructor<?>> constructors = ACCESSORS.get(type).constructors;
+        List<Class<?>> key = Arrays.asList(argTypes);
+        Constructor<?> constructor = constructors.get(key);
+        if (constructor == null) {
+            try {
+                constructor = type.getConstructor(argTypes);
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException(e);
+            }
+            constructor.setAccessible(true);
+            Constructor<?> old = constructors.putIfAbsent(key, constructor);
+            if (old != null) {
+                constructor = old;
+            }
         }
+        //noinspection unchecked
+        return (Constructor<T>) constructor;
     }
 
     public static <T> T newInstance(Constructor<T> constructor, Object... args) {
+        Map<Constructor<?>, MethodHandle> handles = ACCESSORS.get(constructor.getDeclaringClass()).constructorHandles;
+        MethodHandle handle = handles.get(constructor);
+        if (handle == null) {
+            try {
+                constructor.setAccessible(true);
+                handle = LOOKUP.unreflectConstructor(constructor)
+                        .asSpreader(Object[].class, constructor.getParameterCount())
+                        .asType(CONSTRUCTOR_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+            handles.putIfAbsent(constructor, handle);
+        }
+        try {
+            //noinspection unchecked
+            return (T) (Object) handle.invokeExact(args);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Get the constructor declared by the type as a method handle of its exact type, which is (argTypes...)type.
+     * The generated views store it in a static final field and invoke it with {@link MethodHandle#invokeExact(Object...)},
+     * casting every argument to the declared parameter type, so no argument array is allocated per row.
+     * Unlike {@link #getConstructor(Class, Class[])}, the constructor need not be public,
+     * because the generated views only construct by reflection the views whose constructor they can not see.
+     * @param type the type to construct
+     * @param argTypes the parameter types of the constructor
+     * @return the method handle of the constructor
+     */
+    public static MethodHandle getConstructorHandle(Class<?> type, Class<?>... argTypes) {
         try {
+            Constructor<?> constructor = type.getDeclaredConstructor(argTypes);
             constructor.setAccessible(true);
-            return constructor.newInstance(args);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            return LOOKUP.unreflectConstructor(constructor);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
             throw new RuntimeException(e);
         }
     }
@@ -30,35 +97,75 @@ public class ReflectUtils {
 
     public static <T> T getProperty(Object target, String propertyName, String getterName) {
         Class<?> clazz = target.getClass();
-        if (getterName != null) {
+        Map<String, MethodHandle> getters = ACCESSORS.get(clazz).getters;
+        String key = getterName != null ? getterName + "()" : propertyName;
+        MethodHandle handle = getters.get(key);
+        if (handle == null) {
             try {
-                Method method = clazz.getMethod(getterName);
-                method.setAccessible(true);
-                //noinspection unchecked
-                return (T) method.invoke(target);
-            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                if (getterName != null) {
+                    Method method = clazz.getMethod(getterName);
+                    method.setAccessible(true);
+                    handle = LOOKUP.unreflect(method);
+                } else {
+                    Field clazzField = clazz.getField(propertyName);
+                    clazzField.setAccessible(true);
+                    handle = LOOKUP.unreflectGetter(clazzField);
+                }
+            } catch (NoSuchMethodException | NoSuchFieldException | IllegalAccessException e) {
                 throw new RuntimeException(e);
             }
-        } else {
+            handle = handle.asType(GETTER_TYPE);
+            getters.putIfAbsent(key, handle);
+        }
+        try {
+            //noinspection unchecked
+            return (T) (Object) handle.invokeExact(target);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public static void setProperty(Object target, String field, Object value) {
+        Class<?> clazz = target.getClass();
+        Map<String, MethodHandle> setters = ACCESSORS.get(clazz).setters;
+        MethodHandle handle = setters.get(field);
+        if (handle == null) {
             try {
-                Field clazzField = clazz.getField(propertyName);
+                Field clazzField = clazz.getField(field);
                 clazzField.setAccessible(true);
-                //noinspection unchecked
-                return (T) clazzField.get(target);
+                handle = LOOKUP.unreflectSetter(clazzField).asType(SETTER_TYPE);
             } catch (NoSuchFieldException | IllegalAccessException e) {
                 throw new RuntimeException(e);
             }
+            setters.putIfAbsent(field, handle);
+        }
+        try {
+            handle.invokeExact(target, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
         }
     }
 
-    public static void setProperty(Object target, String field, Object value) {
-        Class<?> clazz = target.getClass();
-        try {
-            Field clazzField = clazz.getField(field);
-            clazzField.setAccessible(true);
-            clazzField.set(target, value);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new RuntimeException(e);
+    /**
+     * Used by the generated views to propagate the failure of {@link MethodHandle#invokeExact(Object...)}.
+     * Errors are thrown directly, runtime exceptions are returned as is and checked exceptions are wrapped.
+     * @param t the failure
+     * @return the exception to throw
+     */
+    public static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
         }
+        return new RuntimeException(t);
+    }
+
+    private static class Accessors {
+        private final Map<List<Class<?>>, Constructor<?>> constructors = new ConcurrentHashMap<>();
+        private final Map<Constructor<?>, MethodHandle> constructorHandles = new ConcurrentHashMap<>();
+        private final Map<String, MethodHandle> getters = new ConcurrentHashMap<>();
+        private final Map<String, MethodHandle> setters = new ConcurrentHashMap<>();
     }
 }
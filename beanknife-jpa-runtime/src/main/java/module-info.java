@@ -1,3 +1,8 @@
 module beanknife.jpa.runtime {
+    requires static java.persistence;
+    uses io.github.vipcxj.beanknife.jpa.runtime.spi.LoadStateProvider;
+    provides io.github.vipcxj.beanknife.jpa.runtime.spi.LoadStateProvider with io.github.vipcxj.beanknife.jpa.runtime.providers.PersistenceLoadStateProvider;
+    exports io.github.vipcxj.beanknife.jpa.runtime;
     exports io.github.vipcxj.beanknife.jpa.runtime.annotations;
+    exports io.github.vipcxj.beanknife.jpa.runtime.spi;
 }
\ No newline at end of file
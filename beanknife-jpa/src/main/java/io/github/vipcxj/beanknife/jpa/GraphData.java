@@ -0,0 +1,139 @@
+package io.github.vipcxj.beanknife.jpa;
+
+import io.github.vipcxj.beanknife.core.models.Property;
+import io.github.vipcxj.beanknife.core.models.StaticMethodExtractor;
+import io.github.vipcxj.beanknife.core.models.Type;
+import io.github.vipcxj.beanknife.core.models.ViewContext;
+import io.github.vipcxj.beanknife.core.utils.ParamInfo;
+import io.github.vipcxj.beanknife.core.utils.Utils;
+import org.apache.commons.text.StringEscapeUtils;
+
+import javax.lang.model.element.TypeElement;
+import java.io.PrintWriter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * The attributes and the sub-graphs of the entity graph, which are read by the view and its nested views.
+ * Only the persistent attributes are collected, see {@link JpaContext#isPersistentAttribute(TypeElement, Property)}.
+ */
+public class GraphData {
+    private final Type type;
+    private final Set<String> attributes;
+    private final Map<String, GraphData> subgraphs;
+
+    private GraphData(Type type) {
+        this.type = type;
+        this.attributes = new LinkedHashSet<>();
+        this.subgraphs = new LinkedHashMap<>();
+    }
+
+    public static GraphData collectData(JpaContext jpaContext) {
+        ViewContext viewContext = jpaContext.getViewContext();
+        GraphData graphData = new GraphData(viewContext.getTargetType());
+        Set<String> visiting = new HashSet<>();
+        visiting.add(viewContext.getGenType().getQualifiedName());
+        graphData.collect(jpaContext, viewContext, visiting);
+        return graphData;
+    }
+
+    private void collect(JpaContext jpaContext, ViewContext context, Set<String> visiting) {
+        TypeElement owner = context.getViewOf().getTargetElement();
+        for (Property property : context.getProperties()) {
+            if (property.isDynamic()) {
+                continue;
+            }
+            if (property.isCustomMethod()) {
+                StaticMethodExtractor extractor = (StaticMethodExtractor) property.getExtractor();
+                if (extractor != null) {
+                    for (ParamInfo paramInfo : extractor.getParamInfoList()) {
+                        if (paramInfo.isPropertyParam() && jpaContext.isPersistentAttribute(owner, paramInfo.getInjectedProperty())) {
+                            attributes.add(paramInfo.getInjectedProperty().getName());
+                        }
+                    }
+                }
+                continue;
+            }
+            Property base = property.getBase();
+            if (base == null || !jpaContext.isPersistentAttribute(owner, base)) {
+                continue;
+            }
+            String name = base.getName();
+            ViewContext subContext = property.isView() && property.getConverter() == null ? context.getViewContext(property.getType()) : null;
+            // The cycles of the nested views are cut, then only the attribute itself is fetched.
+            if (subContext != null
+                    && !visiting.contains(subContext.getGenType().getQualifiedName())
+                    && (jpaContext.isEntity(subContext.getTargetType()) || jpaContext.isEmbeddable(subContext.getTargetType()))
+            ) {
+                GraphData subgraph = subgraphs.computeIfAbsent(name, k -> new GraphData(subContext.getTargetType()));
+                visiting.add(subContext.getGenType().getQualifiedName());
+                subgraph.collect(jpaContext, subContext, visiting);
+                visiting.remove(subContext.getGenType().getQualifiedName());
+            } else {
+                attributes.add(name);
+            }
+        }
+        attributes.removeAll(subgraphs.keySet());
+    }
+
+    public boolean hasSubgraphs() {
+        return !subgraphs.isEmpty();
+    }
+
+    /**
+     * Import the types of the sub-graphs.
+     * @param viewContext the view context to print into
+     */
+    public void importTypes(ViewContext viewContext) {
+        for (GraphData subgraph : subgraphs.values()) {
+            viewContext.importVariable(subgraph.type);
+            subgraph.importTypes(viewContext);
+        }
+    }
+
+    /**
+     * Print the statements adding the attributes and the sub-graphs to the graph variable.
+     * @param writer the writer
+     * @param viewContext the view context to print into
+     * @param graphVar the graph variable
+     * @param indent the indent
+     * @param indentNum the indent num of the statements
+     */
+    public void print(PrintWriter writer, ViewContext viewContext, String graphVar, String indent, int indentNum) {
+        Set<String> usedVars = new HashSet<>();
+        usedVars.add(graphVar);
+        usedVars.add("em");
+        print(writer, viewContext, usedVars, graphVar, "", indent, indentNum);
+    }
+
+    private void print(PrintWriter writer, ViewContext viewContext, Set<String> usedVars, String graphVar, String path, String indent, int indentNum) {
+        if (!attributes.isEmpty()) {
+            Utils.printIndent(writer, indent, indentNum);
+            writer.print(graphVar);
+            writer.print(".addAttributeNodes(");
+            writer.print(attributes.stream().map(attribute -> "\"" + StringEscapeUtils.escapeJava(attribute) + "\"").collect(Collectors.joining(", ")));
+            writer.println(");");
+        }
+        for (Map.Entry<String, GraphData> entry : subgraphs.entrySet()) {
+            String attribute = entry.getKey();
+            String subPath = path.isEmpty() ? attribute : path + Character.toUpperCase(attribute.charAt(0)) + attribute.substring(1);
+            // The paths of the different sub-graphs may be joined into the same name, such as companyAddress and company.address.
+            String subgraphVar = subPath + "Graph";
+            while (!usedVars.add(subgraphVar)) {
+                subgraphVar += "_";
+            }
+            Utils.printIndent(writer, indent, indentNum);
+            writer.print(viewContext.getImportedName(JpaContext.TYPE_SUBGRAPH, JpaContext.SIMPLE_TYPE_SUBGRAPH));
+            writer.print("<");
+            entry.getValue().type.printType(writer, viewContext, true, false);
+            writer.print("> ");
+            writer.print(subgraphVar);
+            writer.print(" = ");
+            writer.print(graphVar);
+            writer.print(".addSubgraph(\"");
+            writer.print(StringEscapeUtils.escapeJava(attribute));
+            writer.println("\");");
+            entry.getValue().print(writer, viewContext, usedVars, subgraphVar, subPath, indent, indentNum);
+        }
+    }
+}
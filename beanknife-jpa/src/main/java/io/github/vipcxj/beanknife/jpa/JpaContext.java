@@ -9,12 +9,17 @@ import io.github.vipcxj.beanknife.core.utils.VarMapper;
 import org.apache.commons.text.StringEscapeUtils;
 
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.io.PrintWriter;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,13 +34,37 @@ public class JpaContext {
     public static final String TYPE_FROM = "javax.persistence.criteria.From";
     public static final String TYPE_REFLECT_UTILS = "io.github.vipcxj.beanknife.jpa.runtime.utils.ReflectUtils";
     public static final String SIMPLE_TYPE_REFLECT_UTILS = "ReflectUtils";
+    public static final String TYPE_METHOD_HANDLE = "java.lang.invoke.MethodHandle";
+    public static final String SIMPLE_TYPE_METHOD_HANDLE = "MethodHandle";
     public static final String SIMPLE_TYPE_FROM = "From";
+    public static final String TYPE_ENTITY_MANAGER = "javax.persistence.EntityManager";
+    public static final String SIMPLE_TYPE_ENTITY_MANAGER = "EntityManager";
+    public static final String TYPE_ENTITY_GRAPH = "javax.persistence.EntityGraph";
+    public static final String SIMPLE_TYPE_ENTITY_GRAPH = "EntityGraph";
+    public static final String TYPE_SUBGRAPH = "javax.persistence.Subgraph";
+    public static final String SIMPLE_TYPE_SUBGRAPH = "Subgraph";
+    public static final String TYPE_LOAD_STATES = "io.github.vipcxj.beanknife.jpa.runtime.LoadStates";
+    public static final String SIMPLE_TYPE_LOAD_STATES = "LoadStates";
+    private static final String[] TYPE_ASSOCIATIONS = {
+            "javax.persistence.ManyToOne",
+            "javax.persistence.OneToOne",
+            "javax.persistence.OneToMany",
+            "javax.persistence.ManyToMany",
+            "javax.persistence.ElementCollection"
+    };
+    private static final String TYPE_TRANSIENT = "javax.persistence.Transient";
+    private static final String TYPE_ACCESS = "javax.persistence.Access";
+    private static final String[] TYPE_IDS = {
+            "javax.persistence.Id",
+            "javax.persistence.EmbeddedId"
+    };
     private static final String INIT_ARG_SOURCE = "source";
     private static final String PREVENT_CONFLICT_ARG_KEY = "prevent conflict arg";
     public static final String SOURCE_ARG_KEY = "source arg";
     private static final String TYPE_ADD_JPA_SUPPORT = "io.github.vipcxj.beanknife.jpa.runtime.annotations.AddJpaSupport";
     private final ViewContext viewContext;
     private boolean enabled;
+    private boolean skipUnloaded;
     private boolean fixConstructor;
     private boolean provideSource;
     private boolean canUseReader;
@@ -46,12 +75,17 @@ public class JpaContext {
     private final Map<String, ArgData> constructorArgDataMap;
     private final VarMapper selectionMethodVarMapper;
     private List<PropertyData> propertyDataList;
+    private GraphData graphData;
+    private final Map<String, PropertyData> reflectConstructors;
+    private final Map<String, String> reflectConstructorVars;
 
     public JpaContext(ViewContext viewContext) {
         this.viewContext = viewContext;
         this.constructorVarMapper = new VarMapper();
         this.constructorArgDataMap = new HashMap<>();
         this.selectionMethodVarMapper = new VarMapper("cb", "from");
+        this.reflectConstructors = new LinkedHashMap<>();
+        this.reflectConstructorVars = new HashMap<>();
         init();
     }
 
@@ -73,6 +107,8 @@ public class JpaContext {
                     enabled = true;
                 }
             }
+            Boolean skipUnloaded = Utils.getBooleanAnnotationValue(addJpaSupport, "skipUnloaded");
+            this.skipUnloaded = skipUnloaded != null && skipUnloaded;
             if (!enabled) {
                 List<TypeMirror> extraTargets = Utils.getTypeArrayAnnotationValue(addJpaSupport, "extraTargets");
                 if (extraTargets != null && extraTargets.stream().anyMatch(target -> typeUtils.isSameType(target, targetElement.asType()))) {
@@ -84,7 +120,19 @@ public class JpaContext {
             viewContext.importVariable(TYPE_SELECTION, SIMPLE_TYPE_SELECTION);
             viewContext.importVariable(TYPE_CRITERIA_BUILDER, SIMPLE_TYPE_CRITERIA_BUILDER);
             viewContext.importVariable(TYPE_FROM, SIMPLE_TYPE_FROM);
+            if (skipUnloaded) {
+                viewContext.importVariable(TYPE_LOAD_STATES, SIMPLE_TYPE_LOAD_STATES);
+            }
             propertyDataList = PropertyData.collectData(this);
+            if (isEntity(viewContext.getTargetType())) {
+                graphData = GraphData.collectData(this);
+                viewContext.importVariable(TYPE_ENTITY_MANAGER, SIMPLE_TYPE_ENTITY_MANAGER);
+                viewContext.importVariable(TYPE_ENTITY_GRAPH, SIMPLE_TYPE_ENTITY_GRAPH);
+                if (graphData.hasSubgraphs()) {
+                    viewContext.importVariable(TYPE_SUBGRAPH, SIMPLE_TYPE_SUBGRAPH);
+                }
+                graphData.importTypes(viewContext);
+            }
             if (provideSource) {
                 newConstructorVar(SOURCE_ARG_KEY, INIT_ARG_SOURCE, ArgData.extraVar(SOURCE_ARG_KEY));
             }
@@ -176,10 +224,151 @@ public class JpaContext {
         getViewContext().importVariable(TYPE_REFLECT_UTILS, SIMPLE_TYPE_REFLECT_UTILS);
     }
 
+    /**
+     * Register a view type which can only be constructed by reflection.
+     * The constructor is looked up only once and stored in a static field of the generated class.
+     * @param viewType the view type
+     * @param propertyData the property data constructing the view
+     */
+    public void requireReflectConstructor(Type viewType, PropertyData propertyData) {
+        importReflect();
+        getViewContext().importVariable(TYPE_METHOD_HANDLE, SIMPLE_TYPE_METHOD_HANDLE);
+        reflectConstructors.putIfAbsent(viewType.getQualifiedName(), propertyData);
+    }
+
+    public String getReflectConstructorVar(Type viewType) {
+        return reflectConstructorVars.get(viewType.getQualifiedName());
+    }
+
+    public void printReflectConstructors(PrintWriter writer, String indent, int indentNum) {
+        for (Map.Entry<String, PropertyData> entry : reflectConstructors.entrySet()) {
+            String var = reflectConstructorVars.get(entry.getKey());
+            if (var == null) {
+                String simpleName = entry.getValue().getTarget().getType().getSimpleName();
+                var = viewContext.newClassVar(Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1) + "Constructor");
+                reflectConstructorVars.put(entry.getKey(), var);
+            }
+            Utils.printIndent(writer, indent, indentNum);
+            writer.print("private static final ");
+            writer.print(viewContext.getImportedName(TYPE_METHOD_HANDLE, SIMPLE_TYPE_METHOD_HANDLE));
+            writer.print(" ");
+            writer.print(var);
+            writer.print(" = ");
+            entry.getValue().printReflectConstructorHandle(writer, indent, indentNum);
+            writer.println(";");
+            writer.println();
+        }
+    }
+
     public boolean isEnabled() {
         return enabled;
     }
 
+    public boolean isSkipUnloaded() {
+        return skipUnloaded;
+    }
+
+    /**
+     * Whether the property of the entity is mapped as an association or an element collection, which may be loaded lazily.
+     * The mapping annotation may be put on the field or the getter.
+     * @param baseProperty the base property
+     * @return true if it is an association
+     */
+    public boolean isAssociation(Property baseProperty) {
+        Property field = baseProperty.getField();
+        if (field != null && hasAssociationAnnotation(field.getElement())) {
+            return true;
+        }
+        Elements elementUtils = viewContext.getProcessingEnv().getElementUtils();
+        TypeElement targetElement = viewContext.getViewOf().getTargetElement();
+        return ElementFilter.methodsIn(elementUtils.getAllMembers(targetElement))
+                .stream()
+                .filter(method -> method.getParameters().isEmpty() && method.getSimpleName().contentEquals(baseProperty.getGetterName()))
+                .anyMatch(this::hasAssociationAnnotation);
+    }
+
+    /**
+     * Whether the property of the entity or the embeddable is a persistent attribute, so it can be put into the entity graph.
+     * With the field access, the backing field must not be static, transient or annotated with {@code @Transient},
+     * so the properties only provided by a getter are skipped.
+     * With the property access, the getter must not be annotated with {@code @Transient}.
+     * @param owner the entity or the embeddable
+     * @param baseProperty the base property
+     * @return true if it is a persistent attribute
+     */
+    public boolean isPersistentAttribute(TypeElement owner, Property baseProperty) {
+        Elements elementUtils = viewContext.getProcessingEnv().getElementUtils();
+        List<? extends Element> members = elementUtils.getAllMembers(owner);
+        if (isPropertyAccess(owner, members)) {
+            ExecutableElement getter = ElementFilter.methodsIn(members)
+                    .stream()
+                    .filter(method -> method.getParameters().isEmpty() && method.getSimpleName().contentEquals(baseProperty.getGetterName()))
+                    .findFirst()
+                    .orElse(null);
+            return getter != null
+                    && !getter.getModifiers().contains(Modifier.STATIC)
+                    && Utils.getAnnotationDirectOn(getter, TYPE_TRANSIENT) == null;
+        }
+        Property field = baseProperty.getField();
+        if (field == null) {
+            return false;
+        }
+        Element element = field.getElement();
+        return !element.getModifiers().contains(Modifier.STATIC)
+                && !element.getModifiers().contains(Modifier.TRANSIENT)
+                && Utils.getAnnotationDirectOn(element, TYPE_TRANSIENT) == null;
+    }
+
+    private boolean isPropertyAccess(TypeElement owner, List<? extends Element> members) {
+        AnnotationMirror access = Utils.getAnnotationDirectOn(owner, TYPE_ACCESS);
+        if (access != null) {
+            return "PROPERTY".equals(Utils.getEnumAnnotationValue(access, "value"));
+        }
+        // The default access type is decided by the placement of the id.
+        return ElementFilter.methodsIn(members)
+                .stream()
+                .anyMatch(method -> {
+                    for (String annotation : TYPE_IDS) {
+                        if (Utils.getAnnotationDirectOn(method, annotation) != null) {
+                            return true;
+                        }
+                    }
+                    return false;
+                });
+    }
+
+    private boolean hasAssociationAnnotation(Element element) {
+        for (String annotation : TYPE_ASSOCIATIONS) {
+            if (Utils.getAnnotationDirectOn(element, annotation) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the condition checked by the read methods before reading the property from the entity.
+     * Only the associations are checked, and only when {@code skipUnloaded} is enabled.
+     * @param property the property of the view
+     * @param source the expression of the entity
+     * @return the condition, or null if the property is always read
+     */
+    public String getReadCondition(Property property, String source) {
+        if (!enabled || !skipUnloaded) {
+            return null;
+        }
+        Property baseProperty = property.getBase();
+        if (baseProperty == null || !isAssociation(baseProperty)) {
+            return null;
+        }
+        return viewContext.getImportedName(TYPE_LOAD_STATES, SIMPLE_TYPE_LOAD_STATES) +
+                ".INSTANCE.isLoaded(" +
+                source +
+                ", \"" +
+                StringEscapeUtils.escapeJava(baseProperty.getName()) +
+                "\")";
+    }
+
     public String getPreventConflictArgVar() {
         return preventConflictArgVar;
     }
@@ -373,4 +562,40 @@ public class JpaContext {
         writer.println();
     }
 
+    /**
+     * Print the method creating the entity graph of the target entity, which contains exactly the attributes read by the view,
+     * including the ones read by the nested views as the sub-graphs.
+     * Use it as the fetch graph to load the whole view by one query.
+     * @param writer the writer
+     * @param indent the indent
+     * @param indentNum the indent num
+     */
+    public void printEntityGraphMethod(PrintWriter writer, String indent, int indentNum) {
+        if (graphData == null) {
+            return;
+        }
+        String graphType = viewContext.getImportedName(TYPE_ENTITY_GRAPH, SIMPLE_TYPE_ENTITY_GRAPH);
+        Utils.printIndent(writer, indent, indentNum);
+        writer.print("public static ");
+        writer.print(graphType);
+        writer.print("<");
+        viewContext.getTargetType().printType(writer, viewContext, true, false);
+        writer.print("> entityGraph(");
+        writer.print(viewContext.getImportedName(TYPE_ENTITY_MANAGER, SIMPLE_TYPE_ENTITY_MANAGER));
+        writer.println(" em) {");
+        Utils.printIndent(writer, indent, indentNum + 1);
+        writer.print(graphType);
+        writer.print("<");
+        viewContext.getTargetType().printType(writer, viewContext, true, false);
+        writer.print("> graph = em.createEntityGraph(");
+        viewContext.getTargetType().printType(writer, viewContext, false, false);
+        writer.println(".class);");
+        graphData.print(writer, viewContext, "graph", indent, indentNum + 1);
+        Utils.printIndent(writer, indent, indentNum + 1);
+        writer.println("return graph;");
+        Utils.printIndent(writer, indent, indentNum);
+        writer.println("}");
+        writer.println();
+    }
+
 }
@@ -1,5 +1,6 @@
 package io.github.vipcxj.beanknife.jpa;
 
+import io.github.vipcxj.beanknife.core.models.Property;
 import io.github.vipcxj.beanknife.core.models.ViewContext;
 import io.github.vipcxj.beanknife.core.spi.ViewCodeGenerator;
 
@@ -16,11 +17,19 @@ public class JpaViewCodeGenerator implements ViewCodeGenerator {
     public void print(PrintWriter writer, ViewContext context, String indent, int indentNum) {
         JpaContext jpaContext = context.getContext(JpaContext.class.getName());
         if (jpaContext.isEnabled()) {
+            jpaContext.printReflectConstructors(writer, indent, indentNum);
             jpaContext.printConstructor(writer, indent, indentNum);
             jpaContext.printSelectionMethod(writer, indent, indentNum);
+            jpaContext.printEntityGraphMethod(writer, indent, indentNum);
         }
     }
 
+    @Override
+    public String getReadCondition(ViewContext context, Property property, String source) {
+        JpaContext jpaContext = context.getContext(JpaContext.class.getName());
+        return jpaContext.getReadCondition(property, source);
+    }
+
 /*
     private void printParameterPrefix(PrintWriter writer, boolean breakLine, String indent, int indentNum) {
         printParameterPrefix(writer, breakLine, false, indent, indentNum);
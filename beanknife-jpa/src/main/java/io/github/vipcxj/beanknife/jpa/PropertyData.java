@@ -148,7 +148,7 @@ public class PropertyData {
                                 propertyData.constructNeedReflect = !propertyData.subContext.canSeeEmptyConstructor(jpaContext.getViewContext().getPackageName());
                             }
                             if (propertyData.constructNeedReflect) {
-                                jpaContext.importReflect();
+                                jpaContext.requireReflectConstructor(propertyData.target.getType(), propertyData);
                             }
                         }
                     }
@@ -167,7 +167,8 @@ public class PropertyData {
                 }
             } else {
                 propertyData.propertyType = PropertyType.EXTRA;
-                if (JpaContext.unSupportType(property.getType())) {
+                // The batch properties are extracted by the readers over many sources, which a single selected row can not provide.
+                if (JpaContext.unSupportType(property.getType()) || property.isBatchMethod()) {
                     propertyData.ignore = true;
                 }
                 if (!propertyData.ignore) {
@@ -198,7 +199,7 @@ public class PropertyData {
 
     public void markConstructNeedReflect() {
         this.constructNeedReflect = true;
-        this.jpaContext.importReflect();
+        this.jpaContext.requireReflectConstructor(target.getType(), this);
     }
 
     private ParamInfo normParamInfo(ParamInfo paramInfo) {
@@ -365,9 +366,8 @@ public class PropertyData {
         writer.print(")");
     }
 
-    private void printConvertedVar(PrintWriter writer, Type converter, String sourceVar) {
-        converter.startInvokeNew(writer, jpaContext.getViewContext());
-        converter.endInvokeNew(writer);
+    private void printConvertedVar(PrintWriter writer, String sourceVar) {
+        jpaContext.getViewContext().printConverterInstance(writer, target);
         writer.print(".convert(");
         writer.print(sourceVar);
         writer.print(")");
@@ -383,7 +383,7 @@ public class PropertyData {
             String sourceVar = getSourceVarInConstructor();
             Type converter = target.getConverter();
             if (converter != null && sourceVar != null) {
-                printConvertedVar(writer, converter, sourceVar);
+                printConvertedVar(writer, sourceVar);
             } else {
                 writer.print(sourceVar);
             }
@@ -444,58 +444,45 @@ public class PropertyData {
                     propertyData.prepareConstructor(writer, indent, indentNum);
                 }
                 String tempVar = varMapper.getVar(target, "viewVar", true);
-                jpaContext.startAssignVar(writer, target.getType(), tempVar, indent, indentNum);
+                int invokeIndentNum = indentNum;
+                if (constructNeedReflect) {
+                    invokeIndentNum = startReflectConstruct(writer, tempVar, indent, indentNum);
+                } else {
+                    jpaContext.startAssignVar(writer, target.getType(), tempVar, indent, indentNum);
+                    target.getType().startInvokeNew(writer, jpaContext.getViewContext());
+                }
                 if (useFieldsConstructor) {
                     boolean start = true;
                     boolean breakLine = subContext.getProperties().stream().filter(p -> !p.isDynamic()).count() > 5;
-                    if (constructNeedReflect) {
-                        writer.print(getReflectUtilsType());
-                        writer.println(".newInstance(");
-                        Utils.printIndent(writer, indent, indentNum + 1);
-                        writer.print(getReflectUtilsType());
-                        writer.print(".getConstructor(");
-                        for (Property property : subContext.getProperties()) {
-                            if (!property.isDynamic()) {
-                                start = Utils.appendMethodArg(writer, w -> {
-                                    property.getType().printType(w, jpaContext.getViewContext(), false, false);
-                                    w.print(".class");
-                                }, start, breakLine, indent, indentNum + 2);
-                            }
-                        }
-                        Utils.printIndent(writer, indent, indentNum + 1);
-                        writer.print(")");
-                        start = false;
-                        breakLine = true;
-                    } else {
-                        target.getType().startInvokeNew(writer, jpaContext.getViewContext());
-                    }
+                    int argIndentNum = invokeIndentNum;
                     int i = 0;
                     for (Property property : subContext.getProperties()) {
                         if (!property.isDynamic()) {
                             int pos = Helper.findViewPropertyData(viewPropertyData, property, i);
                             PropertyData propertyData = pos != -1 ? viewPropertyData.get(i++) : null;
                             start = Utils.appendMethodArg(writer, (w) -> {
+                                if (constructNeedReflect) {
+                                    // invokeExact requires the static argument types to match the handle exactly.
+                                    w.print("(");
+                                    property.getType().printType(w, jpaContext.getViewContext(), false, false);
+                                    w.print(") ");
+                                }
                                 if (propertyData != null) {
-                                    propertyData.printAssignmentInConstructor(w, indent, indentNum + 2);
+                                    propertyData.printAssignmentInConstructor(w, indent, argIndentNum + 2);
                                 } else {
                                     w.print("null");
                                 }
-                            }, start, breakLine, indent, indentNum + 1);
+                            }, start, breakLine, indent, argIndentNum + 1);
                         }
                     }
+                }
+                if (constructNeedReflect) {
+                    endReflectConstruct(writer, indent, indentNum);
+                } else {
                     target.getType().endInvokeNew(writer);
                     writer.println(";");
-                } else {
-                    if (constructNeedReflect) {
-                        writer.print(getReflectUtilsType());
-                        writer.print(".newInstance(");
-                        target.printType(writer, jpaContext.getViewContext(), false, false);
-                        writer.println(".class);");
-                    } else {
-                        target.getType().startInvokeNew(writer, jpaContext.getViewContext());
-                        target.getType().endInvokeNew(writer);
-                        writer.println(";");
-                    }
+                }
+                if (!useFieldsConstructor) {
                     int i = 0;
                     for (Property property : subContext.getProperties()) {
                         if (!property.isDynamic()) {
@@ -524,6 +511,81 @@ public class PropertyData {
         }
     }
 
+    /**
+     * Print the beginning of the reflective construction of the view, which is
+     * <pre>
+     * ViewType var;
+     * try {
+     *     var = (ViewType) handle.invokeExact(
+     * </pre>
+     * The arguments follow, then {@link #endReflectConstruct(PrintWriter, String, int)} closes the statement.
+     * @param writer the writer
+     * @param var the variable to assign
+     * @param indent the indent
+     * @param indentNum the indent number
+     * @return the indent number of the invocation
+     */
+    private int startReflectConstruct(PrintWriter writer, String var, String indent, int indentNum) {
+        Utils.printIndent(writer, indent, indentNum);
+        target.getType().printType(writer, jpaContext.getViewContext(), true, false);
+        writer.print(" ");
+        writer.print(var);
+        writer.println(";");
+        Utils.printIndent(writer, indent, indentNum);
+        writer.println("try {");
+        jpaContext.startAssignVar(writer, null, var, indent, indentNum + 1);
+        writer.print("(");
+        target.getType().printType(writer, jpaContext.getViewContext(), false, false);
+        writer.print(") ");
+        writer.print(jpaContext.getReflectConstructorVar(target.getType()));
+        writer.print(".invokeExact(");
+        return indentNum + 1;
+    }
+
+    private void endReflectConstruct(PrintWriter writer, String indent, int indentNum) {
+        writer.println(");");
+        Utils.printIndent(writer, indent, indentNum);
+        writer.println("} catch (Throwable throwable) {");
+        Utils.printIndent(writer, indent, indentNum + 1);
+        writer.print("throw ");
+        writer.print(getReflectUtilsType());
+        writer.println(".rethrow(throwable);");
+        Utils.printIndent(writer, indent, indentNum);
+        writer.println("}");
+    }
+
+    /**
+     * Print the expression looking up the constructor used to construct the view by reflection.
+     * @param writer the writer
+     * @param indent the indent
+     * @param indentNum the indent number
+     */
+    public void printReflectConstructorHandle(PrintWriter writer, String indent, int indentNum) {
+        assert constructNeedReflect;
+        writer.print(getReflectUtilsType());
+        writer.print(".getConstructorHandle(");
+        boolean breakLine = useFieldsConstructor && subContext.getProperties().stream().filter(p -> !p.isDynamic()).count() > 5;
+        boolean start = Utils.appendMethodArg(writer, w -> {
+            target.getType().printType(w, jpaContext.getViewContext(), false, false);
+            w.print(".class");
+        }, true, breakLine, indent, indentNum + 1);
+        if (useFieldsConstructor) {
+            for (Property property : subContext.getProperties()) {
+                if (!property.isDynamic()) {
+                    start = Utils.appendMethodArg(writer, w -> {
+                        property.getType().printType(w, jpaContext.getViewContext(), false, false);
+                        w.print(".class");
+                    }, start, breakLine, indent, indentNum + 1);
+                }
+            }
+        }
+        if (breakLine) {
+            writer.println();
+            Utils.printIndent(writer, indent, indentNum);
+        }
+        writer.print(")");
+    }
+
     public Property getTarget() {
         return target;
     }
@@ -4,81 +4,175 @@ import io.github.vipcxj.beanknife.runtime.providers.DefaultBeanProvider;
 import io.github.vipcxj.beanknife.runtime.spi.BeanProvider;
 import io.github.vipcxj.beanknife.runtime.utils.BeanUsage;
 
-import java.lang.ref.WeakReference;
+import java.lang.ref.SoftReference;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+/**
+ * The entry to get the beans from the registered {@link BeanProvider}s.
+ * The providers supporting a type and the cached instances are resolved once per type and usage.
+ * The cached instances are softly referenced, so they are kept across the calls,
+ * but never prevent the class loader of a redeployed application from being collected.
+ * Call {@link #invalidateAll()} when the providers change, for example when the application context is refreshed.
+ */
 public enum BeanProviders {
 
     INSTANCE;
 
     private final ServiceLoader<BeanProvider> loader;
-    private Map<String, WeakReference<?>> cacheMap;
+    private volatile Resolutions resolutions;
 
     BeanProviders() {
         loader = ServiceLoader.load(BeanProvider.class);
-        cacheMap = new ConcurrentHashMap<>();
+        resolutions = new Resolutions(loadProviders());
+    }
+
+    /**
+     * Load all the providers and sort them by priority. The provider with higher priority comes first.
+     * The sort is stable, so the providers with the same priority keep the order of the service loader.
+     */
+    private List<BeanProvider> loadProviders() {
+        List<BeanProvider> providers = new ArrayList<>();
+        for (BeanProvider provider : loader) {
+            providers.add(provider);
+        }
+        providers.sort(Comparator.comparingInt(BeanProvider::getPriority).reversed());
+        return providers;
     }
 
     public  <T> T get(Class<T> type, BeanUsage usage, Object requester, boolean useDefaultBeanProvider, boolean cache) {
-        String key = null;
+        TypeResolution resolution = resolutions.get(type);
         if (cache) {
-            key = type.getName() + "_" + usage.name();
-            WeakReference<?> reference = cacheMap.get(key);
-            if (reference != null) {
-                Object inst = reference.get();
-                if (inst != null) {
-                    //noinspection unchecked
-                    return (T) inst;
-                }
-                // Don't remove invalid reference here. it will be replaced next step. Remove it here may cause concurrent error.
+            T inst = resolution.getInstance(type, usage);
+            if (inst != null) {
+                return inst;
             }
         }
-        int priority = Integer.MIN_VALUE;
         T instance = null;
         List<Throwable> suppressed = new ArrayList<>();
         Throwable throwable = null;
-        for (BeanProvider provider : loader) {
-            if (support(provider, type, usage, useDefaultBeanProvider)) {
-                T inst;
-                try {
-                    inst = provider.get(type, usage, requester);
-                } catch (Throwable t) {
-                    inst = null;
-                    if (throwable != null) {
-                        suppressed.add(throwable);
-                    }
-                    throwable = t;
-                }
-                if (inst != null) {
-                    if (provider.getPriority() > priority) {
-                        priority = provider.getPriority();
-                        instance = inst;
-                    }
+        for (BeanProvider provider : resolution.getProviders(type, usage)) {
+            if (provider instanceof DefaultBeanProvider && !useDefaultBeanProvider) {
+                continue;
+            }
+            try {
+                instance = provider.get(type, usage, requester);
+            } catch (Throwable t) {
+                instance = null;
+                if (throwable != null) {
+                    suppressed.add(throwable);
                 }
+                throwable = t;
+            }
+            if (instance != null) {
+                break;
             }
         }
         if (instance == null) {
             RuntimeException e = new RuntimeException("Unable to initialize the class: " + type.getName() + " for " + usage + " usage.");
+            if (throwable != null) {
+                e.addSuppressed(throwable);
+            }
             for (Throwable t : suppressed) {
                 e.addSuppressed(t);
             }
             throw e;
         }
         if (cache) {
-            cacheMap.put(key, new WeakReference<>(instance));
+            return resolution.cacheInstance(type, usage, instance);
         }
         return instance;
     }
 
-    private <T> boolean support(BeanProvider provider, Class<T> type, BeanUsage usage, boolean useDefaultBeanProvider) {
+    /**
+     * Remove the cached instances and the resolved providers of the type.
+     * The next call of {@link #get(Class, BeanUsage, Object, boolean, boolean)} will resolve them again.
+     * @param type the bean type
+     */
+    public void invalidate(Class<?> type) {
+        resolutions.remove(type);
+    }
+
+    /**
+     * Remove all the cached instances, reload and resort the providers.
+     * Useful when the providers are changed at runtime, for example the application context is refreshed.
+     */
+    public synchronized void invalidateAll() {
+        loader.reload();
+        resolutions = new Resolutions(loadProviders());
+    }
+
+    private static boolean support(BeanProvider provider, Class<?> type, BeanUsage usage) {
         try {
-            if (provider instanceof DefaultBeanProvider && !useDefaultBeanProvider) {
-                return false;
-            }
             return provider.support(type, usage);
         } catch (Throwable t) {
             return false;
         }
     }
+
+    private static class Resolutions extends ClassValue<TypeResolution> {
+
+        private final List<BeanProvider> providers;
+
+        private Resolutions(List<BeanProvider> providers) {
+            this.providers = providers;
+        }
+
+        @Override
+        protected TypeResolution computeValue(Class<?> type) {
+            return new TypeResolution(providers);
+        }
+    }
+
+    private static class TypeResolution {
+
+        private static final BeanUsage[] USAGES = BeanUsage.values();
+        private final List<BeanProvider> allProviders;
+        private final AtomicReferenceArray<BeanProvider[]> providers;
+        private final AtomicReferenceArray<SoftReference<Object>> instances;
+
+        private TypeResolution(List<BeanProvider> allProviders) {
+            this.allProviders = allProviders;
+            this.providers = new AtomicReferenceArray<>(USAGES.length);
+            this.instances = new AtomicReferenceArray<>(USAGES.length);
+        }
+
+        private BeanProvider[] getProviders(Class<?> type, BeanUsage usage) {
+            BeanProvider[] supported = providers.get(usage.ordinal());
+            if (supported == null) {
+                List<BeanProvider> list = new ArrayList<>();
+                for (BeanProvider provider : allProviders) {
+                    if (support(provider, type, usage)) {
+                        list.add(provider);
+                    }
+                }
+                supported = list.toArray(new BeanProvider[0]);
+                providers.set(usage.ordinal(), supported);
+            }
+            return supported;
+        }
+
+        private <T> T getInstance(Class<T> type, BeanUsage usage) {
+            SoftReference<Object> reference = instances.get(usage.ordinal());
+            return reference != null ? type.cast(reference.get()) : null;
+        }
+
+        /**
+         * Cache the instance unless another thread has cached one concurrently, then all the callers share the first one.
+         * @return the cached instance
+         */
+        private <T> T cacheInstance(Class<T> type, BeanUsage usage, T instance) {
+            SoftReference<Object> newReference = new SoftReference<>(instance);
+            while (true) {
+                SoftReference<Object> reference = instances.get(usage.ordinal());
+                Object cached = reference != null ? reference.get() : null;
+                if (cached != null) {
+                    return type.cast(cached);
+                }
+                if (instances.compareAndSet(usage.ordinal(), reference, newReference)) {
+                    return instance;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package io.github.vipcxj.beanknife.runtime.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Used to add the new property to the generate class, whose values are extracted in batch.
+ * It should be put on the method of the configure class.
+ * The batch property method should look like this:<br/>
+ * <pre>
+ * public static Map&lt;SourceType, PropertyType&gt; methodName(List&lt;SourceType&gt; sources)
+ * </pre>
+ * It may be static or not, and may also accept the parameters annotated by {@link ExtraParam}.
+ * The collection readers and the lazy readers of the generated class call it once per batch of sources
+ * instead of once per source, then look up the property value of each source in the returned map.
+ * The single source read method and read constructor call it with a batch containing only the source.
+ * The sources passed to it are never null, and it is not called when all the sources are null.
+ * The property value of each source is got from the returned map by {@link java.util.Map#get(Object)},
+ * so the map should use the equality of the source type, usually the map returned is a {@link java.util.HashMap}
+ * and the source type implements {@link Object#equals(Object)} and {@link Object#hashCode()} consistently.
+ * The sources equal to each other then share the same property value.
+ * If the source type compares by identity, return a {@link java.util.IdentityHashMap} instead.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.CLASS)
+public @interface BatchViewProperty {
+    /**
+     * The property name.
+     * @return the property name.
+     */
+    String value();
+    /**
+     * The access type of the getter methods. By default, inherited from the {@link ViewOf} annotation.
+     * @return the access type of the getter methods
+     */
+    Access getter() default Access.UNKNOWN;
+    /**
+     * The access type of the setter methods. By default, inherited from the {@link ViewOf} annotation.
+     * @return the access type of the setter methods
+     */
+    Access setter() default Access.UNKNOWN;
+}
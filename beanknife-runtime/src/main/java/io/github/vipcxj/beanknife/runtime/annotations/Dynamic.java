@@ -1,5 +1,7 @@
 package io.github.vipcxj.beanknife.runtime.annotations;
 
+import io.github.vipcxj.beanknife.runtime.utils.DynamicCacheType;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -16,6 +18,14 @@ import java.lang.annotation.Target;
  * <pre/>
  */
 @Target(ElementType.METHOD)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface Dynamic {
+    /**
+     * How the property value is cached.
+     * When cached, the value is calculated on the first call of the getter and kept in a private field of the generated class.
+     * The cache is invalidated when the setter of any property injected to the method is called.
+     * If the method injects the whole object by {@link InjectSelf}, the cache is invalidated by any setter.
+     * @return the cache type. By default, {@link DynamicCacheType#NONE} is used, it means no cache.
+     */
+    DynamicCacheType cache() default DynamicCacheType.NONE;
 }
@@ -10,7 +10,7 @@ import java.lang.annotation.Target;
  * @see Dynamic
  */
 @Target(ElementType.PARAMETER)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface InjectProperty {
     String value() default "";
 }
@@ -16,6 +16,6 @@ import java.lang.annotation.Target;
  * @see OverrideViewProperty
  */
 @Target(ElementType.PARAMETER)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface InjectSelf {
 }
@@ -9,7 +9,7 @@ import java.lang.annotation.Target;
  * ready to use in next release.
  */
 @Target({ElementType.FIELD, ElementType.METHOD})
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface MapViewProperty {
     /**
      * The property name. Should be unique in the generated class.
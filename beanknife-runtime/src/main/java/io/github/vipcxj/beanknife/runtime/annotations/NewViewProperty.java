@@ -23,7 +23,7 @@ import java.lang.annotation.Target;
  *
  */
 @Target({ ElementType.FIELD, ElementType.METHOD })
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface NewViewProperty {
     /**
      * The property name.
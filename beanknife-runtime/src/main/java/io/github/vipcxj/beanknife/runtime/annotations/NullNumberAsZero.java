@@ -11,7 +11,7 @@ import java.lang.annotation.Target;
  * a built-in converter to convert short, long, integer, float, double, byte, BigInteger or BigDecimal value to zero when it is null.
  */
 @Target(ElementType.FIELD)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @UsePropertyConverter(NullBigDecimalAsZeroConverter.class)
 @UsePropertyConverter(NullBigIntegerAsZeroConverter.class)
 @UsePropertyConverter(NullByteAsZeroConverter.class)
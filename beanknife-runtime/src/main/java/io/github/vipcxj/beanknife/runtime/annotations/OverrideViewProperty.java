@@ -20,7 +20,7 @@ import java.lang.annotation.Target;
  * @see NewViewProperty
  */
 @Target({ElementType.FIELD, ElementType.METHOD})
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface OverrideViewProperty {
     /**
      * The original property name.
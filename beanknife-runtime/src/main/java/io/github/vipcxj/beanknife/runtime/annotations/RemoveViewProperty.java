@@ -3,7 +3,7 @@ package io.github.vipcxj.beanknife.runtime.annotations;
 import java.lang.annotation.*;
 
 @Target({ElementType.TYPE})
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Repeatable(RemoveViewProperties.class)
 @Inherited
 public @interface RemoveViewProperty {
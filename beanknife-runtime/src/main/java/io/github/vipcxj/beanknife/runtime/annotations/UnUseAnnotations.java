@@ -3,7 +3,7 @@ package io.github.vipcxj.beanknife.runtime.annotations;
 import java.lang.annotation.*;
 
 @Target({ElementType.TYPE, ElementType.METHOD})
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Inherited
 public @interface UnUseAnnotations {
     UnUseAnnotation[] value() default {};
@@ -6,7 +6,7 @@ import io.github.vipcxj.beanknife.runtime.utils.AnnotationSource;
 import java.lang.annotation.*;
 
 @Target({ElementType.TYPE, ElementType.FIELD, ElementType.METHOD})
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Repeatable(UseAnnotations.class)
 @Inherited
 public @interface UseAnnotation {
@@ -16,4 +16,12 @@ public @interface UsePropertyConverter {
      * @return the converter type.
      */
     Class<? extends PropertyConverter<?, ?>> value();
+
+    /**
+     * Whether the converter instance can be shared.
+     * A shared converter is created only once and stored in a static field of the generated view.
+     * Set it to false if the converter is stateful, then a new converter instance will be created on every conversion.
+     * @return whether the converter instance can be shared. Default true.
+     */
+    boolean shared() default true;
 }
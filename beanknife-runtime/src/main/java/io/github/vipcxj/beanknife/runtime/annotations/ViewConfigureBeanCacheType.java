@@ -5,7 +5,7 @@ import io.github.vipcxj.beanknife.runtime.utils.CacheType;
 import java.lang.annotation.*;
 
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Inherited
 public @interface ViewConfigureBeanCacheType {
     CacheType value();
@@ -9,7 +9,7 @@ import java.lang.annotation.*;
  * means the class Bean will generate class BeanDto, the class Apple will generate class AppleDto.
  */
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Inherited
 public @interface ViewGenNameMapper {
     String value();
@@ -10,7 +10,7 @@ import java.lang.annotation.*;
  * But if you want to change the simple name or package name of the generated class, this is your best choose.
  */
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Repeatable(ViewMetas.class)
 public @interface ViewMeta {
     /**
@@ -10,7 +10,7 @@ import java.lang.annotation.*;
  * Used to generate the DTO type.
  */
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Repeatable(ViewOfs.class)
 public @interface ViewOf {
     /**
@@ -128,6 +128,8 @@ public @interface ViewOf {
      * By default, {@link CacheType#LOCAL} is used. it means the configure bean instance is cached as a private field in the generated class.
      * {@link CacheType#NONE} means no cache, call {@link io.github.vipcxj.beanknife.runtime.spi.BeanProvider#get(Class, BeanUsage, Object)} every time.
      * {@link CacheType#GLOBAL} means cached only once in the whole application context.
+     * {@link CacheType#STATIC} means cached in a lazily initialized static holder of the generated class,
+     * so reading it costs only a static field access.
      * @return The cache type of the configure bean instance
      */
     CacheType configureBeanCacheType() default CacheType.LOCAL;
@@ -152,4 +154,41 @@ public @interface ViewOf {
      * @return The access level of the generated create-and-write-back method. By default, {@link Access#NONE} is used, it means no method is generated.
      */
     Access createAndWriteBackMethod() default Access.NONE;
+
+    /**
+     * Generate the <code>readParallel</code> methods for arrays, lists, sets and maps.
+     * They split the sources into chunks of {@link #parallelReadThreshold()} elements and convert them in parallel,
+     * either in the common fork/join pool or in the executor supplied by the caller.
+     * The order of arrays and lists is kept. Only valid when the collection read methods are generated,
+     * which means the view has no extra properties or extra params.
+     * You can also change the default behaviour by put the annotation {@link ViewParallelReader} on a base configuration class.
+     * @see #parallelReadThreshold()
+     * @return whether to generate the parallel read methods. By default false.
+     */
+    boolean parallelReader() default false;
+
+    /**
+     * The max number of elements converted by a single task in the <code>readParallel</code> methods.
+     * The sources not larger than it are converted on the caller's thread.
+     * Only valid when {@link #parallelReader()} is <code>true</code>.
+     * @see ViewParallelReadThreshold
+     * @return the max number of elements converted by a single task. By default 1000.
+     */
+    int parallelReadThreshold() default 1000;
+
+    /**
+     * Generate the read methods in graph mode.
+     * In graph mode, the read methods accept a {@link io.github.vipcxj.beanknife.runtime.utils.ViewReadContext},
+     * which reuses the view already built for the same source instance.
+     * So a source referenced several times is converted only once, and cyclic references are supported.
+     * The collection read methods share a single context among all the elements,
+     * and so do the <code>readIterable</code> and <code>readIterator</code> methods within one iteration.
+     * The context is not thread safe, so the <code>readStream</code> and <code>readParallel</code> methods
+     * convert each element with its own context, and the identity is only kept inside the graph of one element.
+     * When the view has batch properties, the lazy read methods share a context only inside one batch.
+     * The read constructor is not affected. Only valid when the view has no extra properties or extra params.
+     * You can also change the default behaviour by put the annotation {@link ViewGraphMode} on a base configuration class.
+     * @return whether to generate the read methods in graph mode. By default false.
+     */
+    boolean graphMode() default false;
 }
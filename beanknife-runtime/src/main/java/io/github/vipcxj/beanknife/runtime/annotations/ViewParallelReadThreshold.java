@@ -0,0 +1,10 @@
+package io.github.vipcxj.beanknife.runtime.annotations;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+@Inherited
+public @interface ViewParallelReadThreshold {
+    int value();
+}
@@ -8,7 +8,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 @Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @UsePropertyConverter(NullStringAsEmptyConverter.class)
 public @interface NullStringAsEmpty {
 }
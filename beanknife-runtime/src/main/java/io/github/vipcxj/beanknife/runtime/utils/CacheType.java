@@ -3,5 +3,11 @@ package io.github.vipcxj.beanknife.runtime.utils;
 public enum CacheType {
     NONE,
     LOCAL,
-    GLOBAL
+    GLOBAL,
+    /**
+     * Cached in a lazily initialized static holder class of the generated view.
+     * The configure bean is achieved only once when first used, then reading it is just a static field access.
+     * The instance is never refreshed, and if it fails to be initialized, the holder class is unusable from then on.
+     */
+    STATIC
 }
@@ -0,0 +1,24 @@
+package io.github.vipcxj.beanknife.runtime.utils;
+
+/**
+ * How the value of a dynamic property is cached in the generated class.
+ * @see io.github.vipcxj.beanknife.runtime.annotations.Dynamic#cache()
+ */
+public enum DynamicCacheType {
+    /**
+     * No cache. The dynamic method is invoked every time the getter is called.
+     */
+    NONE,
+    /**
+     * The value is calculated on the first call of the getter and kept in a private field.
+     * No synchronization is used, so the generated class should only be accessed by a single thread.
+     */
+    SINGLE_THREAD,
+    /**
+     * The value is calculated on the first call of the getter and kept in a private field.
+     * Double-checked locking on a volatile flag is used, so the value is calculated only once even if the getter is called concurrently.
+     * The setters of the properties it depends on invalidate the cache while holding the same lock,
+     * so a value calculated from an outdated property is never published after the invalidation.
+     */
+    THREAD_SAFE
+}
@@ -0,0 +1,103 @@
+package io.github.vipcxj.beanknife.runtime.utils;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Helpers used by the generated <code>readStream</code>, <code>readIterable</code> and <code>readIterator</code> methods.
+ * The sources are converted one by one while iterating, so nothing is buffered.
+ * When the view has batch properties, the sources are converted batch by batch instead,
+ * so only one batch is buffered, see {@link #batchIterator(Iterator, int, Function)}.
+ */
+public class LazyReaders {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    public static <S, T> Iterable<T> iterable(Iterable<S> sources, Function<? super S, ? extends T> reader) {
+        if (sources == null) {
+            return null;
+        }
+        return () -> iterator(sources.iterator(), reader);
+    }
+
+    public static <S, T> Iterator<T> iterator(Iterator<S> sources, Function<? super S, ? extends T> reader) {
+        if (sources == null) {
+            return null;
+        }
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return sources.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return reader.apply(sources.next());
+            }
+
+            @Override
+            public void remove() {
+                sources.remove();
+            }
+        };
+    }
+
+    public static <S, T> Stream<T> batchStream(Stream<S> sources, int batchSize, Function<List<S>, ? extends List<? extends T>> reader) {
+        if (sources == null) {
+            return null;
+        }
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(batchIterator(sources.iterator(), batchSize, reader), Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(sources::close);
+    }
+
+    public static <S, T> Iterable<T> batchIterable(Iterable<S> sources, int batchSize, Function<List<S>, ? extends List<? extends T>> reader) {
+        if (sources == null) {
+            return null;
+        }
+        return () -> batchIterator(sources.iterator(), batchSize, reader);
+    }
+
+    /**
+     * Convert the sources lazily, but batch by batch. A batch is read from the sources only when the previous one is consumed.
+     * @param sources the sources
+     * @param batchSize the max size of a batch
+     * @param reader the reader converting a batch of sources, which should return the results in the same order
+     * @param <S> the source type
+     * @param <T> the result type
+     * @return the iterator of the results
+     */
+    public static <S, T> Iterator<T> batchIterator(Iterator<S> sources, int batchSize, Function<List<S>, ? extends List<? extends T>> reader) {
+        if (sources == null) {
+            return null;
+        }
+        int size = Math.max(batchSize, 1);
+        return new Iterator<T>() {
+
+            private List<? extends T> results = Collections.emptyList();
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < results.size() || sources.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (index >= results.size()) {
+                    if (!sources.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    List<S> batch = new ArrayList<>(size);
+                    while (batch.size() < size && sources.hasNext()) {
+                        batch.add(sources.next());
+                    }
+                    results = reader.apply(batch);
+                    index = 0;
+                }
+                return results.get(index++);
+            }
+        };
+    }
+}
@@ -0,0 +1,259 @@
+package io.github.vipcxj.beanknife.runtime.utils;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Helpers used by the generated <code>readParallel</code> methods.
+ * The sources are split into chunks no larger than the threshold and converted in parallel,
+ * either by the common fork/join pool or by the executor supplied by the caller.
+ * The order of lists and arrays is always kept.
+ * The <code>InBatches</code> variants convert each chunk by one call of the batch reader instead of one call per source,
+ * they are used by the views having batch properties.
+ */
+public class ParallelReaders {
+
+    public static <S, T> List<T> readList(List<S> sources, Function<? super S, ? extends T> reader, int threshold) {
+        return readList(sources, reader, threshold, null);
+    }
+
+    public static <S, T> List<T> readList(List<S> sources, Function<? super S, ? extends T> reader, int threshold, Executor executor) {
+        if (sources == null) {
+            return null;
+        }
+        List<S> randomAccessSources = sources instanceof RandomAccess ? sources : new ArrayList<>(sources);
+        Object[] results = new Object[randomAccessSources.size()];
+        convert(randomAccessSources, results, elementReader(reader), threshold, executor);
+        return toList(results);
+    }
+
+    public static <S, T> T[] readArray(S[] sources, T[] results, Function<? super S, ? extends T> reader, int threshold) {
+        return readArray(sources, results, reader, threshold, null);
+    }
+
+    public static <S, T> T[] readArray(S[] sources, T[] results, Function<? super S, ? extends T> reader, int threshold, Executor executor) {
+        if (sources == null) {
+            return null;
+        }
+        if (results.length != sources.length) {
+            throw new IllegalArgumentException("The results array should have the same length as the sources array.");
+        }
+        convert(Arrays.asList(sources), results, elementReader(reader), threshold, executor);
+        return results;
+    }
+
+    public static <S, T> Set<T> readSet(Set<S> sources, Function<? super S, ? extends T> reader, int threshold) {
+        return readSet(sources, reader, threshold, null);
+    }
+
+    public static <S, T> Set<T> readSet(Set<S> sources, Function<? super S, ? extends T> reader, int threshold, Executor executor) {
+        if (sources == null) {
+            return null;
+        }
+        Object[] results = new Object[sources.size()];
+        convert(new ArrayList<>(sources), results, elementReader(reader), threshold, executor);
+        return toSet(results);
+    }
+
+    public static <K, S, T> Map<K, T> readMap(Map<K, S> sources, Function<? super S, ? extends T> reader, int threshold) {
+        return readMap(sources, reader, threshold, null);
+    }
+
+    public static <K, S, T> Map<K, T> readMap(Map<K, S> sources, Function<? super S, ? extends T> reader, int threshold, Executor executor) {
+        if (sources == null) {
+            return null;
+        }
+        List<K> keys = new ArrayList<>(sources.size());
+        List<S> values = new ArrayList<>(sources.size());
+        for (Map.Entry<K, S> entry : sources.entrySet()) {
+            keys.add(entry.getKey());
+            values.add(entry.getValue());
+        }
+        Object[] results = new Object[values.size()];
+        convert(values, results, elementReader(reader), threshold, executor);
+        Map<K, T> out = new HashMap<>(capacity(results.length));
+        for (int i = 0; i < results.length; ++i) {
+            out.put(keys.get(i), ParallelReaders.<T>cast(results[i]));
+        }
+        return out;
+    }
+
+    public static <S, T> List<T> readListInBatches(List<S> sources, Function<List<S>, ? extends List<? extends T>> reader, int threshold) {
+        return readListInBatches(sources, reader, threshold, null);
+    }
+
+    public static <S, T> List<T> readListInBatches(List<S> sources, Function<List<S>, ? extends List<? extends T>> reader, int threshold, Executor executor) {
+        if (sources == null) {
+            return null;
+        }
+        List<S> randomAccessSources = sources instanceof RandomAccess ? sources : new ArrayList<>(sources);
+        Object[] results = new Object[randomAccessSources.size()];
+        convert(randomAccessSources, results, batchReader(reader), threshold, executor);
+        return toList(results);
+    }
+
+    public static <S, T> T[] readArrayInBatches(S[] sources, T[] results, Function<List<S>, ? extends List<? extends T>> reader, int threshold) {
+        return readArrayInBatches(sources, results, reader, threshold, null);
+    }
+
+    public static <S, T> T[] readArrayInBatches(S[] sources, T[] results, Function<List<S>, ? extends List<? extends T>> reader, int threshold, Executor executor) {
+        if (sources == null) {
+            return null;
+        }
+        if (results.length != sources.length) {
+            throw new IllegalArgumentException("The results array should have the same length as the sources array.");
+        }
+        convert(Arrays.asList(sources), results, batchReader(reader), threshold, executor);
+        return results;
+    }
+
+    public static <S, T> Set<T> readSetInBatches(Set<S> sources, Function<List<S>, ? extends List<? extends T>> reader, int threshold) {
+        return readSetInBatches(sources, reader, threshold, null);
+    }
+
+    public static <S, T> Set<T> readSetInBatches(Set<S> sources, Function<List<S>, ? extends List<? extends T>> reader, int threshold, Executor executor) {
+        if (sources == null) {
+            return null;
+        }
+        Object[] results = new Object[sources.size()];
+        convert(new ArrayList<>(sources), results, batchReader(reader), threshold, executor);
+        return toSet(results);
+    }
+
+    public static <K, S, T> Map<K, T> readMapInBatches(Map<K, S> sources, Function<List<S>, ? extends List<? extends T>> reader, int threshold) {
+        return readMapInBatches(sources, reader, threshold, null);
+    }
+
+    public static <K, S, T> Map<K, T> readMapInBatches(Map<K, S> sources, Function<List<S>, ? extends List<? extends T>> reader, int threshold, Executor executor) {
+        if (sources == null) {
+            return null;
+        }
+        List<K> keys = new ArrayList<>(sources.size());
+        List<S> values = new ArrayList<>(sources.size());
+        for (Map.Entry<K, S> entry : sources.entrySet()) {
+            keys.add(entry.getKey());
+            values.add(entry.getValue());
+        }
+        Object[] results = new Object[values.size()];
+        convert(values, results, batchReader(reader), threshold, executor);
+        Map<K, T> out = new HashMap<>(capacity(results.length));
+        for (int i = 0; i < results.length; ++i) {
+            out.put(keys.get(i), ParallelReaders.<T>cast(results[i]));
+        }
+        return out;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object result) {
+        return (T) result;
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private static <T> List<T> toList(Object[] results) {
+        List<T> out = new ArrayList<>(results.length);
+        for (Object result : results) {
+            out.add(ParallelReaders.<T>cast(result));
+        }
+        return out;
+    }
+
+    private static <T> Set<T> toSet(Object[] results) {
+        Set<T> out = new HashSet<>(capacity(results.length));
+        for (Object result : results) {
+            out.add(ParallelReaders.<T>cast(result));
+        }
+        return out;
+    }
+
+    private static <S> RangeReader<S> elementReader(Function<? super S, ?> reader) {
+        return (sources, results, from, to) -> {
+            for (int i = from; i < to; ++i) {
+                results[i] = reader.apply(sources.get(i));
+            }
+        };
+    }
+
+    private static <S> RangeReader<S> batchReader(Function<List<S>, ? extends List<?>> reader) {
+        return (sources, results, from, to) -> {
+            List<?> out = reader.apply(sources.subList(from, to));
+            for (int i = from; i < to; ++i) {
+                results[i] = out.get(i - from);
+            }
+        };
+    }
+
+    private static <S> void convert(List<S> sources, Object[] results, RangeReader<S> reader, int threshold, Executor executor) {
+        int chunkSize = Math.max(threshold, 1);
+        if (sources.size() <= chunkSize) {
+            reader.read(sources, results, 0, sources.size());
+        } else if (executor != null) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>((sources.size() + chunkSize - 1) / chunkSize);
+            for (int from = 0; from < sources.size(); from += chunkSize) {
+                int start = from;
+                int end = Math.min(from + chunkSize, sources.size());
+                futures.add(CompletableFuture.runAsync(() -> reader.read(sources, results, start, end), executor));
+            }
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        } else {
+            ForkJoinPool.commonPool().invoke(new ReadTask<>(sources, results, reader, chunkSize, 0, sources.size()));
+        }
+    }
+
+    /**
+     * Convert the sources in the range [from, to) and put the results at the same indexes.
+     */
+    private interface RangeReader<S> {
+        void read(List<S> sources, Object[] results, int from, int to);
+    }
+
+    private static class ReadTask<S> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final List<S> sources;
+        private final Object[] results;
+        private final RangeReader<S> reader;
+        private final int threshold;
+        private final int from;
+        private final int to;
+
+        private ReadTask(List<S> sources, Object[] results, RangeReader<S> reader, int threshold, int from, int to) {
+            this.sources = sources;
+            this.results = results;
+            this.reader = reader;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                reader.read(sources, results, from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new ReadTask<>(sources, results, reader, threshold, from, middle),
+                        new ReadTask<>(sources, results, reader, threshold, middle, to)
+                );
+            }
+        }
+    }
+}
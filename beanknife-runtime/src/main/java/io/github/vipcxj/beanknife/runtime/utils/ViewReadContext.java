@@ -0,0 +1,45 @@
+package io.github.vipcxj.beanknife.runtime.utils;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The conversion context used by the read methods of the views generated in graph mode.
+ * It remembers the view built for each source instance, keyed by identity,
+ * so a source referenced several times is converted only once and cyclic references terminate.
+ * It is not thread safe, use one context per conversion.
+ * @see io.github.vipcxj.beanknife.runtime.annotations.ViewOf#graphMode()
+ */
+public class ViewReadContext {
+
+    private final Map<Class<?>, Map<Object, Object>> views = new HashMap<>();
+
+    /**
+     * Get the view of the given type already built for the source.
+     * @param viewType the view type
+     * @param source the source instance
+     * @param <T> the view type
+     * @return the view already built, or null if the source has not been converted to this view type yet.
+     */
+    public <T> T get(Class<?> viewType, Object source) {
+        Map<Object, Object> viewsOfType = views.get(viewType);
+        if (viewsOfType == null) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        T view = (T) viewsOfType.get(source);
+        return view;
+    }
+
+    /**
+     * Remember the view built for the source.
+     * It should be called before the properties of the view are converted, so the cyclic references can be resolved.
+     * @param viewType the view type
+     * @param source the source instance
+     * @param view the view built for the source
+     */
+    public void put(Class<?> viewType, Object source, Object view) {
+        views.computeIfAbsent(viewType, k -> new IdentityHashMap<>()).put(source, view);
+    }
+}